@@ -15,6 +15,9 @@ public class RouteValidator {
                         "/api/auth/verify",
                         "/api/events/published",
                         "/api/events/search",
+                        "/api/events/suggest",
+                        "/api/events/trending",
+                        "/availability/stream",
                         "/eureka",
                         "/swagger-ui",
                         "/swagger-ui.html",
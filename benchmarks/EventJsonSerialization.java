@@ -0,0 +1,170 @@
+// ====================================
+// Benchmark: pre-serialized JSON bytes (EventJsonCache) vs Jackson per request
+// ====================================
+// Compares, for GET /api/events/{id} (one event) and page 0 of /api/events/published
+// (20 events), what the controller does per request on a cache hit -- look up the
+// cached bytes and copy them to the response buffer -- with serializing the
+// ApiSuccessResponse envelope with the service's ObjectMapper setup (JacksonConfig).
+// Reports time and heap allocated per request on one thread.
+//
+// Single-file program, no build needed; only Jackson is on the classpath:
+//   cd eventservice && ./mvnw -q dependency:build-classpath -Dmdep.outputFile=/tmp/event-cp.txt && cd ..
+//   java -cp "$(cat /tmp/event-cp.txt)" benchmarks/EventJsonSerialization.java
+//
+// Sample run (1 vCPU container, JDK 17.0.9, Jackson 2.16.1; the service runs JDK 21, Jackson 2.19):
+//   case                     body (B)        ns/op alloc (B/op)
+//   event / jackson               848         6364         3278
+//   event / pre-serialized        848           91           24
+//   page / jackson              14952       109288        39902
+//   page / pre-serialized       14952          267           24
+// A cache hit skips ~6 us and ~3 KB of garbage per event view, ~110 us and ~40 KB per
+// landing page; the Caffeine lookup in the service costs a little more than the map here.
+//
+// The records below mirror the JSON shape of EventResponse, PagedResponse and
+// ApiSuccessResponse so the program runs without the service's other dependencies;
+// keep them in step when those change.
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class EventJsonSerialization {
+
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 5;
+  private static final long ROUND_NANOS = 1_000_000_000L;
+  private static final int PAGE_SIZE = 20;
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  // Keeps the JIT from discarding the work
+  private static volatile long sink;
+
+  // Stands in for the container's response buffer, which is reused across requests
+  private static final ByteArrayOutputStream RESPONSE = new ByteArrayOutputStream(64 * 1024);
+
+  public static void main(String[] args) throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.registerModule(new JavaTimeModule());
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    EventResponse event = event(0);
+    List<EventResponse> events = new ArrayList<>();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      events.add(event(i));
+    }
+    PagedResponse<EventResponse> page = new PagedResponse<>(events, 0, PAGE_SIZE, 1_000, 50, true, false, false);
+
+    // Cache hit: a map lookup plus writing the stored bytes out
+    Map<UUID, byte[]> eventCache = new ConcurrentHashMap<>();
+    eventCache.put(event.id(), mapper.writeValueAsBytes(ApiSuccessResponse.of(event)));
+    Map<Integer, byte[]> pageCache = new ConcurrentHashMap<>();
+    pageCache.put(PAGE_SIZE, mapper.writeValueAsBytes(ApiSuccessResponse.of(page)));
+
+    System.out.printf("JDK %s, Jackson %s%n", Runtime.version(), mapper.version());
+    System.out.printf("%-22s %10s %12s %12s%n", "case", "body (B)", "ns/op", "alloc (B/op)");
+    run("event / jackson", eventCache.get(event.id()).length, () -> write(out -> mapper.writeValue(out, ApiSuccessResponse.of(event))));
+    run("event / pre-serialized", eventCache.get(event.id()).length, () -> write(out -> out.write(eventCache.get(event.id()))));
+    run("page / jackson", pageCache.get(PAGE_SIZE).length, () -> write(out -> mapper.writeValue(out, ApiSuccessResponse.of(page))));
+    run("page / pre-serialized", pageCache.get(PAGE_SIZE).length, () -> write(out -> out.write(pageCache.get(PAGE_SIZE))));
+  }
+
+  // One request: the body written to the response buffer
+  private static long write(BodyWriter writer) {
+    ByteArrayOutputStream out = RESPONSE;
+    out.reset();
+    try {
+      writer.write(out);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    return out.size();
+  }
+
+  private static void run(String name, int bodyBytes, Supplier<Long> request) {
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      round(request);
+    }
+
+    double nanos = 0;
+    double bytes = 0;
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      double[] result = round(request);
+      nanos += result[0];
+      bytes += result[1];
+    }
+    System.out.printf("%-22s %10d %12.0f %12.0f%n", name, bodyBytes, nanos / MEASURED_ROUNDS, bytes / MEASURED_ROUNDS);
+  }
+
+  // Runs requests for about ROUND_NANOS; returns ns and allocated bytes per request
+  private static double[] round(Supplier<Long> request) {
+    long thread = Thread.currentThread().getId();
+    long allocatedBefore = THREADS.getThreadAllocatedBytes(thread);
+    long started = System.nanoTime();
+    long operations = 0;
+    long elapsed;
+    do {
+      for (int i = 0; i < 1_000; i++) {
+        sink += request.get();
+      }
+      operations += 1_000;
+      elapsed = System.nanoTime() - started;
+    } while (elapsed < ROUND_NANOS);
+    long allocated = THREADS.getThreadAllocatedBytes(thread) - allocatedBefore;
+    return new double[] { (double) elapsed / operations, (double) allocated / operations };
+  }
+
+  private static EventResponse event(int i) {
+    LocalDateTime start = LocalDateTime.of(2025, 4, 20, 10, 0).plusDays(i);
+    return new EventResponse(UUID.randomUUID(), "Lagos Tech Conference " + (2025 + i),
+        "A full day of talks and workshops on building software in Africa, with networking in the evening.",
+        "TECH", "https://example.com/banners/tech-conference.jpg", start, start.plusHours(6),
+        "Landmark Centre", "Plot 2 & 3, Water Corporation Drive, Victoria Island", "Lagos", 6.4281, 3.4219,
+        300, 150, false, new BigDecimal("15000.00"), null, null, null, 4, null, null, "PUBLISHED",
+        UUID.randomUUID(), start.minusDays(30), start.minusDays(2), null);
+  }
+
+  @FunctionalInterface
+  private interface BodyWriter {
+    void write(ByteArrayOutputStream out) throws Exception;
+  }
+
+  record EventResponse(UUID id, String title, String description, String category, String imageUrl,
+      LocalDateTime startDateTime, LocalDateTime endDateTime, String venue, String address, String city,
+      Double latitude, Double longitude, Integer capacity, Integer availableTickets, Boolean reservedSeating,
+      BigDecimal price,
+      @JsonInclude(JsonInclude.Include.NON_NULL) Boolean dynamicPricing,
+      @JsonInclude(JsonInclude.Include.NON_NULL) BigDecimal fromPrice,
+      @JsonInclude(JsonInclude.Include.NON_NULL) List<Object> tiers,
+      @JsonInclude(JsonInclude.Include.NON_NULL) Integer maxTicketsPerUser,
+      @JsonInclude(JsonInclude.Include.NON_NULL) UUID seriesId,
+      @JsonInclude(JsonInclude.Include.NON_NULL) Integer occurrenceIndex,
+      String status, UUID organizerId, LocalDateTime createdAt, LocalDateTime updatedAt,
+      @JsonInclude(JsonInclude.Include.NON_NULL) Double distanceKm) {
+  }
+
+  record PagedResponse<T>(List<T> content, int pageNumber, int pageSize, long totalElements, int totalPages,
+      boolean first, boolean last, boolean empty) {
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  record ApiSuccessResponse<T>(boolean success, String message, LocalDateTime timestamp, T data) {
+
+    static <T> ApiSuccessResponse<T> of(T data) {
+      return new ApiSuccessResponse<>(true, "Operation completed successfully", LocalDateTime.now(), data);
+    }
+  }
+}
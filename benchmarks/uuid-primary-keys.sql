@@ -0,0 +1,86 @@
+-- ====================================
+-- Benchmark: random (v4) vs time-ordered (v7) UUID primary keys
+-- ====================================
+-- Inserts the same number of rows into two tables shaped like "bookings",
+-- committing every :batch rows like the services do, and reports insert
+-- time, WAL written, primary key size and leaf page density for each.
+--
+-- Run against the docker-compose database:
+--   docker compose exec -T postgres psql -U root -d event_db -v rows=2000000 -v batch=100 < benchmarks/uuid-primary-keys.sql
+--
+-- The difference grows once the v4 index no longer fits in shared_buffers
+-- (128MB by default, roughly 4M rows); raise rows to see it.
+
+\set ON_ERROR_STOP on
+\if :{?rows} \else \set rows 2000000 \endif
+\if :{?batch} \else \set batch 100 \endif
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+-- Same layout as UuidV7Generator: 48-bit Unix millis, version 7, random rest
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+  SELECT encode(
+      set_bit(set_bit(
+          overlay(uuid_send(gen_random_uuid())
+              PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+              FROM 1 FOR 6),
+          52, 1), 53, 1),
+      'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_uuid_v4, bench_uuid_v7;
+CREATE TABLE bench_uuid_v4 (
+  id uuid PRIMARY KEY,
+  user_id uuid NOT NULL,
+  event_id uuid NOT NULL,
+  number_of_tickets int NOT NULL,
+  created_at timestamp NOT NULL
+);
+CREATE TABLE bench_uuid_v7 (LIKE bench_uuid_v4 INCLUDING ALL);
+
+CREATE TABLE IF NOT EXISTS bench_uuid_results (
+  key_type text PRIMARY KEY,
+  seconds numeric,
+  wal_bytes numeric
+);
+TRUNCATE bench_uuid_results;
+
+CREATE OR REPLACE PROCEDURE bench_uuid_insert(key_type text, total int, batch int) AS $$
+DECLARE
+  started timestamptz := clock_timestamp();
+  wal_start pg_lsn := pg_current_wal_insert_lsn();
+BEGIN
+  FOR i IN 1..ceil(total::numeric / batch) LOOP
+    EXECUTE format(
+        'INSERT INTO bench_uuid_%s SELECT %s, gen_random_uuid(), gen_random_uuid(), 1, now() FROM generate_series(1, $1)',
+        key_type, CASE key_type WHEN 'v7' THEN 'bench_uuid_v7()' ELSE 'gen_random_uuid()' END)
+      USING batch;
+    COMMIT;
+  END LOOP;
+
+  INSERT INTO bench_uuid_results VALUES (
+      key_type,
+      round(extract(epoch FROM clock_timestamp() - started)::numeric, 2),
+      pg_wal_lsn_diff(pg_current_wal_insert_lsn(), wal_start));
+  COMMIT;
+END;
+$$ LANGUAGE plpgsql;
+
+CALL bench_uuid_insert('v4', :rows, :batch);
+CALL bench_uuid_insert('v7', :rows, :batch);
+
+SELECT r.key_type,
+       :rows AS rows,
+       r.seconds,
+       round(:rows / r.seconds) AS rows_per_second,
+       pg_size_pretty(r.wal_bytes) AS wal_written,
+       pg_size_pretty(pg_relation_size(format('bench_uuid_%s_pkey', r.key_type)::regclass)) AS pk_size,
+       s.avg_leaf_density AS pk_leaf_density_pct,
+       s.leaf_fragmentation AS pk_leaf_fragmentation_pct
+  FROM bench_uuid_results r
+  CROSS JOIN LATERAL pgstatindex(format('bench_uuid_%s_pkey', r.key_type)::regclass) s
+ ORDER BY r.key_type;
+
+DROP PROCEDURE bench_uuid_insert;
+DROP FUNCTION bench_uuid_v7;
+DROP TABLE bench_uuid_v4, bench_uuid_v7, bench_uuid_results;
@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients // ✅ NEW: Enables OpenFeign clients
 @EnableJpaAuditing // ✅ NEW: Enables @CreatedDate, @LastModifiedDate
+@EnableScheduling
 public class BookingserviceApplication {
 
 	public static void main(String[] args) {
@@ -1,25 +1,42 @@
 package com.senibo.bookingservice.client;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import com.senibo.bookingservice.config.EventClientConfig;
 import com.senibo.bookingservice.dto.ApiSuccessResponse;
 import com.senibo.bookingservice.dto.clientDTOs.EventResponse;
+import com.senibo.bookingservice.dto.clientDTOs.SeatReleaseRequest;
+import com.senibo.bookingservice.dto.clientDTOs.SeatReservationRequest;
 import com.senibo.bookingservice.dto.clientDTOs.UpdateTicketsRequest;
 
-@FeignClient(name = "event-service", url = "${event.service.url}")
+@FeignClient(
+  name = "event-service",
+  url = "${event.service.url}",
+  configuration = EventClientConfig.class // 304 -> NotModifiedException
+)
 public interface EventServiceClient {
 
   // Method 1: Get event details (no JWT needed - public endpoint)
   @GetMapping("/api/events/{eventId}")
   ApiSuccessResponse<EventResponse> getEvent(@PathVariable UUID eventId);
 
+  // Conditional variant: throws NotModifiedException when the ETag still matches
+  @GetMapping("/api/events/{eventId}")
+  ResponseEntity<ApiSuccessResponse<EventResponse>> getEventIfChanged(
+      @PathVariable UUID eventId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
   // Method 2: Update tickets (JWT required)
   // ✅ Change 1: Remove @RequestHeader("Authorization")
   // ✅ Change 2: Add @RequestHeader("x-internal-secret")
@@ -29,4 +46,17 @@ public interface EventServiceClient {
       @RequestBody UpdateTicketsRequest request,
       @RequestHeader("x-internal-secret") String internalSecret);
 
+  // Reserved seating: assigns the seats and takes them off the available tickets in one call
+  @PostMapping("/api/events/{eventId}/seats/reserve")
+  ApiSuccessResponse<List<String>> reserveSeats(
+      @PathVariable UUID eventId,
+      @RequestBody SeatReservationRequest request,
+      @RequestHeader("x-internal-secret") String internalSecret);
+
+  @PostMapping("/api/events/{eventId}/seats/release")
+  ApiSuccessResponse<String> releaseSeats(
+      @PathVariable UUID eventId,
+      @RequestBody SeatReleaseRequest request,
+      @RequestHeader("x-internal-secret") String internalSecret);
+
 }
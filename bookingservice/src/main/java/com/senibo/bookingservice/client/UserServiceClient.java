@@ -1,13 +1,18 @@
 package com.senibo.bookingservice.client;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import com.senibo.bookingservice.config.FeignConfig;
 import com.senibo.bookingservice.dto.ApiSuccessResponse;
+import com.senibo.bookingservice.dto.clientDTOs.UserBatchRequest;
 import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
 
 @FeignClient(
@@ -20,4 +25,10 @@ public interface UserServiceClient {
   @GetMapping("/api/auth/{userId}")
   ApiSuccessResponse<UserResponse> getUserById(@PathVariable UUID userId);
 
+  // Up to 500 users per call; unknown IDs are left out of the result
+  @PostMapping("/api/auth/batch")
+  ApiSuccessResponse<List<UserResponse>> getUsersByIds(
+      @RequestBody UserBatchRequest request,
+      @RequestHeader("x-internal-secret") String internalSecret);
+
 }
@@ -0,0 +1,28 @@
+package com.senibo.bookingservice.config;
+
+import org.springframework.context.annotation.Bean;
+
+import com.senibo.bookingservice.exception.NotModifiedException;
+
+import feign.codec.ErrorDecoder;
+
+/**
+ * Feign configuration for the Event Service client only.
+ * Not annotated with @Configuration on purpose, so the decoder below does not
+ * leak into the other Feign clients.
+ */
+public class EventClientConfig {
+
+    @Bean
+    public ErrorDecoder eventClientErrorDecoder() {
+        ErrorDecoder defaultDecoder = new ErrorDecoder.Default();
+
+        return (methodKey, response) -> {
+            // Feign treats anything outside 2xx as an error, including 304
+            if (response.status() == 304) {
+                return new NotModifiedException("Event not modified");
+            }
+            return defaultDecoder.decode(methodKey, response);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.senibo.bookingservice.consumer;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.senibo.bookingservice.dto.kafka.BookingCancelledEvent;
+import com.senibo.bookingservice.dto.kafka.BookingConfirmedEvent;
+import com.senibo.bookingservice.service.KafkaProducerService;
+import com.senibo.bookingservice.service.SalesStatsService;
+import com.senibo.bookingservice.service.SalesStatsService.SalesChange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feeds the sales dashboard from our own booking events.
+ * All replicas share one consumer group, and each poll is written as one batch
+ * before its offsets are committed; reschedule notices don't change sales.
+ * Started by SalesStatsService once its one-off seed has run.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookingSalesConsumer {
+
+  public static final String LISTENER_ID = "booking-sales-stats";
+
+  private final SalesStatsService salesStatsService;
+
+  @KafkaListener(id = LISTENER_ID, topics = KafkaProducerService.BOOKING_EVENTS_TOPIC,
+      groupId = "bookingservice-sales-stats", batch = "true", autoStartup = "false")
+  public void handleBookingEvents(List<ConsumerRecord<String, Object>> records) {
+    List<SalesChange> changes = new ArrayList<>(records.size());
+    for (ConsumerRecord<String, Object> record : records) {
+      LocalDateTime at = LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault());
+      if (record.value() instanceof BookingConfirmedEvent event && event.eventId() != null) {
+        changes.add(new SalesChange(event.bookingId(), event.eventId(), true, event.numberOfTickets(),
+            event.totalPrice(), at));
+      } else if (record.value() instanceof BookingCancelledEvent event && event.eventId() != null) {
+        changes.add(new SalesChange(event.bookingId(), event.eventId(), false, event.numberOfTickets(),
+            event.totalPrice(), at));
+      }
+    }
+
+    salesStatsService.apply(changes);
+    log.trace("{} of {} booking events counted for sales stats", changes.size(), records.size());
+  }
+}
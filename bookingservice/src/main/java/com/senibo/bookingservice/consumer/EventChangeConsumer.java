@@ -0,0 +1,29 @@
+package com.senibo.bookingservice.consumer;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.senibo.bookingservice.dto.kafka.EventChangedEvent;
+import com.senibo.bookingservice.service.EventChangeFanOutService;
+import com.senibo.bookingservice.service.KafkaProducerService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies event cancellations and reschedules to the event's bookings.
+ * All replicas share one consumer group, so each change is fanned out once.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EventChangeConsumer {
+
+  private final EventChangeFanOutService eventChangeFanOutService;
+
+  @KafkaListener(topics = KafkaProducerService.EVENT_CHANGES_TOPIC, groupId = "bookingservice-event-changes")
+  public void handleEventChanged(EventChangedEvent event) {
+    log.info("Received {} for event {}", event.changeType(), event.eventId());
+    eventChangeFanOutService.handle(event);
+  }
+}
@@ -1,8 +1,14 @@
 package com.senibo.bookingservice.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,15 +20,40 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.senibo.bookingservice.dto.ApiSuccessResponse;
 import com.senibo.bookingservice.dto.BookingResponse;
+import com.senibo.bookingservice.dto.CheckInRequest;
+import com.senibo.bookingservice.dto.CheckInResponse;
 import com.senibo.bookingservice.dto.CreateBookingRequest;
+import com.senibo.bookingservice.dto.CreateLotteryRequest;
+import com.senibo.bookingservice.dto.CreatePromoCodeRequest;
+import com.senibo.bookingservice.dto.EnterLotteryRequest;
+import com.senibo.bookingservice.dto.EventSalesResponse;
+import com.senibo.bookingservice.dto.JoinWaitlistRequest;
+import com.senibo.bookingservice.dto.LotteryEntryResponse;
+import com.senibo.bookingservice.dto.LotteryResponse;
 import com.senibo.bookingservice.dto.PagedResponse;
+import com.senibo.bookingservice.dto.PromoCodeResponse;
+import com.senibo.bookingservice.dto.TicketResponse;
+import com.senibo.bookingservice.dto.WaitlistResponse;
+import com.senibo.bookingservice.enums.AttendeeExportFormat;
 import com.senibo.bookingservice.exception.UnauthorizedException;
+import com.senibo.bookingservice.service.AttendeeExportService;
 import com.senibo.bookingservice.service.BookingService;
+import com.senibo.bookingservice.service.BookingVelocityLimiter;
+import com.senibo.bookingservice.service.CheckInService;
+import com.senibo.bookingservice.service.EventLookupService;
+import com.senibo.bookingservice.service.LotteryService;
+import com.senibo.bookingservice.service.PromoCodeService;
+import com.senibo.bookingservice.service.SalesStatsService;
+import com.senibo.bookingservice.service.TicketService;
+import com.senibo.bookingservice.service.WaitlistService;
 
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -31,6 +62,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BookingController {
   private final BookingService bookingService;
+  private final AttendeeExportService attendeeExportService;
+  private final EventLookupService eventLookupService;
+  private final SalesStatsService salesStatsService;
+  private final WaitlistService waitlistService;
+  private final PromoCodeService promoCodeService;
+  private final TicketService ticketService;
+  private final CheckInService checkInService;
+  private final LotteryService lotteryService;
+  private final BookingVelocityLimiter bookingVelocityLimiter;
 
   // ==================== HELPER METHOD ====================
 
@@ -54,16 +94,32 @@ public class BookingController {
     }
   }
 
+  /**
+   * Client address as seen by the gateway, or the direct peer when the request
+   * didn't come through it. The gateway appends the peer it accepted the connection
+   * from to X-Forwarded-For, so only the last hop is trusted; earlier entries are
+   * whatever the client sent and could be rotated to dodge the per-IP limit.
+   */
+  private String getClientIp(HttpServletRequest httpRequest) {
+    String forwardedFor = httpRequest.getHeader("X-Forwarded-For");
+    if (forwardedFor != null && !forwardedFor.isBlank()) {
+      return forwardedFor.substring(forwardedFor.lastIndexOf(',') + 1).trim();
+    }
+    return httpRequest.getRemoteAddr();
+  }
+
   // ==================== ENDPOINTS ====================
 
   // ✅ Using the helper in endpoints
   @PostMapping
   @ResponseStatus(HttpStatus.CREATED)
   public ApiSuccessResponse<BookingResponse> createBooking(
-      @Valid @RequestBody CreateBookingRequest request
+      @Valid @RequestBody CreateBookingRequest request,
+      HttpServletRequest httpRequest
       ) {
 
     UUID userId = getAuthenticatedUserId(); // ← Easy!
+    bookingVelocityLimiter.check(userId, getClientIp(httpRequest)); // before any call to the event service
 
     BookingResponse booking = bookingService.createBooking(request, userId);
 
@@ -92,6 +148,201 @@ public class BookingController {
     return ApiSuccessResponse.of(booking, "Your booking retrieved successfully");
   }
 
+  @GetMapping("/{bookingId}/tickets")
+  @Operation(summary = "Get tickets", description = "Signed ticket tokens of a confirmed booking, one per ticket, for QR codes (JWT required)")
+  public ApiSuccessResponse<List<TicketResponse>> getTickets(
+      @Parameter(description = "Booking ID", required = true) @PathVariable UUID bookingId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    List<TicketResponse> tickets = ticketService.getTickets(bookingId, userId);
+
+    return ApiSuccessResponse.of(tickets, "Your tickets retrieved successfully");
+  }
+
+  @PostMapping("/events/{eventId}/check-ins")
+  @Operation(summary = "Check in tickets", description = "Admit scanned tickets at the door; duplicates and cancelled tickets are refused (event organizer only)")
+  public ApiSuccessResponse<List<CheckInResponse>> checkIn(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody CheckInRequest request) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    List<CheckInResponse> results = checkInService.checkIn(eventId, request.tokens(), request.gate());
+
+    return ApiSuccessResponse.of(results, "Tickets scanned");
+  }
+
+  @GetMapping("/events/{eventId}/attendees")
+  @Operation(summary = "Export attendees", description = "Stream the confirmed attendees of an event as CSV or NDJSON (event organizer only)")
+  public ResponseEntity<StreamingResponseBody> exportAttendees(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Parameter(description = "Output format (csv or ndjson)") @RequestParam(defaultValue = "csv") String format) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    AttendeeExportFormat exportFormat = AttendeeExportFormat.valueOf(format.toUpperCase());
+    eventLookupService.verifyOrganizer(eventId, userId);
+
+    StreamingResponseBody body = out -> attendeeExportService.exportAttendees(eventId, exportFormat, out);
+
+    boolean csv = exportFormat == AttendeeExportFormat.CSV;
+    String filename = "attendees-" + eventId + (csv ? ".csv" : ".ndjson");
+
+    return ResponseEntity.ok()
+        .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
+  @GetMapping("/events/{eventId}/sales")
+  @Operation(summary = "Sales dashboard", description = "Live tickets sold, revenue, cancellations and bookings per minute of an event (event organizer only)")
+  public ApiSuccessResponse<EventSalesResponse> getEventSales(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    EventSalesResponse sales = salesStatsService.getSales(eventId);
+
+    return ApiSuccessResponse.of(sales, "Event sales retrieved successfully");
+  }
+
+  @PostMapping("/events/{eventId}/promo-codes")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Create promo code", description = "Create a discount code with a usage cap for an event (event organizer only)")
+  public ApiSuccessResponse<PromoCodeResponse> createPromoCode(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody CreatePromoCodeRequest request) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    PromoCodeResponse promoCode = promoCodeService.create(eventId, request);
+
+    return ApiSuccessResponse.of(promoCode, "Promo code created successfully");
+  }
+
+  @GetMapping("/events/{eventId}/promo-codes")
+  @Operation(summary = "List promo codes", description = "Promo codes of an event with their confirmed redemptions (event organizer only)")
+  public ApiSuccessResponse<List<PromoCodeResponse>> listPromoCodes(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    List<PromoCodeResponse> promoCodes = promoCodeService.list(eventId);
+
+    return ApiSuccessResponse.of(promoCodes, "Promo codes retrieved successfully");
+  }
+
+  @DeleteMapping("/events/{eventId}/promo-codes/{code}")
+  @Operation(summary = "Deactivate promo code", description = "Stop accepting a promo code (event organizer only)")
+  public ApiSuccessResponse<String> deactivatePromoCode(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Parameter(description = "Promo code", required = true) @PathVariable String code) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    promoCodeService.deactivate(eventId, code);
+
+    return ApiSuccessResponse.of("Promo code deactivated");
+  }
+
+  @PostMapping("/events/{eventId}/lottery")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Open lottery", description = "Sell an event by pre-sale lottery: entries until the close time, then a random draw (event organizer only)")
+  public ApiSuccessResponse<LotteryResponse> openLottery(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody CreateLotteryRequest request) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    LotteryResponse lottery = lotteryService.open(eventId, request);
+
+    return ApiSuccessResponse.of(lottery, "Lottery opened successfully");
+  }
+
+  @GetMapping("/events/{eventId}/lottery")
+  @Operation(summary = "Lottery status", description = "Entries, winners and allocated tickets of an event's lottery (event organizer only)")
+  public ApiSuccessResponse<LotteryResponse> getLottery(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    eventLookupService.verifyOrganizer(eventId, userId);
+    LotteryResponse lottery = lotteryService.getLottery(eventId);
+
+    return ApiSuccessResponse.of(lottery, "Lottery retrieved successfully");
+  }
+
+  @PostMapping("/events/{eventId}/lottery/entries")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Enter lottery", description = "Enter the pre-sale lottery of an event; winners are booked when entries close (JWT required)")
+  public ApiSuccessResponse<LotteryEntryResponse> enterLottery(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody EnterLotteryRequest request,
+      HttpServletRequest httpRequest) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+    bookingVelocityLimiter.check(userId, getClientIp(httpRequest));
+
+    LotteryEntryResponse entry = lotteryService.enter(eventId, userId, request.numberOfTickets());
+
+    return ApiSuccessResponse.of(entry, "You are in the lottery. We will email you if you win.");
+  }
+
+  @GetMapping("/events/{eventId}/lottery/entry")
+  @Operation(summary = "Lottery entry", description = "Your lottery entry for an event and its result (JWT required)")
+  public ApiSuccessResponse<LotteryEntryResponse> getLotteryEntry(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    LotteryEntryResponse entry = lotteryService.getEntry(eventId, userId);
+
+    return ApiSuccessResponse.of(entry, "Lottery entry retrieved successfully");
+  }
+
+  @PostMapping("/events/{eventId}/waitlist")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Join waitlist", description = "Queue for a sold-out event; returned tickets are offered in arrival order (JWT required)")
+  public ApiSuccessResponse<WaitlistResponse> joinWaitlist(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody JoinWaitlistRequest request) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    WaitlistResponse entry = waitlistService.join(eventId, userId, request.numberOfTickets());
+
+    return ApiSuccessResponse.of(entry, "You are on the waitlist. We will email you when tickets are offered.");
+  }
+
+  @GetMapping("/events/{eventId}/waitlist")
+  @Operation(summary = "Waitlist status", description = "Your place in the waitlist of an event, or your open ticket offer (JWT required)")
+  public ApiSuccessResponse<WaitlistResponse> getWaitlistEntry(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    WaitlistResponse entry = waitlistService.getEntry(eventId, userId);
+
+    return ApiSuccessResponse.of(entry, "Waitlist status retrieved successfully");
+  }
+
+  @PostMapping("/events/{eventId}/waitlist/accept")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Accept waitlist offer", description = "Book the tickets held for you before the offer expires (JWT required)")
+  public ApiSuccessResponse<BookingResponse> acceptWaitlistOffer(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    BookingResponse booking = bookingService.acceptWaitlistOffer(eventId, userId);
+
+    return ApiSuccessResponse.of(booking, "Booking created successfully");
+  }
+
+  @DeleteMapping("/events/{eventId}/waitlist")
+  @Operation(summary = "Leave waitlist", description = "Leave the waitlist of an event, declining any open offer (JWT required)")
+  public ApiSuccessResponse<String> leaveWaitlist(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+    UUID userId = getAuthenticatedUserId(); // ✅ Get from JWT
+
+    waitlistService.leave(eventId, userId);
+
+    return ApiSuccessResponse.of("You have left the waitlist");
+  }
+
   @DeleteMapping("/{bookingId}")
   public ApiSuccessResponse<String> deleteBooking(
       @Parameter(description = "Booking ID", required = true) @PathVariable UUID bookingId
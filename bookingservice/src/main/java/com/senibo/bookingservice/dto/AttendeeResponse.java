@@ -0,0 +1,32 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record AttendeeResponse(
+    @Schema(description = "Public reference number") String bookingReference,
+    @Schema(description = "Booking identifier") UUID bookingId,
+    @Schema(description = "Attendee user ID") UUID userId,
+    @Schema(description = "Attendee first name") String firstname,
+    @Schema(description = "Attendee last name") String lastname,
+    @Schema(description = "Attendee email") String email,
+    @Schema(description = "Number of tickets held") Integer numberOfTickets,
+    @Schema(description = "When the booking was made") LocalDateTime bookedAt) {
+
+  // user is null when the User Service could not resolve it
+  public static AttendeeResponse from(AttendeeRow row, UserResponse user) {
+    return new AttendeeResponse(
+        row.bookingReference(),
+        row.bookingId(),
+        row.userId(),
+        user != null ? user.firstname() : null,
+        user != null ? user.lastname() : null,
+        user != null ? user.email() : null,
+        row.numberOfTickets(),
+        row.createdAt());
+  }
+}
@@ -0,0 +1,17 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Booking columns read by the attendee export.
+ * A constructor projection rather than the entity, so streamed rows are not
+ * kept in the persistence context.
+ */
+public record AttendeeRow(
+    UUID bookingId,
+    String bookingReference,
+    UUID userId,
+    Integer numberOfTickets,
+    LocalDateTime createdAt) {
+}
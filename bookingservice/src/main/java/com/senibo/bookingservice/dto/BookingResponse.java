@@ -2,8 +2,10 @@ package com.senibo.bookingservice.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.senibo.bookingservice.entity.Booking;
 import com.senibo.bookingservice.enums.BookingStatus;
 
@@ -14,20 +16,33 @@ public record BookingResponse(
     @Schema(description = "User who made the booking") UUID userId,
     @Schema(description = "Event being booked") UUID eventId,
     @Schema(description = "Number of tickets purchased") Integer numberOfTickets,
+    @Schema(description = "Assigned seats (reserved seating only)") List<String> seats,
+    @Schema(description = "Ticket tier (tiered events only)") String tier,
+    @Schema(description = "Promo code applied to the total") String promoCode,
     @Schema(description = "Total cost of booking") BigDecimal totalPrice,
     @Schema(description = "Current booking status") BookingStatus status,
     @Schema(description = "Public reference number") String bookingReference,
-    @Schema(description = "When booking was created") LocalDateTime createdAt) {
+    @Schema(description = "When booking was created") LocalDateTime createdAt,
+    @Schema(description = "Signed ticket tokens (QR code payloads), one per ticket")
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<String> tickets) {
 
   public static BookingResponse from(Booking booking) {
+    return from(booking, null);
+  }
+
+  public static BookingResponse from(Booking booking, List<String> tickets) {
     return new BookingResponse(
         booking.getId(),
         booking.getUserId(),
         booking.getEventId(),
         booking.getNumberOfTickets(),
+        booking.getSeats() != null ? List.of(booking.getSeats().split(",")) : null,
+        booking.getTier(),
+        booking.getPromoCode(),
         booking.getTotalPrice(),
         booking.getStatus(),
         booking.getBookingReference(),
-        booking.getCreatedAt());
+        booking.getCreatedAt(),
+        tickets);
   }
 }
\ No newline at end of file
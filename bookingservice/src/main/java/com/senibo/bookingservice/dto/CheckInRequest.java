@@ -0,0 +1,22 @@
+package com.senibo.bookingservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request body for checking in scanned tickets")
+public record CheckInRequest(
+
+  @Schema(description = "Scanned ticket tokens, one per ticket")
+  @NotEmpty(message = "At least one ticket token is required")
+  @Size(max = 500, message = "Max amount of tickets per request is 500")
+  List<String> tokens,
+
+  @Schema(description = "Gate or scanner the tickets were scanned at (optional)", example = "North-2")
+  @Size(max = 50, message = "Gate cannot exceed 50 characters")
+  String gate
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.senibo.bookingservice.dto;
+
+import java.util.UUID;
+
+import com.senibo.bookingservice.enums.CheckInResult;
+import com.senibo.bookingservice.service.TicketTokenSigner.Ticket;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CheckInResponse(
+    @Schema(description = "Scan outcome; only ADMITTED lets the holder in") CheckInResult result,
+    @Schema(description = "Booking the ticket belongs to (signed tickets only)") UUID bookingId,
+    @Schema(description = "Ticket number within the event (signed tickets only)") Integer serial) {
+
+  public static CheckInResponse of(CheckInResult result, Ticket ticket) {
+    return new CheckInResponse(
+        result,
+        ticket != null ? ticket.bookingId() : null,
+        ticket != null ? ticket.serial() : null);
+  }
+}
@@ -1,11 +1,14 @@
 package com.senibo.bookingservice.dto;
 
+import java.util.List;
 import java.util.UUID;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 @Schema(description = "Request body for creating new booking")
 public record CreateBookingRequest(
@@ -17,7 +20,23 @@ public record CreateBookingRequest(
   @Schema(description = "Number of Tickets", example = "2")
   @Positive(message = "This number cannot be less than Zero")
   @Max(value = 10 , message = "Max amount of booknigs is 10")
-  Integer numberOfTickets
+  Integer numberOfTickets,
+
+  @Schema(description = "Chosen seats for reserved seating events (best available adjacent seats when empty)", example = "[\"A-12-7\", \"A-12-8\"]")
+  @Size(max = 10, message = "Max amount of seats is 10")
+  List<String> seats,
+
+  @Schema(description = "Ticket tier, required for events sold in tiers", example = "VIP")
+  @Size(max = 50, message = "Tier name cannot exceed 50 characters")
+  String tier,
+
+  @Schema(description = "Signed price quote; required for dynamically priced events")
+  @Valid
+  PriceQuote quote,
+
+  @Schema(description = "Promo code for a discount on the total", example = "EARLYBIRD")
+  @Size(max = 32, message = "Promo code cannot exceed 32 characters")
+  String promoCode
 ) {
   
 }
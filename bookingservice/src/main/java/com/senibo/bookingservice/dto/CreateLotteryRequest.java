@@ -0,0 +1,18 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Request body for opening a pre-sale lottery for an event")
+public record CreateLotteryRequest(
+
+  @Schema(description = "Entries close and the draw runs after this time", example = "2026-12-01T12:00:00")
+  @NotNull(message = "Entry close time is required")
+  @Future(message = "Entry close time must be in the future")
+  LocalDateTime entryClosesAt
+) {
+
+}
@@ -0,0 +1,38 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "Request body for creating a promo code for an event")
+public record CreatePromoCodeRequest(
+
+  @Schema(description = "Code entered at checkout (letters, digits, - and _)", example = "EARLYBIRD")
+  @NotBlank(message = "Code is required")
+  @Pattern(regexp = "[A-Za-z0-9_-]{3,32}", message = "Code must be 3 to 32 letters, digits, - or _")
+  String code,
+
+  @Schema(description = "Percentage taken off the booking total", example = "20")
+  @NotNull(message = "Discount percent is required")
+  @Min(value = 1, message = "Discount must be at least 1%")
+  @Max(value = 100, message = "Discount cannot exceed 100%")
+  Integer discountPercent,
+
+  @Schema(description = "How many bookings can use the code", example = "1000")
+  @NotNull(message = "Max uses is required")
+  @Positive(message = "Max uses must be positive")
+  Integer maxUses,
+
+  @Schema(description = "The code is refused after this time (optional)", example = "2026-12-01T00:00:00")
+  @Future(message = "Expiry must be in the future")
+  LocalDateTime expiresAt
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.senibo.bookingservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "Request body for entering the pre-sale lottery of an event")
+public record EnterLotteryRequest(
+
+  @Schema(description = "Number of Tickets", example = "2")
+  @NotNull(message = "Number of tickets is required")
+  @Positive(message = "This number cannot be less than Zero")
+  @Max(value = 10, message = "Max amount of tickets is 10")
+  Integer numberOfTickets
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.senibo.bookingservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Live sales figures of one event")
+public record EventSalesResponse(
+    @Schema(description = "Event ID") UUID eventId,
+    @Schema(description = "Tickets sold, net of cancellations") long ticketsSold,
+    @Schema(description = "Revenue, net of cancellations") BigDecimal revenue,
+    @Schema(description = "Bookings still active") long activeBookings,
+    @Schema(description = "Bookings cancelled") long cancelledBookings,
+    @Schema(description = "Tickets returned by cancellations") long cancelledTickets,
+    @Schema(description = "Bookings confirmed in the last hour") long bookingsLastHour,
+    @Schema(description = "Most recent booking") LocalDateTime lastBookingAt,
+    @Schema(description = "Per-minute activity over the last hour, oldest first") List<SalesMinute> perMinute) {
+}
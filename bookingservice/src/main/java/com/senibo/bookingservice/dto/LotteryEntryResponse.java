@@ -0,0 +1,28 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.entity.LotteryEntry;
+import com.senibo.bookingservice.enums.LotteryEntryStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record LotteryEntryResponse(
+    @Schema(description = "Lottery entry identifier") UUID id,
+    @Schema(description = "Event entered for") UUID eventId,
+    @Schema(description = "Tickets wanted") Integer numberOfTickets,
+    @Schema(description = "Current entry status") LotteryEntryStatus status,
+    @Schema(description = "Booking created for the entry (WON only)") UUID bookingId,
+    @Schema(description = "When the user entered") LocalDateTime createdAt) {
+
+  public static LotteryEntryResponse from(LotteryEntry entry) {
+    return new LotteryEntryResponse(
+        entry.getId(),
+        entry.getEventId(),
+        entry.getNumberOfTickets(),
+        entry.getStatus(),
+        entry.getBookingId(),
+        entry.getCreatedAt());
+  }
+}
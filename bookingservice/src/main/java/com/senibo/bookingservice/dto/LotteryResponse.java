@@ -0,0 +1,30 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.entity.LotteryDraw;
+import com.senibo.bookingservice.enums.LotteryStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record LotteryResponse(
+    @Schema(description = "Event the lottery is for") UUID eventId,
+    @Schema(description = "Current lottery status") LotteryStatus status,
+    @Schema(description = "Entries close and the draw runs after this time") LocalDateTime entryClosesAt,
+    @Schema(description = "Entries received") Long entries,
+    @Schema(description = "Entries that won a booking (DRAWN only)") Integer winners,
+    @Schema(description = "Tickets allocated by the draw (once winners are chosen)") Integer ticketsAllocated,
+    @Schema(description = "When the draw ran (DRAWN only)") LocalDateTime drawnAt) {
+
+  public static LotteryResponse from(LotteryDraw draw, long entries) {
+    return new LotteryResponse(
+        draw.getEventId(),
+        draw.getStatus(),
+        draw.getEntryClosesAt(),
+        entries,
+        draw.getWinners(),
+        draw.getTicketsAllocated(),
+        draw.getDrawnAt());
+  }
+}
@@ -0,0 +1,30 @@
+package com.senibo.bookingservice.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Signed price quote from GET /api/events/{eventId}/price-quote, passed back unchanged")
+public record PriceQuote(
+  @Schema(description = "Event ID")
+  @NotNull(message = "Quote event ID is required")
+  UUID eventId,
+
+  @Schema(description = "Quoted price per ticket", example = "17500.00")
+  @NotNull(message = "Quoted price is required")
+  BigDecimal unitPrice,
+
+  @Schema(description = "When the quote expires")
+  @NotNull(message = "Quote expiry is required")
+  Instant expiresAt,
+
+  @Schema(description = "Quote signature")
+  @NotBlank(message = "Quote signature is required")
+  String signature
+) {
+
+}
@@ -0,0 +1,33 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.entity.PromoCode;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PromoCodeResponse(
+    @Schema(description = "Promo code identifier") UUID id,
+    @Schema(description = "Code entered at checkout") String code,
+    @Schema(description = "Event the code applies to") UUID eventId,
+    @Schema(description = "Percentage taken off the booking total") Integer discountPercent,
+    @Schema(description = "How many bookings can use the code") Integer maxUses,
+    @Schema(description = "Confirmed bookings using the code") Long redeemed,
+    @Schema(description = "The code is refused after this time") LocalDateTime expiresAt,
+    @Schema(description = "Whether the code can still be used") Boolean active,
+    @Schema(description = "When the code was created") LocalDateTime createdAt) {
+
+  public static PromoCodeResponse from(PromoCode promoCode, long redeemed) {
+    return new PromoCodeResponse(
+        promoCode.getId(),
+        promoCode.getCode(),
+        promoCode.getEventId(),
+        promoCode.getDiscountPercent(),
+        promoCode.getMaxUses(),
+        redeemed,
+        promoCode.getExpiresAt(),
+        promoCode.getActive(),
+        promoCode.getCreatedAt());
+  }
+}
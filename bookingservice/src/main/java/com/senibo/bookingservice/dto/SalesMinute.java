@@ -0,0 +1,12 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SalesMinute(
+    @Schema(description = "Start of the minute") LocalDateTime minute,
+    @Schema(description = "Bookings confirmed in this minute") int bookings,
+    @Schema(description = "Tickets sold in this minute") int tickets,
+    @Schema(description = "Bookings cancelled in this minute") int cancellations) {
+}
@@ -0,0 +1,8 @@
+package com.senibo.bookingservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record TicketResponse(
+    @Schema(description = "Ticket number within the event") Integer serial,
+    @Schema(description = "Signed ticket token, the QR code payload") String token) {
+}
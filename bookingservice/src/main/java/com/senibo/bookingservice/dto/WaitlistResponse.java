@@ -0,0 +1,30 @@
+package com.senibo.bookingservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.entity.WaitlistEntry;
+import com.senibo.bookingservice.enums.WaitlistStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record WaitlistResponse(
+    @Schema(description = "Waitlist entry identifier") UUID id,
+    @Schema(description = "Event waited for") UUID eventId,
+    @Schema(description = "Tickets wanted") Integer numberOfTickets,
+    @Schema(description = "Current waitlist status") WaitlistStatus status,
+    @Schema(description = "Entries ahead in the queue (WAITING only)") Long position,
+    @Schema(description = "Accept before this time (OFFERED only)") LocalDateTime offerExpiresAt,
+    @Schema(description = "When the user joined the waitlist") LocalDateTime createdAt) {
+
+  public static WaitlistResponse from(WaitlistEntry entry, Long position) {
+    return new WaitlistResponse(
+        entry.getId(),
+        entry.getEventId(),
+        entry.getNumberOfTickets(),
+        entry.getStatus(),
+        position,
+        entry.getOfferExpiresAt(),
+        entry.getCreatedAt());
+  }
+}
@@ -2,6 +2,7 @@ package com.senibo.bookingservice.dto.clientDTOs;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import com.senibo.bookingservice.enums.EventCategory;
@@ -49,9 +50,24 @@ public record EventResponse(
     @Schema(description = "Tickets currently available", example = "150")
     Integer availableTickets,
 
-    @Schema(description = "Ticket price", example = "15000.00")
+    @Schema(description = "Tickets are sold as seats from the event seat map", example = "false")
+    Boolean reservedSeating,
+
+    @Schema(description = "Ticket price (the cheapest tier for tiered events)", example = "15000.00")
     BigDecimal price,
 
+    @Schema(description = "Price follows demand; bookings need a price quote", example = "true")
+    Boolean dynamicPricing,
+
+    @Schema(description = "Price of the cheapest tier with tickets left (tiered events only)", example = "10000.00")
+    BigDecimal fromPrice,
+
+    @Schema(description = "Ticket tiers with live availability (tiered events only)")
+    List<TicketTierResponse> tiers,
+
+    @Schema(description = "Most tickets one user may book for this event (when the organizer set a limit)", example = "4")
+    Integer maxTicketsPerUser,
+
     @Schema(description = "Current event status", example = "ACTIVE")
     EventStatus status,
 
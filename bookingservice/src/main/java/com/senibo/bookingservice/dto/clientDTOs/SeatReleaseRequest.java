@@ -0,0 +1,7 @@
+package com.senibo.bookingservice.dto.clientDTOs;
+
+import java.util.List;
+
+public record SeatReleaseRequest(
+    List<String> seats) {
+}
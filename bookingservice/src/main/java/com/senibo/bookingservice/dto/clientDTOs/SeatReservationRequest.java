@@ -0,0 +1,9 @@
+package com.senibo.bookingservice.dto.clientDTOs;
+
+import java.util.List;
+
+// Seats chosen by the user, or null for the best available adjacent seats
+public record SeatReservationRequest(
+    Integer numberOfTickets,
+    List<String> seats) {
+}
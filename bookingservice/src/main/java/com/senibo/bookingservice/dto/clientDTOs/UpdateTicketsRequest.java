@@ -9,6 +9,9 @@ public record UpdateTicketsRequest(
     @Schema(description = "Tickets to Book")
     @NotNull(message = "Tickets to book is required")
     // @Positive(message = "Tickets to book must be positive")
-    Integer ticketsToBook
+    Integer ticketsToBook,
+
+    @Schema(description = "Ticket tier, required for events sold in tiers", example = "VIP")
+    String tier
 ) {
 }
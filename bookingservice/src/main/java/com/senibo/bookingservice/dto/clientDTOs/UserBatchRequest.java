@@ -0,0 +1,7 @@
+package com.senibo.bookingservice.dto.clientDTOs;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserBatchRequest(List<UUID> userIds) {
+}
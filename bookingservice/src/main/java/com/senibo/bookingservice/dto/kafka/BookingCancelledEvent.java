@@ -6,13 +6,16 @@ import java.util.UUID;
 
 public record BookingCancelledEvent(
   UUID bookingId,
+  UUID eventId,
   UUID userId,
   String email,
   String eventTitle,
   Integer numberOfTickets,
   BigDecimal totalPrice,
   String bookingReference,
-  LocalDateTime eventDate
+  LocalDateTime eventDate,
+  // Why the booking was cancelled when it wasn't the user's choice, otherwise null
+  String reason
 ) {
 
 }
@@ -6,6 +6,7 @@ import java.util.UUID;
 
 public record BookingConfirmedEvent(
     UUID bookingId,
+    UUID eventId,
     UUID userId,
     String email,
     String eventTitle,
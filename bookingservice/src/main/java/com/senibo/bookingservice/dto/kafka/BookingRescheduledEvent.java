@@ -0,0 +1,18 @@
+package com.senibo.bookingservice.dto.kafka;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookingRescheduledEvent(
+    UUID bookingId,
+    UUID eventId,
+    UUID userId,
+    String email,
+    String eventTitle,
+    String venue,
+    Integer numberOfTickets,
+    String bookingReference,
+    LocalDateTime previousEventDate,
+    LocalDateTime eventDate) {
+
+}
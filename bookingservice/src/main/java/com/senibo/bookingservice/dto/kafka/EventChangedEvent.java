@@ -0,0 +1,18 @@
+package com.senibo.bookingservice.dto.kafka;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.enums.EventChangeType;
+
+// Published by Event Service when an event is cancelled or its dates move
+public record EventChangedEvent(
+    UUID eventId,
+    EventChangeType changeType,
+    String title,
+    String venue,
+    LocalDateTime startDateTime,
+    LocalDateTime endDateTime,
+    LocalDateTime previousStartDateTime) {
+
+}
@@ -15,9 +15,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -30,7 +29,10 @@ import lombok.NoArgsConstructor;
  * Each booking is tied to a user and an event (via UUIDs).
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    // Attendee export: an event's confirmed bookings in booking order
+    @Index(name = "idx_bookings_event_status_created", columnList = "event_id, status, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,7 +41,7 @@ import lombok.NoArgsConstructor;
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /**
@@ -65,6 +67,32 @@ public class Booking {
     @Column(nullable = false)
     private Integer numberOfTickets;
 
+    /**
+     * Seats of a reserved seating event, comma separated (e.g. A-12-7,A-12-8).
+     * Null for general admission.
+     */
+    @Column(length = 500)
+    private String seats;
+
+    /**
+     * Ticket tier of a tiered event (e.g. VIP). Null otherwise.
+     */
+    @Column(length = 50)
+    private String tier;
+
+    /**
+     * Serial of the first ticket; the booking's tickets are numbered
+     * ticketSerial .. ticketSerial + numberOfTickets - 1 within the event.
+     * Null until tickets are issued.
+     */
+    private Integer ticketSerial;
+
+    /**
+     * Promo code the total was discounted with. Null otherwise.
+     */
+    @Column(length = 32)
+    private String promoCode;
+
     /**
      * Total price for all tickets.
      * Calculated as: numberOfTickets × event.price
@@ -83,7 +111,7 @@ public class Booking {
 
     /**
      * Unique reference code for this booking.
-     * Used for customer support and ticket validation.
+     * Used for customer support; tickets are validated by their signed tokens.
      * Format: BOOK-{UUID-first-8-chars} (e.g., BOOK-a1b2c3d4)
      */
     @Column(unique = true, nullable = false)
@@ -0,0 +1,46 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Booking activity of one event in one minute, for the sales dashboard's last hour.
+ * Written only by SalesStatsService (additive upserts on event_id, minute), so every
+ * replica reads the same series; rows older than the series are pruned.
+ */
+@Entity
+@Table(name = "event_sales_minutes",
+    uniqueConstraints = @UniqueConstraint(name = "uk_event_sales_minutes", columnNames = { "event_id", "minute" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSalesMinute {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private LocalDateTime minute;
+
+    @Column(nullable = false)
+    private int bookings;
+
+    @Column(nullable = false)
+    private int tickets;
+
+    @Column(nullable = false)
+    private int cancellations;
+}
@@ -0,0 +1,51 @@
+package com.senibo.bookingservice.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running sales totals of one event, rolled up from the booking-events topic.
+ * Written only by SalesStatsService (additive upserts), read by the sales dashboard.
+ */
+@Entity
+@Table(name = "event_sales_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSalesStats {
+
+    @Id
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private long confirmedBookings;
+
+    @Column(nullable = false)
+    private long confirmedTickets;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal confirmedRevenue;
+
+    @Column(nullable = false)
+    private long cancelledBookings;
+
+    @Column(nullable = false)
+    private long cancelledTickets;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal cancelledRevenue;
+
+    private LocalDateTime lastBookingAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.senibo.bookingservice.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Next free ticket serial of an event. Written only by TicketService (upsert).
+ */
+@Entity
+@Table(name = "event_ticket_serials")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTicketSerial {
+
+    @Id
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private Integer nextSerial;
+}
@@ -0,0 +1,78 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.senibo.bookingservice.enums.LotteryStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-sale lottery of one event.
+ * While it is not DRAWN the event can't be booked directly: users enter until
+ * entryClosesAt, then the draw books a random selection of entries in one pass.
+ */
+@Entity
+@Table(name = "lottery_draws", indexes = {
+    // Draw job: open lotteries whose entry window has closed, and stalled draws
+    @Index(name = "idx_lottery_draws_status_closes", columnList = "status, entry_closes_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class LotteryDraw {
+
+    @Id
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LotteryStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime entryClosesAt;
+
+    private LocalDateTime drawnAt;
+
+    /**
+     * Entries that won a booking, set by the draw.
+     */
+    private Integer winners;
+
+    /**
+     * Tickets booked by the draw; recorded with the winners, before they are taken from the inventory.
+     */
+    private Integer ticketsAllocated;
+
+    /**
+     * The event's available tickets when the winners were chosen. A resumed draw compares it
+     * with the current count to tell whether ticketsAllocated were already taken.
+     */
+    private Integer availableBefore;
+
+    /**
+     * When the running draw claimed the lottery. A DRAWING lottery whose claim was released
+     * or has outlived the lease is claimed again and its draw resumed.
+     */
+    private LocalDateTime claimedAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
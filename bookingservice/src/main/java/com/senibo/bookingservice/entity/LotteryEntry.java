@@ -0,0 +1,63 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.bookingservice.enums.LotteryEntryStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user's entry in an event's pre-sale lottery; one per user and event.
+ * Inserted by LotteryService with plain JDBC and settled by the draw.
+ */
+@Entity
+@Table(name = "lottery_entries",
+    uniqueConstraints = @UniqueConstraint(name = "uk_lottery_entry_event_user", columnNames = { "event_id", "user_id" }),
+    indexes = {
+        // Draw: an event's unsettled entries
+        @Index(name = "idx_lottery_entries_event_status", columnList = "event_id, status")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LotteryEntry {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    /**
+     * Tickets wanted; a winning entry is booked for exactly this many.
+     */
+    @Column(nullable = false)
+    private Integer numberOfTickets;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LotteryEntryStatus status;
+
+    /**
+     * The booking created for a winning entry.
+     */
+    private UUID bookingId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,82 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A discount code for one event, usable at most maxUses times.
+ * Uses are handed out to booking service nodes in blocks: allocatedUses counts the
+ * uses leased so far, so it reaches maxUses before the last uses are actually redeemed.
+ */
+@Entity
+@Table(name = "promo_codes", indexes = {
+    // Incremental refresh of the in-memory codes
+    @Index(name = "idx_promo_codes_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_promo_codes_event_id", columnList = "event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class PromoCode {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    /**
+     * Stored upper case; matched case-insensitively.
+     */
+    @Column(nullable = false, unique = true, length = 32)
+    private String code;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    /**
+     * Percentage taken off the total price, 1 to 100.
+     */
+    @Column(nullable = false)
+    private Integer discountPercent;
+
+    @Column(nullable = false)
+    private Integer maxUses;
+
+    /**
+     * Uses leased to nodes so far, never above maxUses.
+     */
+    @Column(nullable = false)
+    private Integer allocatedUses;
+
+    /**
+     * The code is refused after this time. Null for no expiry.
+     */
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private Boolean active;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Marks a booking confirmation or cancellation as counted in the sales figures.
+ * Inserted in the same statement as the figures it adds to, so a redelivered
+ * booking event is skipped instead of counted twice. Kept for as long as
+ * the topic retains messages.
+ */
+@Entity
+@Table(name = "sales_changes_applied",
+    uniqueConstraints = @UniqueConstraint(name = "uk_sales_changes_applied", columnNames = { "booking_id", "change" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesChangeApplied {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID bookingId;
+
+    // CONFIRMED or CANCELLED
+    @Column(nullable = false, length = 16)
+    private String change;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,63 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One ticket admitted at the door.
+ * Written in batches by CheckInService; the unique (event_id, serial) key is the
+ * last line of defence against a ticket scanned at two replicas at once.
+ */
+@Entity
+@Table(name = "ticket_check_ins",
+    uniqueConstraints = @UniqueConstraint(name = "uk_check_in_event_serial", columnNames = { "event_id", "serial" }),
+    indexes = {
+        // Sync: check-ins recorded by other replicas since the last poll
+        @Index(name = "idx_check_in_event_recorded", columnList = "event_id, recorded_at")
+    })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketCheckIn {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    /**
+     * Ticket serial within the event (see Booking.ticketSerial).
+     */
+    @Column(nullable = false)
+    private Integer serial;
+
+    @Column(nullable = false)
+    private UUID bookingId;
+
+    @Column(length = 50)
+    private String gate;
+
+    /**
+     * When the ticket was scanned.
+     */
+    @Column(nullable = false)
+    private LocalDateTime checkedInAt;
+
+    /**
+     * When the row was written (database clock).
+     */
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+}
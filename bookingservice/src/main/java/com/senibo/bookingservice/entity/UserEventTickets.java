@@ -0,0 +1,40 @@
+package com.senibo.bookingservice.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tickets a user holds for an event across all their confirmed bookings.
+ * Maintained by TicketCapService in the same transaction as each booking and
+ * cancellation, so the per-user limit is checked against one row instead of a
+ * SUM over bookings.
+ */
+@Entity
+@Table(name = "user_event_tickets",
+    uniqueConstraints = @UniqueConstraint(name = "uk_user_event_tickets", columnNames = { "user_id", "event_id" }))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventTickets {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private Integer tickets;
+}
@@ -0,0 +1,18 @@
+package com.senibo.bookingservice.entity;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks a UUID id as generated by UuidV7Generator (time-ordered, see there).
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface UuidV7 {
+}
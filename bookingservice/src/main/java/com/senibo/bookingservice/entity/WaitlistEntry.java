@@ -0,0 +1,83 @@
+package com.senibo.bookingservice.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.senibo.bookingservice.enums.WaitlistStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user queued for a sold-out event.
+ * Tickets returned by cancellations are offered to entries in arrival order and
+ * held for them until offerExpiresAt.
+ */
+@Entity
+@Table(name = "waitlist_entries", indexes = {
+    // Allocation and queue position: an event's waiting entries in arrival order
+    @Index(name = "idx_waitlist_event_status_created", columnList = "event_id, status, created_at"),
+    // Expiry sweep: offers whose hold has run out
+    @Index(name = "idx_waitlist_status_expires", columnList = "status, offer_expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class WaitlistEntry {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private UUID eventId;
+
+    /**
+     * Tickets wanted; an offer is always for exactly this many.
+     */
+    @Column(nullable = false)
+    private Integer numberOfTickets;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WaitlistStatus status;
+
+    /**
+     * Set while OFFERED: the held tickets are released after this time.
+     */
+    private LocalDateTime offerExpiresAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Bumped by the allocator and the expiry sweep too, so accepting a stale offer fails.
+     */
+    @Version
+    private Long version;
+}
@@ -0,0 +1,9 @@
+package com.senibo.bookingservice.enums;
+
+/**
+ * Output formats of the attendee export.
+ */
+public enum AttendeeExportFormat {
+  CSV,
+  NDJSON
+}
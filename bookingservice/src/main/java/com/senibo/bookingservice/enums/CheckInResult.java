@@ -0,0 +1,13 @@
+package com.senibo.bookingservice.enums;
+
+/**
+ * Outcome of scanning a ticket at the door.
+ * Only ADMITTED lets the holder in.
+ */
+public enum CheckInResult {
+  ADMITTED,
+  ALREADY_CHECKED_IN,
+  CANCELLED,
+  WRONG_EVENT,
+  INVALID
+}
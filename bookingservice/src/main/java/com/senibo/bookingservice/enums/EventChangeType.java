@@ -0,0 +1,7 @@
+package com.senibo.bookingservice.enums;
+
+// Changes to an event that its bookers must hear about (mirrors Event Service)
+public enum EventChangeType {
+  CANCELLED,
+  RESCHEDULED
+}
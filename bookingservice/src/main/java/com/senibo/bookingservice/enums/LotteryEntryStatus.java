@@ -0,0 +1,16 @@
+package com.senibo.bookingservice.enums;
+
+/**
+ * Represents the status of a lottery entry.
+ *
+ * Status Flow:
+ * ENTERED → SELECTED (chosen by the draw, booking not created yet)
+ * SELECTED → WON (a booking was created for the entry)
+ * ENTERED → LOST (the draw ran out of tickets first)
+ */
+public enum LotteryEntryStatus {
+  ENTERED,
+  SELECTED,
+  WON,
+  LOST
+}
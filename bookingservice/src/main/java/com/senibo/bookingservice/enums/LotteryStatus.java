@@ -0,0 +1,15 @@
+package com.senibo.bookingservice.enums;
+
+/**
+ * Represents the lifecycle status of an event's pre-sale lottery.
+ *
+ * Status Flow:
+ * OPEN → DRAWING (entry window closed, one replica is allocating)
+ * DRAWING → DRAWN (winners booked, remaining tickets go on general sale)
+ * DRAWING → DRAWING (a failed or abandoned draw is claimed again and resumed)
+ */
+public enum LotteryStatus {
+  OPEN,
+  DRAWING,
+  DRAWN
+}
@@ -0,0 +1,18 @@
+package com.senibo.bookingservice.enums;
+
+/**
+ * Represents the lifecycle status of a waitlist entry.
+ * 
+ * Status Flow:
+ * WAITING → OFFERED (returned tickets are held for the user)
+ * OFFERED → ACCEPTED (user turned the offer into a booking)
+ * OFFERED → EXPIRED (hold ran out, tickets go to the next in line)
+ * WAITING/OFFERED → CANCELLED (user left the waitlist or the event was cancelled)
+ */
+public enum WaitlistStatus {
+  WAITING,
+  OFFERED,
+  ACCEPTED,
+  EXPIRED,
+  CANCELLED
+}
@@ -4,6 +4,7 @@ package com.senibo.bookingservice.exception;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -50,6 +51,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Handles UnauthorizedException - caller does not own the resource
+     * Returns: 403 Forbidden
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ResponseEntity<ApiErrorResponse> handleUnauthorizedException(
+            UnauthorizedException ex, WebRequest request) {
+        
+        log.warn("UnauthorizedException: {} - Request: {}", ex.getMessage(), request.getDescription(false));
+        
+        ApiErrorResponse error = ApiErrorResponse.of(ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.FORBIDDEN);
+    }
+    
     /**
      * Handles InsufficientTicketsException - when not enough tickets available
      * Returns: 409 Conflict (resource state conflict)
@@ -82,6 +98,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
+    /**
+     * Handles TooManyRequestsException - booking attempts above the velocity limit
+     * Returns: 429 Too Many Requests with Retry-After
+     * Logged at debug only: abusive clients would flood the log.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ApiErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+        
+        log.debug("TooManyRequestsException: {} - Request: {}", 
+                ex.getMessage(), request.getDescription(false));
+        
+        ApiErrorResponse error = ApiErrorResponse.of(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     // === FEIGN CLIENT EXCEPTIONS ===
     
     /**
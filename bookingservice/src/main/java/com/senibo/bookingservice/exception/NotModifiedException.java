@@ -0,0 +1,11 @@
+package com.senibo.bookingservice.exception;
+
+/**
+ * Raised by the event client when Event Service answers 304 Not Modified.
+ * It is control flow rather than an error, so no stack trace is captured.
+ */
+public class NotModifiedException extends RuntimeException {
+  public NotModifiedException(String message) {
+    super(message, null, false, false);
+  }
+}
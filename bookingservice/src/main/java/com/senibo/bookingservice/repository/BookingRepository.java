@@ -2,14 +2,22 @@ package com.senibo.bookingservice.repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.senibo.bookingservice.dto.AttendeeRow;
 import com.senibo.bookingservice.entity.Booking;
+import com.senibo.bookingservice.enums.BookingStatus;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
@@ -20,4 +28,13 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
   Optional<Booking> findByBookingReference(String bookingReference);
 
   Boolean existsByBookingReference(String bookingReference);
+
+  long countByPromoCodeAndStatus(String promoCode, BookingStatus status);
+
+  // Forward-only cursor over an event's bookings; must be consumed inside a transaction
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("SELECT new com.senibo.bookingservice.dto.AttendeeRow("
+      + "b.id, b.bookingReference, b.userId, b.numberOfTickets, b.createdAt) "
+      + "FROM Booking b WHERE b.eventId = :eventId AND b.status = :status ORDER BY b.createdAt")
+  Stream<AttendeeRow> streamAttendees(UUID eventId, BookingStatus status);
 }
@@ -0,0 +1,16 @@
+package com.senibo.bookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.EventSalesMinute;
+
+@Repository
+public interface EventSalesMinuteRepository extends JpaRepository<EventSalesMinute, UUID> {
+
+  List<EventSalesMinute> findByEventIdAndMinuteGreaterThanEqualOrderByMinute(UUID eventId, LocalDateTime from);
+}
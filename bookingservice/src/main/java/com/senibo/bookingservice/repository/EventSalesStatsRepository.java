@@ -0,0 +1,12 @@
+package com.senibo.bookingservice.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.EventSalesStats;
+
+@Repository
+public interface EventSalesStatsRepository extends JpaRepository<EventSalesStats, UUID> {
+}
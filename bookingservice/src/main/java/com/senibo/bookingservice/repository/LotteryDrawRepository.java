@@ -0,0 +1,24 @@
+package com.senibo.bookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.LotteryDraw;
+import com.senibo.bookingservice.enums.LotteryStatus;
+
+@Repository
+public interface LotteryDrawRepository extends JpaRepository<LotteryDraw, UUID> {
+  // Lotteries to draw: entry window closed, or a draw whose claim was released or has expired
+  @Query("SELECT d FROM LotteryDraw d WHERE "
+      + "(d.status = com.senibo.bookingservice.enums.LotteryStatus.OPEN AND d.entryClosesAt < :now) "
+      + "OR (d.status = com.senibo.bookingservice.enums.LotteryStatus.DRAWING "
+      + "AND (d.claimedAt IS NULL OR d.claimedAt < :claimedBefore))")
+  List<LotteryDraw> findDue(LocalDateTime now, LocalDateTime claimedBefore);
+
+  boolean existsByEventIdAndStatusNot(UUID eventId, LotteryStatus status);
+}
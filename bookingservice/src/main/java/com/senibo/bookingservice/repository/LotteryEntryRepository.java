@@ -0,0 +1,16 @@
+package com.senibo.bookingservice.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.LotteryEntry;
+
+@Repository
+public interface LotteryEntryRepository extends JpaRepository<LotteryEntry, UUID> {
+  Optional<LotteryEntry> findByEventIdAndUserId(UUID eventId, UUID userId);
+
+  long countByEventId(UUID eventId);
+}
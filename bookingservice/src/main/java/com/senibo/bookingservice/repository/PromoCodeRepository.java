@@ -0,0 +1,24 @@
+package com.senibo.bookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.PromoCode;
+
+@Repository
+public interface PromoCodeRepository extends JpaRepository<PromoCode, UUID> {
+  boolean existsByCode(String code);
+
+  Optional<PromoCode> findByEventIdAndCode(UUID eventId, String code);
+
+  List<PromoCode> findByEventIdOrderByCreatedAt(UUID eventId);
+
+  List<PromoCode> findByActiveTrue();
+
+  List<PromoCode> findByUpdatedAtAfter(LocalDateTime updatedAt);
+}
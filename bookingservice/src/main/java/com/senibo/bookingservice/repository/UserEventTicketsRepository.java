@@ -0,0 +1,14 @@
+package com.senibo.bookingservice.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.UserEventTickets;
+
+@Repository
+public interface UserEventTicketsRepository extends JpaRepository<UserEventTickets, UUID> {
+  Optional<UserEventTickets> findByUserIdAndEventId(UUID userId, UUID eventId);
+}
@@ -0,0 +1,22 @@
+package com.senibo.bookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.bookingservice.entity.WaitlistEntry;
+import com.senibo.bookingservice.enums.WaitlistStatus;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+  Optional<WaitlistEntry> findFirstByEventIdAndUserIdAndStatusIn(UUID eventId, UUID userId,
+      Collection<WaitlistStatus> statuses);
+
+  Optional<WaitlistEntry> findFirstByEventIdAndUserIdOrderByCreatedAtDesc(UUID eventId, UUID userId);
+
+  long countByEventIdAndStatusAndCreatedAtBefore(UUID eventId, WaitlistStatus status, LocalDateTime createdAt);
+}
@@ -0,0 +1,175 @@
+package com.senibo.bookingservice.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.senibo.bookingservice.dto.AttendeeResponse;
+import com.senibo.bookingservice.dto.AttendeeRow;
+import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
+import com.senibo.bookingservice.enums.AttendeeExportFormat;
+import com.senibo.bookingservice.enums.BookingStatus;
+import com.senibo.bookingservice.repository.BookingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the confirmed attendees of an event for check-in.
+ * Bookings are read through a database cursor and handled USER_BATCH_SIZE at a
+ * time: one User Service call resolves the names and emails of a whole batch,
+ * the batch is written and flushed, and only then is the next one read.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AttendeeExportService {
+
+  private static final int USER_BATCH_SIZE = UserLookupService.MAX_BATCH_SIZE;
+
+  private static final String CSV_HEADER =
+      "booking_reference,booking_id,user_id,first_name,last_name,email,tickets,booked_at";
+
+  private final BookingRepository bookingRepository;
+  private final UserLookupService userLookupService;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(readOnly = true)
+  public void exportAttendees(UUID eventId, AttendeeExportFormat format, OutputStream out) throws IOException {
+    long exported = 0;
+
+    try (Stream<AttendeeRow> rows = bookingRepository.streamAttendees(eventId, BookingStatus.CONFIRMED);
+        AttendeeSink sink = format == AttendeeExportFormat.CSV ? new CsvSink(out) : new NdjsonSink(out)) {
+
+      List<AttendeeRow> batch = new ArrayList<>(USER_BATCH_SIZE);
+      Iterator<AttendeeRow> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        batch.add(iterator.next());
+        if (batch.size() == USER_BATCH_SIZE) {
+          exported += writeBatch(batch, sink);
+          batch.clear();
+        }
+      }
+      exported += writeBatch(batch, sink);
+    }
+
+    log.info("Exported {} attendees of event {} as {}", exported, eventId, format);
+  }
+
+  private int writeBatch(List<AttendeeRow> batch, AttendeeSink sink) throws IOException {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    // A failed lookup blanks the names of one batch instead of aborting a half-sent export
+    Map<UUID, UserResponse> users = userLookupService.getUsers(
+        batch.stream().map(AttendeeRow::userId).distinct().toList());
+    for (AttendeeRow row : batch) {
+      sink.write(AttendeeResponse.from(row, users.get(row.userId())));
+    }
+    sink.flush();
+    return batch.size();
+  }
+
+  private interface AttendeeSink extends AutoCloseable {
+
+    void write(AttendeeResponse attendee) throws IOException;
+
+    void flush() throws IOException;
+
+    // Flushes but leaves the response stream to its owner
+    @Override
+    void close() throws IOException;
+  }
+
+  private static final class CsvSink implements AttendeeSink {
+
+    private final Writer writer;
+
+    CsvSink(OutputStream out) throws IOException {
+      this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+
+    @Override
+    public void write(AttendeeResponse attendee) throws IOException {
+      writer.write(String.join(",",
+          cell(attendee.bookingReference()),
+          cell(attendee.bookingId()),
+          cell(attendee.userId()),
+          cell(attendee.firstname()),
+          cell(attendee.lastname()),
+          cell(attendee.email()),
+          cell(attendee.numberOfTickets()),
+          cell(attendee.bookedAt())));
+      writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+      writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.flush();
+    }
+
+    // RFC 4180 quoting; a leading formula character is defused for spreadsheet apps
+    private static String cell(Object value) {
+      if (value == null) {
+        return "";
+      }
+      String text = value.toString();
+      if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+        text = "'" + text;
+      }
+      if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+        text = "\"" + text.replace("\"", "\"\"") + "\"";
+      }
+      return text;
+    }
+  }
+
+  private final class NdjsonSink implements AttendeeSink {
+
+    private final JsonGenerator generator;
+
+    NdjsonSink(OutputStream out) throws IOException {
+      this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(AttendeeResponse attendee) throws IOException {
+      generator.writeObject(attendee);
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+      generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
+}
@@ -15,5 +15,8 @@ public interface BookingService {
   BookingResponse getBookingById(UUID bookingId, UUID userId);
 
   void deleteBooking(UUID bookingId, UUID userId);
+
+  // Books the tickets held for the user by a waitlist offer
+  BookingResponse acceptWaitlistOffer(UUID eventId, UUID userId);
   
 }
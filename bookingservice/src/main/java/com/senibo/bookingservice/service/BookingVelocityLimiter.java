@@ -0,0 +1,167 @@
+package com.senibo.bookingservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sliding-window limit on booking attempts per user and per client IP, checked
+ * before a booking makes any remote call.
+ * The window is a ring of BUCKETS time buckets, each a count-min sketch of
+ * DEPTH x WIDTH counters (conservative update), so memory is fixed at about
+ * 1.3 MB however many users or addresses show up. Estimates only ever err
+ * high, by a few attempts when a bucket holds hundreds of thousands.
+ * A check is a handful of hashes and array reads: rejected clients never touch
+ * the database or another service. Every attempt counts, rejected ones included,
+ * so a client that keeps hammering stays blocked.
+ */
+@Service
+public class BookingVelocityLimiter {
+
+  private static final int BUCKETS = 5;
+  private static final int DEPTH = 4;
+  private static final int WIDTH = 1 << 14;
+
+  private static final long[] SEEDS = {
+      0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L };
+
+  // Keeps a user ID and an address from landing on the same counters by design
+  private static final long USER_KEY = 0x5555555555555555L;
+  private static final long IP_KEY = 0x3333333333333333L;
+
+  private final Bucket[] buckets = new Bucket[BUCKETS];
+  private final long bucketMillis;
+  private final int userLimit;
+  private final int ipLimit;
+
+  private final Counter blockedByUser;
+  private final Counter blockedByIp;
+
+  public BookingVelocityLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${app.booking.velocity.window-seconds:10}") int windowSeconds,
+      @Value("${app.booking.velocity.user-limit:5}") int userLimit,
+      @Value("${app.booking.velocity.ip-limit:20}") int ipLimit) {
+    this.bucketMillis = Math.max(1, windowSeconds * 1000L / BUCKETS);
+    this.userLimit = userLimit;
+    this.ipLimit = ipLimit;
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new Bucket();
+    }
+
+    this.blockedByUser = Counter.builder("booking.velocity.blocked")
+        .description("Booking attempts rejected by the velocity limiter")
+        .tag("policy", "user")
+        .register(meterRegistry);
+    this.blockedByIp = Counter.builder("booking.velocity.blocked")
+        .description("Booking attempts rejected by the velocity limiter")
+        .tag("policy", "ip")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Counts one booking attempt, or rejects it when the user or the address is over
+   * its limit for the window. A limit of 0 or less turns that policy off.
+   */
+  public void check(UUID userId, String clientIp) {
+    long slot = System.currentTimeMillis() / bucketMillis;
+    Bucket current = current(slot);
+
+    if (userLimit > 0 && count(current, slot, hash(userId) ^ USER_KEY) > userLimit) {
+      blockedByUser.increment();
+      throw tooMany();
+    }
+    if (ipLimit > 0 && clientIp != null && count(current, slot, hash(clientIp) ^ IP_KEY) > ipLimit) {
+      blockedByIp.increment();
+      throw tooMany();
+    }
+  }
+
+  // Adds the attempt to the current bucket and returns the key's estimate over the window
+  private int count(Bucket current, long slot, long key) {
+    int[] columns = new int[DEPTH];
+    int smallest = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      columns[row] = row * WIDTH + column(key, row);
+      smallest = Math.min(smallest, current.counts.get(columns[row]));
+    }
+    // Conservative update: only the counters at the estimate grow. Racing attempts
+    // may both increment, which errs high like the sketch itself.
+    for (int row = 0; row < DEPTH; row++) {
+      if (current.counts.get(columns[row]) == smallest) {
+        current.counts.incrementAndGet(columns[row]);
+      }
+    }
+
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      int sum = 0;
+      for (Bucket bucket : buckets) {
+        long age = slot - bucket.slot;
+        if (age >= 0 && age < BUCKETS) {
+          sum += bucket.counts.get(columns[row]);
+        }
+      }
+      estimate = Math.min(estimate, sum);
+    }
+    return estimate;
+  }
+
+  // The bucket for this slot, wiped first if it still holds an older slot
+  private Bucket current(long slot) {
+    Bucket bucket = buckets[(int) (slot % BUCKETS)];
+    if (bucket.slot != slot) {
+      synchronized (bucket) {
+        if (bucket.slot != slot) {
+          for (int i = 0; i < DEPTH * WIDTH; i++) {
+            bucket.counts.set(i, 0);
+          }
+          bucket.slot = slot;
+        }
+      }
+    }
+    return bucket;
+  }
+
+  private TooManyRequestsException tooMany() {
+    return new TooManyRequestsException("Too many booking attempts. Please slow down and try again shortly.",
+        Math.max(1, (bucketMillis + 999) / 1000));
+  }
+
+  private static long hash(UUID userId) {
+    return userId.getMostSignificantBits() * 31 + userId.getLeastSignificantBits();
+  }
+
+  private static long hash(String value) {
+    long hash = 0xCBF29CE484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash = (hash ^ b) * 0x100000001B3L;
+    }
+    return hash;
+  }
+
+  private static int column(long key, int row) {
+    long hash = key ^ SEEDS[row];
+    // murmur3 fmix64
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return (int) hash & (WIDTH - 1);
+  }
+
+  private static final class Bucket {
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(DEPTH * WIDTH);
+    private volatile long slot = -1;
+  }
+}
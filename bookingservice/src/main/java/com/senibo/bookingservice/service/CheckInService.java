@@ -0,0 +1,253 @@
+package com.senibo.bookingservice.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.dto.CheckInResponse;
+import com.senibo.bookingservice.entity.UuidV7Generator;
+import com.senibo.bookingservice.enums.CheckInResult;
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.service.TicketTokenSigner.Ticket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Door check-in of signed tickets without touching the bookings table per scan.
+ * Each event being scanned on this replica keeps two bitsets indexed by ticket
+ * serial: admitted and cancelled. A scan is a signature check plus one CAS, so a
+ * second scan of the same ticket is caught at once. Admissions are written to
+ * ticket_check_ins in batches every sync interval; the same pass picks up the
+ * check-ins and cancellations recorded by other replicas since the last one.
+ * A ticket scanned at two replicas within one interval is admitted twice, and the
+ * unique key on ticket_check_ins reports it; route an event's gates to one replica
+ * to rule that out.
+ */
+@Service
+@Slf4j
+public class CheckInService {
+
+  private static final String RECORD_CHECK_IN = "INSERT INTO ticket_check_ins "
+      + "(id, event_id, serial, booking_id, gate, checked_in_at, recorded_at) VALUES (?, ?, ?, ?, ?, ?, now()) "
+      + "ON CONFLICT (event_id, serial) DO NOTHING";
+
+  private static final String CHECKED_IN_SINCE = "SELECT serial FROM ticket_check_ins "
+      + "WHERE event_id = ? AND recorded_at > ?";
+
+  private static final String CANCELLED_SINCE = "SELECT ticket_serial, number_of_tickets FROM bookings "
+      + "WHERE event_id = ? AND status = 'CANCELLED' AND ticket_serial IS NOT NULL AND updated_at > ?";
+
+  // Rows committed slightly out of timestamp order are still picked up by the next sync
+  private static final long SYNC_OVERLAP_SECONDS = 10;
+
+  // Events nobody has scanned for this long are dropped from memory
+  private static final Duration IDLE_EVICTION = Duration.ofHours(6);
+
+  private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final TicketTokenSigner ticketTokenSigner;
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Map<UUID, EventDoor> doors = new ConcurrentHashMap<>();
+  private final Queue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+
+  public CheckInService(TicketTokenSigner ticketTokenSigner, JdbcTemplate jdbcTemplate) {
+    this.ticketTokenSigner = ticketTokenSigner;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Results in the order of the tokens; a bad token never fails the batch.
+   */
+  public List<CheckInResponse> checkIn(UUID eventId, List<String> tokens, String gate) {
+    LocalDateTime now = LocalDateTime.now();
+    List<CheckInResponse> results = new ArrayList<>(tokens.size());
+    for (String token : tokens) {
+      results.add(scan(eventId, token, gate, now));
+    }
+    return results;
+  }
+
+  @Scheduled(fixedDelayString = "${app.check-in.sync-interval-ms:2000}")
+  public void sync() {
+    flush();
+
+    for (Map.Entry<UUID, EventDoor> entry : doors.entrySet()) {
+      try {
+        pull(entry.getKey(), entry.getValue());
+      } catch (DataAccessException e) {
+        log.warn("Check-in sync failed for event {}, retrying next interval: {}", entry.getKey(), e.getMessage());
+      }
+    }
+
+    long idleBefore = System.currentTimeMillis() - IDLE_EVICTION.toMillis();
+    doors.values().removeIf(door -> door.lastScanMs < idleBefore);
+  }
+
+  // Don't lose the last interval's admissions on a graceful shutdown
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private CheckInResponse scan(UUID eventId, String token, String gate, LocalDateTime now) {
+    Ticket ticket;
+    try {
+      ticket = ticketTokenSigner.verify(token);
+    } catch (BookingException e) {
+      return CheckInResponse.of(CheckInResult.INVALID, null);
+    }
+    if (!ticket.eventId().equals(eventId)) {
+      return CheckInResponse.of(CheckInResult.WRONG_EVENT, ticket);
+    }
+    if (ticket.serial() < 0 || ticket.serial() >= TicketBits.CAPACITY) {
+      return CheckInResponse.of(CheckInResult.INVALID, ticket);
+    }
+
+    EventDoor door = doors.computeIfAbsent(eventId, this::load);
+    door.lastScanMs = System.currentTimeMillis();
+
+    if (door.cancelled.get(ticket.serial())) {
+      return CheckInResponse.of(CheckInResult.CANCELLED, ticket);
+    }
+    if (!door.admitted.set(ticket.serial())) {
+      return CheckInResponse.of(CheckInResult.ALREADY_CHECKED_IN, ticket);
+    }
+    pending.add(new PendingCheckIn(eventId, ticket.serial(), ticket.bookingId(), gate, now));
+    return CheckInResponse.of(CheckInResult.ADMITTED, ticket);
+  }
+
+  // First scan of an event on this replica: everything recorded so far
+  private EventDoor load(UUID eventId) {
+    EventDoor door = new EventDoor();
+    pull(eventId, door);
+    log.info("Check-in opened for event {} on this replica", eventId);
+    return door;
+  }
+
+  private void pull(UUID eventId, EventDoor door) {
+    LocalDateTime pulledAt = LocalDateTime.now();
+    Timestamp since = Timestamp.valueOf(door.syncedUpTo.minusSeconds(SYNC_OVERLAP_SECONDS));
+
+    jdbcTemplate.query(CHECKED_IN_SINCE,
+        (RowCallbackHandler) rs -> door.admitted.set(rs.getInt(1)),
+        eventId, since);
+    jdbcTemplate.query(CANCELLED_SINCE,
+        (RowCallbackHandler) rs -> door.cancelled.setRange(rs.getInt(1), rs.getInt(2)),
+        eventId, since);
+
+    door.syncedUpTo = pulledAt;
+  }
+
+  private void flush() {
+    List<PendingCheckIn> batch = new ArrayList<>();
+    for (PendingCheckIn checkIn; (checkIn = pending.poll()) != null;) {
+      batch.add(checkIn);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<Object[]> rows = new ArrayList<>(batch.size());
+    for (PendingCheckIn checkIn : batch) {
+      rows.add(new Object[] {
+          UuidV7Generator.next(), checkIn.eventId(), checkIn.serial(), checkIn.bookingId(), checkIn.gate(),
+          Timestamp.valueOf(checkIn.checkedInAt()) });
+    }
+
+    try {
+      int[] inserted = jdbcTemplate.batchUpdate(RECORD_CHECK_IN, rows);
+      for (int i = 0; i < inserted.length; i++) {
+        if (inserted[i] == 0) {
+          PendingCheckIn duplicate = batch.get(i);
+          log.warn("Ticket admitted twice: eventId={}, serial={}, bookingId={}, gate={}",
+              duplicate.eventId(), duplicate.serial(), duplicate.bookingId(), duplicate.gate());
+        }
+      }
+      log.debug("Recorded {} check-ins", batch.size());
+    } catch (DataAccessException e) {
+      // Keep them for the next sync
+      pending.addAll(batch);
+      log.warn("Recording {} check-ins failed, retrying next interval: {}", batch.size(), e.getMessage());
+    }
+  }
+
+  private static final class EventDoor {
+
+    private final TicketBits admitted = new TicketBits();
+    private final TicketBits cancelled = new TicketBits();
+    private volatile LocalDateTime syncedUpTo = EPOCH;
+    private volatile long lastScanMs = System.currentTimeMillis();
+  }
+
+  /**
+   * Lock-free bitset over ticket serials, allocated in 8 KB pages as serials are seen.
+   */
+  private static final class TicketBits {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGES = 64;
+    private static final int CAPACITY = PAGES << PAGE_SHIFT;
+
+    private final AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(PAGES);
+
+    // Sets the bit; false when it was already set
+    boolean set(int serial) {
+      if (serial < 0 || serial >= CAPACITY) {
+        return false;
+      }
+      AtomicLongArray page = page(serial);
+      int word = (serial & ((1 << PAGE_SHIFT) - 1)) >>> 6;
+      long mask = 1L << serial;
+      while (true) {
+        long current = page.get(word);
+        if ((current & mask) != 0) {
+          return false;
+        }
+        if (page.compareAndSet(word, current, current | mask)) {
+          return true;
+        }
+      }
+    }
+
+    void setRange(int from, int count) {
+      for (int serial = from; serial < from + count; serial++) {
+        set(serial);
+      }
+    }
+
+    boolean get(int serial) {
+      AtomicLongArray page = pages.get(serial >>> PAGE_SHIFT);
+      return page != null && (page.get((serial & ((1 << PAGE_SHIFT) - 1)) >>> 6) & (1L << serial)) != 0;
+    }
+
+    private AtomicLongArray page(int serial) {
+      int index = serial >>> PAGE_SHIFT;
+      AtomicLongArray page = pages.get(index);
+      if (page == null) {
+        pages.compareAndSet(index, null, new AtomicLongArray((1 << PAGE_SHIFT) >>> 6));
+        page = pages.get(index);
+      }
+      return page;
+    }
+  }
+
+  private record PendingCheckIn(UUID eventId, int serial, UUID bookingId, String gate, LocalDateTime checkedInAt) {
+  }
+}
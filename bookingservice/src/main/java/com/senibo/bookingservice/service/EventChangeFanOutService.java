@@ -0,0 +1,178 @@
+package com.senibo.bookingservice.service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
+import com.senibo.bookingservice.dto.kafka.BookingCancelledEvent;
+import com.senibo.bookingservice.dto.kafka.BookingRescheduledEvent;
+import com.senibo.bookingservice.dto.kafka.EventChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies an event cancellation or reschedule to every booking of the event.
+ * Bookings are walked in (created_at, id) keyset chunks of CHUNK_SIZE over
+ * idx_bookings_event_status_created. Each chunk is one auto-committed statement,
+ * so no transaction or row lock outlives a chunk, and each chunk costs one
+ * User Service call and one burst of Kafka notifications.
+ * Re-running a fan-out is safe: cancelled bookings no longer match.
+ * A cancellation also closes the event's waitlist.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EventChangeFanOutService {
+
+  private static final int CHUNK_SIZE = UserLookupService.MAX_BATCH_SIZE;
+
+  private static final String EVENT_CANCELLED_REASON = "The event was cancelled by the organizer";
+
+  // Bookings still holding tickets; PENDING ones are caught too so an in-flight confirmation fails its version check.
+  // Their previous status comes back so only confirmed bookings are announced (and taken off the sales figures)
+  private static final String CANCEL_CHUNK = "WITH chunk AS ("
+      + "SELECT id, status FROM bookings WHERE event_id = ? AND status IN ('PENDING', 'CONFIRMED') "
+      + "AND (created_at, id) > (COALESCE(?::timestamp, '-infinity'::timestamp), ?::uuid) "
+      + "ORDER BY created_at, id LIMIT ? FOR UPDATE), "
+      + "cancelled AS (UPDATE bookings b SET status = 'CANCELLED', updated_at = ?, version = COALESCE(b.version, 0) + 1 "
+      + "FROM chunk WHERE b.id = chunk.id "
+      + "RETURNING b.id, b.user_id, b.number_of_tickets, b.total_price, b.booking_reference, b.created_at, "
+      + "chunk.status AS previous_status) "
+      + "SELECT * FROM cancelled ORDER BY created_at, id";
+
+  private static final String CONFIRMED_CHUNK = "SELECT id, user_id, number_of_tickets, total_price, "
+      + "booking_reference, created_at, status AS previous_status FROM bookings WHERE event_id = ? AND status = 'CONFIRMED' "
+      + "AND (created_at, id) > (COALESCE(?::timestamp, '-infinity'::timestamp), ?::uuid) "
+      + "ORDER BY created_at, id LIMIT ?";
+
+  private static final RowMapper<BookingRow> BOOKING_ROW = BookingRow::from;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final UserLookupService userLookupService;
+  private final KafkaProducerService kafkaProducerService;
+  private final WaitlistService waitlistService;
+
+  public void handle(EventChangedEvent change) {
+    long started = System.nanoTime();
+    int[] totals = {0, 0};
+
+    switch (change.changeType()) {
+      case CANCELLED -> {
+        waitlistService.cancelForEvent(change.eventId());
+        forEachChunk(change.eventId(), CANCEL_CHUNK, true, (chunk, users) -> {
+          totals[0] += chunk.size();
+          List<BookingRow> confirmed = chunk.stream().filter(BookingRow::wasConfirmed).toList();
+          totals[1] += notify(change.eventId(), confirmed, users, (row, user) -> new BookingCancelledEvent(
+              row.id(), change.eventId(), row.userId(), email(user), change.title(), row.numberOfTickets(),
+              row.totalPrice(), row.bookingReference(), change.startDateTime(), EVENT_CANCELLED_REASON));
+        });
+      }
+
+      case RESCHEDULED -> forEachChunk(change.eventId(), CONFIRMED_CHUNK, false, (chunk, users) -> {
+        totals[0] += chunk.size();
+        totals[1] += notify(change.eventId(), chunk, users, (row, user) -> new BookingRescheduledEvent(
+            row.id(), change.eventId(), row.userId(), email(user), change.title(), change.venue(),
+            row.numberOfTickets(), row.bookingReference(), change.previousStartDateTime(),
+            change.startDateTime()));
+      });
+    }
+
+    log.info("Event {} {}: {} bookings processed, {} notifications queued in {} ms",
+        change.eventId(), change.changeType(), totals[0], totals[1], (System.nanoTime() - started) / 1_000_000);
+  }
+
+  private void forEachChunk(UUID eventId, String sql, boolean cancelling, ChunkHandler handler) {
+    LocalDateTime afterCreatedAt = null;
+    UUID afterId = null;
+
+    while (true) {
+      List<BookingRow> chunk = cancelling
+          ? jdbcTemplate.query(sql, BOOKING_ROW, eventId, timestamp(afterCreatedAt), afterId, CHUNK_SIZE,
+              Timestamp.valueOf(LocalDateTime.now()))
+          : jdbcTemplate.query(sql, BOOKING_ROW, eventId, timestamp(afterCreatedAt), afterId, CHUNK_SIZE);
+      if (chunk.isEmpty()) {
+        return;
+      }
+
+      Map<UUID, UserResponse> users = userLookupService.getUsers(
+          chunk.stream().map(BookingRow::userId).distinct().toList());
+      handler.handle(chunk, users);
+
+      if (chunk.size() < CHUNK_SIZE) {
+        return;
+      }
+      BookingRow last = chunk.get(chunk.size() - 1);
+      afterCreatedAt = last.createdAt();
+      afterId = last.id();
+    }
+  }
+
+  // Published even without an address: sales stats count every booking change
+  private int notify(UUID eventId, List<BookingRow> chunk, Map<UUID, UserResponse> users,
+      BiFunction<BookingRow, UserResponse, Object> toEvent) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+    List<Object> events = new ArrayList<>(chunk.size());
+    int unresolved = 0;
+    for (BookingRow row : chunk) {
+      UserResponse user = users.get(row.userId());
+      if (user == null || user.email() == null) {
+        unresolved++;
+      }
+      events.add(toEvent.apply(row, user));
+    }
+
+    if (unresolved > 0) {
+      log.warn("{} of {} bookings have no email to notify (user lookup failed)", unresolved, chunk.size());
+    }
+    kafkaProducerService.publishBookingEvents(eventId, events);
+    return events.size() - unresolved;
+  }
+
+  private static String email(UserResponse user) {
+    return user != null ? user.email() : null;
+  }
+
+  private static Timestamp timestamp(LocalDateTime value) {
+    return value != null ? Timestamp.valueOf(value) : null;
+  }
+
+  @FunctionalInterface
+  private interface ChunkHandler {
+    void handle(List<BookingRow> chunk, Map<UUID, UserResponse> users);
+  }
+
+  private record BookingRow(UUID id, UUID userId, Integer numberOfTickets, BigDecimal totalPrice,
+      String bookingReference, LocalDateTime createdAt, String previousStatus) {
+
+    // PENDING bookings were never counted as sold and their holder was never told they had one
+    boolean wasConfirmed() {
+      return "CONFIRMED".equals(previousStatus);
+    }
+
+    static BookingRow from(ResultSet rs, int rowNum) throws SQLException {
+      return new BookingRow(
+          rs.getObject("id", UUID.class),
+          rs.getObject("user_id", UUID.class),
+          rs.getInt("number_of_tickets"),
+          rs.getBigDecimal("total_price"),
+          rs.getString("booking_reference"),
+          rs.getObject("created_at", LocalDateTime.class),
+          rs.getString("previous_status"));
+    }
+  }
+}
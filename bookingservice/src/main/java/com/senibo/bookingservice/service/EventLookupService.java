@@ -0,0 +1,86 @@
+package com.senibo.bookingservice.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.senibo.bookingservice.client.EventServiceClient;
+import com.senibo.bookingservice.dto.ApiSuccessResponse;
+import com.senibo.bookingservice.dto.clientDTOs.EventResponse;
+import com.senibo.bookingservice.exception.NotFoundException;
+import com.senibo.bookingservice.exception.NotModifiedException;
+import com.senibo.bookingservice.exception.UnauthorizedException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches events from Event Service using conditional GETs.
+ * The last seen representation is kept per event together with its ETag, so
+ * repeated lookups of an unchanged event cost a bodiless 304 round trip.
+ */
+@Service
+@Slf4j
+public class EventLookupService {
+
+  private final EventServiceClient eventServiceClient;
+  private final Cache<UUID, CachedEvent> cache = Caffeine.newBuilder()
+      .maximumSize(5_000)
+      .expireAfterAccess(Duration.ofMinutes(10))
+      .build();
+
+  public EventLookupService(EventServiceClient eventServiceClient) {
+    this.eventServiceClient = eventServiceClient;
+  }
+
+  /**
+   * Returns the current event details.
+   * Feign exceptions (404, 5xx...) are passed through to the caller unchanged.
+   */
+  public EventResponse getEvent(UUID eventId) {
+    CachedEvent cached = cache.getIfPresent(eventId);
+
+    try {
+      ResponseEntity<ApiSuccessResponse<EventResponse>> response = eventServiceClient.getEventIfChanged(
+          eventId, cached != null ? cached.etag() : null);
+
+      ApiSuccessResponse<EventResponse> body = response.getBody();
+      EventResponse event = body != null ? body.data() : null;
+      String etag = response.getHeaders().getETag();
+
+      if (event != null && etag != null) {
+        cache.put(eventId, new CachedEvent(etag, event));
+      }
+      return event;
+
+    } catch (NotModifiedException e) {
+      if (cached == null) {
+        // We never send If-None-Match without a cached copy, so this should not happen
+        throw new IllegalStateException("Event Service returned 304 for an uncached event: " + eventId);
+      }
+      log.debug("Event {} not modified, using cached copy", eventId);
+      return cached.event();
+    }
+  }
+
+  /**
+   * Returns the event after checking that the user organizes it.
+   * Used by the organizer-only views of an event's bookings.
+   */
+  public EventResponse verifyOrganizer(UUID eventId, UUID userId) {
+    EventResponse event = getEvent(eventId);
+    if (event == null) {
+      throw new NotFoundException("Event not found: " + eventId);
+    }
+    if (!userId.equals(event.organizerId())) {
+      throw new UnauthorizedException("Only the organizer of this event can view its bookings");
+    }
+    return event;
+  }
+
+  private record CachedEvent(String etag, EventResponse event) {
+  }
+}
@@ -1,5 +1,8 @@
 package com.senibo.bookingservice.service;
 
+import java.util.List;
+import java.util.UUID;
+
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
@@ -11,19 +14,35 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 public class KafkaProducerService {
+
+  public static final String BOOKING_EVENTS_TOPIC = "booking-events";
+
+  // Event cancellations and reschedules, published by Event Service
+  public static final String EVENT_CHANGES_TOPIC = "event-changes";
+
   private final KafkaTemplate<String, Object> kafkaTemplate;
 
   public KafkaProducerService(KafkaTemplate<String, Object> kafkaTemplate) {
     this.kafkaTemplate = kafkaTemplate;
   }
 
+  // Booking events are keyed by event ID, so each event's changes stay in order on one partition
   public void publishBookingConfirmedEvent(BookingConfirmedEvent event) {
     log.info("Publishing Booking Confirmed Event to Kafka: {} for user {}", event, event.userId());
-    kafkaTemplate.send("booking-events", event);
+    kafkaTemplate.send(BOOKING_EVENTS_TOPIC, event.eventId().toString(), event);
   }
 
   public void publishBookingCancelledEvent(BookingCancelledEvent event) {
     log.info("Publishing Booking Cancelled Event to Kafka: {} for user {}", event, event.userId());
-    kafkaTemplate.send("booking-events", event);
+    kafkaTemplate.send(BOOKING_EVENTS_TOPIC, event.eventId().toString(), event);
+  }
+
+  /**
+   * Queue one chunk of fan-out notifications.
+   * Sends are not awaited one by one: the producer groups them into batches (linger.ms).
+   */
+  public void publishBookingEvents(UUID eventId, List<?> events) {
+    log.info("Publishing {} booking notifications to Kafka for event {}", events.size(), eventId);
+    events.forEach(event -> kafkaTemplate.send(BOOKING_EVENTS_TOPIC, eventId.toString(), event));
   }
 }
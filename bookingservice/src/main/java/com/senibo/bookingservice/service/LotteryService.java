@@ -0,0 +1,436 @@
+package com.senibo.bookingservice.service;
+
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.senibo.bookingservice.client.EventServiceClient;
+import com.senibo.bookingservice.dto.CreateLotteryRequest;
+import com.senibo.bookingservice.dto.LotteryEntryResponse;
+import com.senibo.bookingservice.dto.LotteryResponse;
+import com.senibo.bookingservice.dto.clientDTOs.EventResponse;
+import com.senibo.bookingservice.dto.clientDTOs.UpdateTicketsRequest;
+import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
+import com.senibo.bookingservice.dto.kafka.BookingConfirmedEvent;
+import com.senibo.bookingservice.entity.LotteryDraw;
+import com.senibo.bookingservice.entity.UuidV7Generator;
+import com.senibo.bookingservice.enums.EventStatus;
+import com.senibo.bookingservice.enums.LotteryStatus;
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.exception.EventNotPublishedException;
+import com.senibo.bookingservice.exception.NotFoundException;
+import com.senibo.bookingservice.repository.LotteryDrawRepository;
+import com.senibo.bookingservice.repository.LotteryEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pre-sale lottery for events where first-come-first-served would stampede the
+ * inventory. While the entry window is open, users register intent with one
+ * conditional insert each; direct bookings are refused. When it closes, one replica
+ * claims the draw, shuffles the entries and allocates the available tickets in a
+ * single pass: one inventory call for the whole allocation, winners' bookings and
+ * entry results written in JDBC batches in one transaction, confirmations queued in
+ * chunks afterwards. Tickets the draw doesn't use go on general sale.
+ * The winners and their ticket total are stored before the inventory call, so a draw
+ * that failed or whose replica died is claimed again and resumed with the same
+ * allocation, never drawn afresh from an already reduced count.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LotteryService {
+
+  private static final int BATCH_SIZE = UserLookupService.MAX_BATCH_SIZE;
+
+  private static final int MAX_REFERENCE_ATTEMPTS = 10;
+
+  // The window check is part of the insert, so an entry can't slip in after the draw was claimed
+  private static final String INSERT_ENTRY = "INSERT INTO lottery_entries "
+      + "(id, event_id, user_id, number_of_tickets, status, created_at) "
+      + "SELECT ?, ?, ?, ?, 'ENTERED', ? WHERE EXISTS (SELECT 1 FROM lottery_draws "
+      + "WHERE event_id = ? AND status = 'OPEN' AND entry_closes_at > ?) "
+      + "ON CONFLICT (event_id, user_id) DO NOTHING";
+
+  // An open lottery past its entry window, or a draw whose claim was released or has expired
+  private static final String CLAIM_DRAW = "UPDATE lottery_draws SET status = 'DRAWING', claimed_at = ? "
+      + "WHERE event_id = ? AND ((status = 'OPEN' AND entry_closes_at < ?) "
+      + "OR (status = 'DRAWING' AND (claimed_at IS NULL OR claimed_at < ?)))";
+
+  private static final String HOLDS_CLAIM = "SELECT COUNT(*) FROM lottery_draws "
+      + "WHERE event_id = ? AND status = 'DRAWING' AND claimed_at = ?";
+
+  private static final String RELEASE_DRAW = "UPDATE lottery_draws SET claimed_at = NULL "
+      + "WHERE event_id = ? AND status = 'DRAWING' AND claimed_at = ?";
+
+  private static final String RECORD_ALLOCATION = "UPDATE lottery_draws SET tickets_allocated = ?, "
+      + "available_before = ? WHERE event_id = ? AND status = 'DRAWING' AND claimed_at = ? "
+      + "AND tickets_allocated IS NULL";
+
+  private static final String FINISH_DRAW = "UPDATE lottery_draws SET status = 'DRAWN', drawn_at = ?, "
+      + "winners = ? WHERE event_id = ? AND status = 'DRAWING' AND claimed_at = ?";
+
+  private static final String OPEN_ENTRIES = "SELECT id, user_id, number_of_tickets FROM lottery_entries "
+      + "WHERE event_id = ? AND status = 'ENTERED'";
+
+  private static final String SELECTED_ENTRIES = "SELECT id, user_id, number_of_tickets FROM lottery_entries "
+      + "WHERE event_id = ? AND status = 'SELECTED' ORDER BY id";
+
+  private static final String MARK_SELECTED = "UPDATE lottery_entries SET status = 'SELECTED' "
+      + "WHERE id = ? AND status = 'ENTERED'";
+
+  private static final String INSERT_BOOKING = "INSERT INTO bookings (id, user_id, event_id, number_of_tickets, "
+      + "ticket_serial, total_price, status, booking_reference, created_at, updated_at, version) "
+      + "VALUES (?, ?, ?, ?, ?, ?, 'CONFIRMED', ?, ?, ?, 0) ON CONFLICT (booking_reference) DO NOTHING";
+
+  private static final String MARK_WON = "UPDATE lottery_entries SET status = 'WON', booking_id = ? "
+      + "WHERE id = ? AND status = 'SELECTED'";
+
+  private static final String MARK_LOST = "UPDATE lottery_entries SET status = 'LOST' "
+      + "WHERE event_id = ? AND status = 'ENTERED'";
+
+  private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(
+      rs.getObject("id", UUID.class), rs.getObject("user_id", UUID.class), rs.getInt("number_of_tickets"));
+
+  private final LotteryDrawRepository lotteryDrawRepository;
+  private final LotteryEntryRepository lotteryEntryRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final EventServiceClient eventServiceClient;
+  private final EventLookupService eventLookupService;
+  private final UserLookupService userLookupService;
+  private final TicketService ticketService;
+  private final TicketCapService ticketCapService;
+  private final KafkaProducerService kafkaProducerService;
+
+  private final SecureRandom random = new SecureRandom();
+
+  @Value("${app.internal-service-key}")
+  private String internalServiceKey;
+
+  // A DRAWING lottery whose claim is older than this is taken to be abandoned and claimed again
+  @Value("${app.lottery.draw-lease-ms:600000}")
+  private long drawLeaseMs;
+
+  public LotteryResponse open(UUID eventId, CreateLotteryRequest request) {
+    if (lotteryDrawRepository.existsById(eventId)) {
+      throw new BookingException("This event already has a lottery");
+    }
+    EventResponse event = eventLookupService.getEvent(eventId);
+    if (event == null) {
+      throw new NotFoundException("Event not found: " + eventId);
+    }
+    if (Boolean.TRUE.equals(event.reservedSeating()) || (event.tiers() != null && !event.tiers().isEmpty())
+        || Boolean.TRUE.equals(event.dynamicPricing())) {
+      throw new BookingException("Lotteries are only available for general admission events with a fixed price");
+    }
+
+    LotteryDraw draw = lotteryDrawRepository.save(LotteryDraw.builder()
+        .eventId(eventId)
+        .status(LotteryStatus.OPEN)
+        .entryClosesAt(request.entryClosesAt())
+        .build());
+
+    log.info("Lottery opened for event {}, entries close at {}", eventId, request.entryClosesAt());
+    return LotteryResponse.from(draw, 0);
+  }
+
+  public LotteryResponse getLottery(UUID eventId) {
+    LotteryDraw draw = lotteryDrawRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("This event has no lottery"));
+    return LotteryResponse.from(draw, lotteryEntryRepository.countByEventId(eventId));
+  }
+
+  public LotteryEntryResponse enter(UUID eventId, UUID userId, int numberOfTickets) {
+    EventResponse event = eventLookupService.getEvent(eventId);
+    if (event == null) {
+      throw new NotFoundException("Event not found: " + eventId);
+    }
+    if (event.status() != EventStatus.PUBLISHED) {
+      throw new EventNotPublishedException(
+          String.format("Event '%s' is not published. Current status: %s", event.title(), event.status()));
+    }
+    if (numberOfTickets > ticketCapService.limitFor(event)) {
+      throw new BookingException(String.format(
+          "You can book at most %d tickets for this event", ticketCapService.limitFor(event)));
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int inserted = jdbcTemplate.update(INSERT_ENTRY,
+        UuidV7Generator.next(), eventId, userId, numberOfTickets, now, eventId, now);
+
+    if (inserted == 0) {
+      if (lotteryEntryRepository.findByEventIdAndUserId(eventId, userId).isPresent()) {
+        throw new BookingException("You have already entered the lottery for this event");
+      }
+      throw new BookingException("The lottery for this event is not open for entries");
+    }
+    return getEntry(eventId, userId);
+  }
+
+  public LotteryEntryResponse getEntry(UUID eventId, UUID userId) {
+    return lotteryEntryRepository.findByEventIdAndUserId(eventId, userId)
+        .map(LotteryEntryResponse::from)
+        .orElseThrow(() -> new NotFoundException("You have not entered the lottery for this event"));
+  }
+
+  // Direct bookings wait for the draw
+  public void ensureOnGeneralSale(UUID eventId) {
+    if (lotteryDrawRepository.existsByEventIdAndStatusNot(eventId, LotteryStatus.DRAWN)) {
+      throw new BookingException("Tickets for this event are allocated by lottery. Enter the lottery instead.");
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.lottery.draw-interval-ms:30000}")
+  public void drawClosedLotteries() {
+    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    Timestamp claimedAt = Timestamp.valueOf(now);
+    Timestamp staleBefore = Timestamp.valueOf(now.minus(drawLeaseMs, ChronoUnit.MILLIS));
+    for (LotteryDraw due : lotteryDrawRepository.findDue(now, staleBefore.toLocalDateTime())) {
+      // Only the replica whose claim succeeds draws
+      if (jdbcTemplate.update(CLAIM_DRAW, claimedAt, due.getEventId(), claimedAt, staleBefore) != 1) {
+        continue;
+      }
+      try {
+        draw(due.getEventId(), claimedAt);
+      } catch (RuntimeException e) {
+        // Every step below can be resumed, so the next run picks the draw up where it stopped
+        jdbcTemplate.update(RELEASE_DRAW, due.getEventId(), claimedAt);
+        log.error("Lottery draw failed for event {}, resuming next run", due.getEventId(), e);
+      }
+    }
+  }
+
+  private void draw(UUID eventId, Timestamp claimedAt) {
+    long started = System.nanoTime();
+    EventResponse event = eventServiceClient.getEvent(eventId).data();
+
+    // 1. Winners and their tickets are chosen once and stored; a resumed draw reuses them
+    LotteryDraw draw = lotteryDrawRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("This event has no lottery"));
+    if (draw.getTicketsAllocated() == null) {
+      chooseWinners(eventId, event, claimedAt);
+      draw = lotteryDrawRepository.findById(eventId)
+          .orElseThrow(() -> new NotFoundException("This event has no lottery"));
+    }
+    int allocated = draw.getTicketsAllocated();
+
+    // 2. Take them from the inventory, unless an earlier attempt already did
+    if (allocated > 0) {
+      takeTickets(eventId, event.availableTickets(), draw.getAvailableBefore(), allocated, claimedAt);
+    }
+
+    // 3. Book the winners
+    List<Entry> winners = jdbcTemplate.query(SELECTED_ENTRIES, ENTRY_MAPPER, eventId);
+    List<Booked> booked = settle(eventId, event.price(), winners, allocated, claimedAt);
+
+    int notified = notifyWinners(event, booked);
+    log.info("Lottery drawn for event {}: {} winners, {} tickets, {} confirmations queued in {} ms",
+        eventId, winners.size(), allocated, notified, (System.nanoTime() - started) / 1_000_000);
+  }
+
+  private void chooseWinners(UUID eventId, EventResponse event, Timestamp claimedAt) {
+    List<Entry> entries = jdbcTemplate.query(OPEN_ENTRIES, ENTRY_MAPPER, eventId);
+
+    List<Entry> winners = new ArrayList<>();
+    int allocated = 0;
+    if (event.status() == EventStatus.PUBLISHED) {
+      Collections.shuffle(entries, random);
+      // Entries that don't fit are skipped, so a smaller one further down can still win
+      int remaining = event.availableTickets();
+      for (Entry entry : entries) {
+        if (remaining == 0) {
+          break;
+        }
+        if (entry.numberOfTickets() <= remaining) {
+          winners.add(entry);
+          remaining -= entry.numberOfTickets();
+        }
+      }
+      allocated = event.availableTickets() - remaining;
+    } else if (event.status() != EventStatus.CANCELLED) {
+      throw new BookingException("Event " + eventId + " is not published yet");
+    }
+    if (!winners.isEmpty() && (event.price() == null || event.price().compareTo(BigDecimal.ZERO) < 0)) {
+      throw new BookingException("Event price is invalid");
+    }
+
+    int total = allocated;
+    transactionTemplate.executeWithoutResult(status -> {
+      for (int from = 0; from < winners.size(); from += BATCH_SIZE) {
+        jdbcTemplate.batchUpdate(MARK_SELECTED, winners.subList(from, Math.min(from + BATCH_SIZE, winners.size()))
+            .stream()
+            .map(winner -> new Object[] { winner.id() })
+            .toList());
+      }
+      if (jdbcTemplate.update(RECORD_ALLOCATION, total, event.availableTickets(), eventId, claimedAt) != 1) {
+        throw new BookingException("Lottery draw for event " + eventId + " was taken over by another run");
+      }
+    });
+    log.info("Lottery winners chosen for event {}: {} of {} entries, {} tickets",
+        eventId, winners.size(), entries.size(), total);
+  }
+
+  // Direct bookings are refused until the draw is DRAWN, so the lottery is the only thing moving the
+  // count: it is either still availableBefore, or already availableBefore - allocated. Anything else
+  // means the inventory was changed meanwhile and must be reconciled before the draw can go on.
+  private void takeTickets(UUID eventId, int available, int availableBefore, int allocated, Timestamp claimedAt) {
+    if (available == availableBefore - allocated) {
+      return;
+    }
+    if (available != availableBefore) {
+      throw new BookingException(String.format(
+          "Event %s has %d tickets available, expected %d before or %d after the lottery allocation of %d; "
+              + "reconcile the inventory before the draw can resume",
+          eventId, available, availableBefore, availableBefore - allocated, allocated));
+    }
+    // Still ours: a stalled run that lost its claim must not take the tickets a second time
+    if (jdbcTemplate.queryForObject(HOLDS_CLAIM, Integer.class, eventId, claimedAt) != 1) {
+      throw new BookingException("Lottery draw for event " + eventId + " was taken over by another run");
+    }
+    eventServiceClient.updateAvailableTickets(eventId, new UpdateTicketsRequest(allocated, null), internalServiceKey);
+  }
+
+  // Winners' bookings, entry results and the draw outcome commit together, and only while the claim holds
+  private List<Booked> settle(UUID eventId, BigDecimal price, List<Entry> winners, int allocated,
+      Timestamp claimedAt) {
+    return transactionTemplate.execute(status -> {
+      int serial = allocated > 0 ? ticketService.allocateSerials(eventId, allocated) : 0;
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+      List<Booked> booked = new ArrayList<>(winners.size());
+      for (Entry winner : winners) {
+        booked.add(new Booked(winner, UuidV7Generator.next(), serial,
+            price.multiply(BigDecimal.valueOf(winner.numberOfTickets()))));
+        serial += winner.numberOfTickets();
+      }
+
+      for (int from = 0; from < booked.size(); from += BATCH_SIZE) {
+        List<Booked> batch = booked.subList(from, Math.min(from + BATCH_SIZE, booked.size()));
+        insertBookings(eventId, batch, now);
+        jdbcTemplate.batchUpdate(MARK_WON, batch.stream()
+            .map(b -> new Object[] { b.bookingId(), b.entry().id() })
+            .toList());
+        ticketCapService.recordAll(batch.stream()
+            .map(b -> new Object[] { b.entry().userId(), eventId, b.entry().numberOfTickets() })
+            .toList());
+      }
+      jdbcTemplate.update(MARK_LOST, eventId);
+      if (jdbcTemplate.update(FINISH_DRAW, now, winners.size(), eventId, claimedAt) != 1) {
+        throw new BookingException("Lottery draw for event " + eventId + " was taken over by another run");
+      }
+      return booked;
+    });
+  }
+
+  // A reference already taken (ON CONFLICT DO NOTHING) is redrawn and the row inserted again
+  private void insertBookings(UUID eventId, List<Booked> batch, Timestamp now) {
+    Set<String> used = new HashSet<>();
+    List<Booked> pending = new ArrayList<>(batch);
+    for (int attempt = 0; !pending.isEmpty(); attempt++) {
+      if (attempt == MAX_REFERENCE_ATTEMPTS) {
+        throw new BookingException("Failed to generate unique booking references");
+      }
+      List<Object[]> rows = new ArrayList<>(pending.size());
+      for (Booked b : pending) {
+        b.reference = newReference(used);
+        rows.add(new Object[] {
+            b.bookingId(), b.entry().userId(), eventId, b.entry().numberOfTickets(), b.ticketSerial(),
+            b.totalPrice(), b.reference, now, now });
+      }
+      int[] inserted = jdbcTemplate.batchUpdate(INSERT_BOOKING, rows);
+      List<Booked> retry = new ArrayList<>();
+      for (int i = 0; i < inserted.length; i++) {
+        if (inserted[i] == 0) {
+          retry.add(pending.get(i));
+        }
+      }
+      pending = retry;
+    }
+  }
+
+  private String newReference(Set<String> used) {
+    while (true) {
+      String reference = "BOOK-" + UUID.randomUUID().toString().split("-")[0].toUpperCase();
+      if (used.add(reference)) {
+        return reference;
+      }
+    }
+  }
+
+  // Same confirmation as a direct booking; published even without an address so sales stats count it
+  private int notifyWinners(EventResponse event, List<Booked> booked) {
+    int notified = 0;
+    for (int from = 0; from < booked.size(); from += BATCH_SIZE) {
+      List<Booked> chunk = booked.subList(from, Math.min(from + BATCH_SIZE, booked.size()));
+      Map<UUID, UserResponse> users = userLookupService.getUsers(
+          chunk.stream().map(b -> b.entry().userId()).distinct().toList());
+
+      List<Object> events = new ArrayList<>(chunk.size());
+      for (Booked b : chunk) {
+        UserResponse user = users.get(b.entry().userId());
+        if (user != null && user.email() != null) {
+          notified++;
+        }
+        events.add(new BookingConfirmedEvent(b.bookingId(), event.id(), b.entry().userId(),
+            user != null ? user.email() : null, event.title(), b.entry().numberOfTickets(), b.totalPrice(),
+            b.reference, event.startDateTime()));
+      }
+      kafkaProducerService.publishBookingEvents(event.id(), events);
+    }
+    return notified;
+  }
+
+  private record Entry(UUID id, UUID userId, int numberOfTickets) {
+  }
+
+  // The reference is drawn when the row is inserted
+  private static final class Booked {
+
+    private final Entry entry;
+    private final UUID bookingId;
+    private final int ticketSerial;
+    private final BigDecimal totalPrice;
+    private String reference;
+
+    Booked(Entry entry, UUID bookingId, int ticketSerial, BigDecimal totalPrice) {
+      this.entry = entry;
+      this.bookingId = bookingId;
+      this.ticketSerial = ticketSerial;
+      this.totalPrice = totalPrice;
+    }
+
+    Entry entry() {
+      return entry;
+    }
+
+    UUID bookingId() {
+      return bookingId;
+    }
+
+    int ticketSerial() {
+      return ticketSerial;
+    }
+
+    BigDecimal totalPrice() {
+      return totalPrice;
+    }
+  }
+}
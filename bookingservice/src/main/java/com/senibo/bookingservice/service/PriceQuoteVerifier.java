@@ -0,0 +1,59 @@
+package com.senibo.bookingservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.dto.PriceQuote;
+import com.senibo.bookingservice.exception.BookingException;
+
+/**
+ * Checks price quotes signed by Event Service (HMAC-SHA256 over
+ * "eventId|unitPrice|expiresAt (epoch seconds)" with the shared app.pricing.quote-secret).
+ * A valid quote fixes the ticket price of a booking, whatever the event costs by then.
+ */
+@Service
+public class PriceQuoteVerifier {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final SecretKeySpec key;
+
+  public PriceQuoteVerifier(@Value("${app.pricing.quote-secret}") String secret) {
+    this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+  }
+
+  public void verify(PriceQuote quote, UUID eventId) {
+    if (!quote.eventId().equals(eventId)) {
+      throw new BookingException("The price quote is for a different event");
+    }
+    if (!MessageDigest.isEqual(sign(quote), quote.signature().getBytes(StandardCharsets.US_ASCII))) {
+      throw new BookingException("The price quote is not valid");
+    }
+    if (quote.expiresAt().isBefore(Instant.now())) {
+      throw new BookingException("The price quote has expired. Please request a new one.");
+    }
+  }
+
+  private byte[] sign(PriceQuote quote) {
+    String payload = quote.eventId() + "|" + quote.unitPrice().stripTrailingZeros().toPlainString()
+        + "|" + quote.expiresAt().getEpochSecond();
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(signature).getBytes(StandardCharsets.US_ASCII);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot verify price quote", e);
+    }
+  }
+}
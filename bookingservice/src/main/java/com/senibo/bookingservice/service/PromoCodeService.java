@@ -0,0 +1,334 @@
+package com.senibo.bookingservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.senibo.bookingservice.dto.CreatePromoCodeRequest;
+import com.senibo.bookingservice.dto.PromoCodeResponse;
+import com.senibo.bookingservice.entity.PromoCode;
+import com.senibo.bookingservice.enums.BookingStatus;
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.exception.NotFoundException;
+import com.senibo.bookingservice.repository.BookingRepository;
+import com.senibo.bookingservice.repository.PromoCodeRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Promo codes with a usage cap, checked and redeemed without a database round trip
+ * per booking.
+ * Active codes are held in memory (loaded at startup, refreshed incrementally by
+ * updated_at), so validating a code is a map lookup. Uses are leased from
+ * promo_codes.allocated_uses in blocks of lease-size and redeemed from striped
+ * in-memory counters; the row is only locked when a node's block runs out. A node
+ * can hold up to lease-size - 1 unredeemed uses, so the last uses of a code go to
+ * whichever node still has some; unused leases are returned on shutdown.
+ */
+@Service
+@Slf4j
+public class PromoCodeService {
+
+  private static final String LEASE_USES = "UPDATE promo_codes p "
+      + "SET allocated_uses = LEAST(p.allocated_uses + ?, p.max_uses) "
+      + "FROM (SELECT id, allocated_uses FROM promo_codes WHERE id = ? FOR UPDATE) leased "
+      + "WHERE p.id = leased.id AND p.active "
+      + "RETURNING p.allocated_uses - leased.allocated_uses";
+
+  private static final String RETURN_USES = "UPDATE promo_codes "
+      + "SET allocated_uses = GREATEST(allocated_uses - ?, 0) WHERE id = ?";
+
+  // Rows committed slightly out of updated_at order are still picked up by the next refresh
+  private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+  // After a code's cap is reached, ask the database again only this often (other nodes may return uses)
+  private static final long EXHAUSTED_RECHECK_MS = 5_000;
+
+  private final PromoCodeRepository promoCodeRepository;
+  private final BookingRepository bookingRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate leaseTransaction;
+  private final int leaseSize;
+
+  private final Map<String, Promo> codes = new ConcurrentHashMap<>();
+  private final Map<UUID, UsePool> pools = new ConcurrentHashMap<>();
+  private volatile LocalDateTime syncedUpTo;
+
+  public PromoCodeService(PromoCodeRepository promoCodeRepository, BookingRepository bookingRepository,
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+      @Value("${app.promo.lease-size:50}") int leaseSize) {
+    this.promoCodeRepository = promoCodeRepository;
+    this.bookingRepository = bookingRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.leaseSize = leaseSize;
+    // A lease commits on its own: a booking that rolls back hands the use back to the pool, not the row
+    this.leaseTransaction = new TransactionTemplate(transactionManager);
+    this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadCodes() {
+    LocalDateTime loadedAt = LocalDateTime.now();
+    promoCodeRepository.findByActiveTrue().forEach(this::apply);
+    syncedUpTo = loadedAt;
+    log.info("Loaded {} active promo codes", codes.size());
+  }
+
+  @Scheduled(fixedDelayString = "${app.promo.refresh-interval-ms:30000}")
+  public void refresh() {
+    LocalDateTime since = syncedUpTo;
+    if (since == null) {
+      return;
+    }
+    LocalDateTime refreshedAt = LocalDateTime.now();
+    try {
+      promoCodeRepository.findByUpdatedAtAfter(since.minusSeconds(REFRESH_OVERLAP_SECONDS)).forEach(this::apply);
+      syncedUpTo = refreshedAt;
+    } catch (DataAccessException e) {
+      log.warn("Promo code refresh failed, retrying next interval: {}", e.getMessage());
+    }
+    codes.values().removeIf(promo -> promo.isExpired(refreshedAt));
+  }
+
+  public PromoCodeResponse create(UUID eventId, CreatePromoCodeRequest request) {
+    String code = normalize(request.code());
+    if (promoCodeRepository.existsByCode(code)) {
+      throw new BookingException("Promo code " + code + " already exists");
+    }
+
+    PromoCode promoCode = promoCodeRepository.save(PromoCode.builder()
+        .code(code)
+        .eventId(eventId)
+        .discountPercent(request.discountPercent())
+        .maxUses(request.maxUses())
+        .allocatedUses(0)
+        .expiresAt(request.expiresAt())
+        .active(true)
+        .build());
+    apply(promoCode);
+
+    log.info("Promo code created: code={}, eventId={}, maxUses={}", code, eventId, request.maxUses());
+    return PromoCodeResponse.from(promoCode, 0);
+  }
+
+  public List<PromoCodeResponse> list(UUID eventId) {
+    List<PromoCodeResponse> responses = new ArrayList<>();
+    for (PromoCode promoCode : promoCodeRepository.findByEventIdOrderByCreatedAt(eventId)) {
+      long redeemed = bookingRepository.countByPromoCodeAndStatus(promoCode.getCode(), BookingStatus.CONFIRMED);
+      responses.add(PromoCodeResponse.from(promoCode, redeemed));
+    }
+    return responses;
+  }
+
+  // Other nodes stop accepting the code at their next refresh
+  public void deactivate(UUID eventId, String code) {
+    PromoCode promoCode = promoCodeRepository.findByEventIdAndCode(eventId, normalize(code))
+        .orElseThrow(() -> new NotFoundException("Promo code not found"));
+    promoCode.setActive(false);
+    apply(promoCodeRepository.save(promoCode));
+  }
+
+  /**
+   * The code as this node knows it. Never touches the database.
+   */
+  public Promo validate(String code, UUID eventId) {
+    Promo promo = codes.get(normalize(code));
+    if (promo == null || !promo.eventId().equals(eventId)) {
+      throw new BookingException("Invalid promo code");
+    }
+    if (promo.isExpired(LocalDateTime.now())) {
+      throw new BookingException("This promo code has expired");
+    }
+    return promo;
+  }
+
+  /**
+   * Takes one use of the code. Inside a transaction the use is handed back if it
+   * doesn't commit.
+   */
+  public void redeem(Promo promo) {
+    UsePool pool = pools.computeIfAbsent(promo.id(), id -> new UsePool());
+    if (!pool.tryTake()) {
+      leaseAndTake(promo, pool);
+    }
+    afterCompletion(false, () -> giveBack(promo.id()));
+  }
+
+  /**
+   * Returns the use of a cancelled booking, once the cancellation commits.
+   */
+  public void release(String code) {
+    Promo promo = codes.get(normalize(code));
+    if (promo != null) {
+      afterCompletion(true, () -> giveBack(promo.id()));
+    }
+  }
+
+  // Don't strand leased uses when a node goes away
+  @PreDestroy
+  public void returnLeases() {
+    List<Object[]> rows = new ArrayList<>();
+    pools.forEach((id, pool) -> {
+      int unused = pool.drain();
+      if (unused > 0) {
+        rows.add(new Object[] { unused, id });
+      }
+    });
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(RETURN_USES, rows);
+      log.info("Returned unused promo code uses for {} codes", rows.size());
+    }
+  }
+
+  // Only one thread per code goes to the database; the others wait for its block
+  private void leaseAndTake(Promo promo, UsePool pool) {
+    synchronized (pool) {
+      if (pool.tryTake()) {
+        return;
+      }
+      if (System.currentTimeMillis() < pool.exhaustedUntilMs) {
+        throw usedUp();
+      }
+      List<Integer> granted = leaseTransaction.execute(
+          status -> jdbcTemplate.queryForList(LEASE_USES, Integer.class, leaseSize, promo.id()));
+      int uses = granted == null || granted.isEmpty() ? 0 : granted.get(0);
+      if (uses <= 0) {
+        pool.exhaustedUntilMs = System.currentTimeMillis() + EXHAUSTED_RECHECK_MS;
+        throw usedUp();
+      }
+      pool.put(uses - 1);
+      log.debug("Leased {} uses of promo code {}", uses, promo.code());
+    }
+  }
+
+  private void giveBack(UUID promoId) {
+    pools.computeIfAbsent(promoId, id -> new UsePool()).put(1);
+  }
+
+  private void apply(PromoCode promoCode) {
+    if (Boolean.TRUE.equals(promoCode.getActive())) {
+      codes.put(promoCode.getCode(), Promo.of(promoCode));
+      return;
+    }
+    codes.remove(promoCode.getCode());
+    // A deactivated code's leased uses are no longer needed here
+    UsePool pool = pools.remove(promoCode.getId());
+    int unused = pool != null ? pool.drain() : 0;
+    if (unused > 0) {
+      jdbcTemplate.update(RETURN_USES, unused, promoCode.getId());
+    }
+  }
+
+  private static void afterCompletion(boolean onCommit, Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      if (onCommit) {
+        action.run();
+      }
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if ((status == STATUS_COMMITTED) == onCommit) {
+          action.run();
+        }
+      }
+    });
+  }
+
+  private static BookingException usedUp() {
+    return new BookingException("This promo code has reached its usage limit");
+  }
+
+  private static String normalize(String code) {
+    return code.trim().toUpperCase(Locale.ROOT);
+  }
+
+  public record Promo(UUID id, String code, UUID eventId, int discountPercent, LocalDateTime expiresAt) {
+
+    static Promo of(PromoCode promoCode) {
+      return new Promo(promoCode.getId(), promoCode.getCode(), promoCode.getEventId(),
+          promoCode.getDiscountPercent(), promoCode.getExpiresAt());
+    }
+
+    boolean isExpired(LocalDateTime now) {
+      return expiresAt != null && expiresAt.isBefore(now);
+    }
+  }
+
+  /**
+   * This node's leased uses of one code, spread over padded stripes so concurrent
+   * bookings CAS different cache lines. A thread starts at its own stripe and only
+   * moves on to the others when that one is empty.
+   */
+  static final class UsePool {
+
+    private static final int STRIPES =
+        Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+
+    // 16 ints = one 64-byte cache line per stripe
+    private static final int PAD = 16;
+
+    private final AtomicIntegerArray stripes = new AtomicIntegerArray(STRIPES * PAD);
+    private volatile long exhaustedUntilMs;
+
+    boolean tryTake() {
+      int home = home();
+      for (int i = 0; i < STRIPES; i++) {
+        int slot = ((home + i) & (STRIPES - 1)) * PAD;
+        int left;
+        while ((left = stripes.get(slot)) > 0) {
+          if (stripes.compareAndSet(slot, left, left - 1)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    void put(int uses) {
+      if (uses == 1) {
+        stripes.incrementAndGet(home() * PAD);
+        return;
+      }
+      for (int i = 0; i < STRIPES; i++) {
+        int share = uses / STRIPES + (i < uses % STRIPES ? 1 : 0);
+        if (share > 0) {
+          stripes.addAndGet(i * PAD, share);
+        }
+      }
+    }
+
+    int drain() {
+      int total = 0;
+      for (int i = 0; i < STRIPES; i++) {
+        total += stripes.getAndSet(i * PAD, 0);
+      }
+      return total;
+    }
+
+    private static int home() {
+      long id = Thread.currentThread().threadId();
+      return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & (STRIPES - 1);
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.senibo.bookingservice.service;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.consumer.BookingSalesConsumer;
+import com.senibo.bookingservice.dto.EventSalesResponse;
+import com.senibo.bookingservice.dto.SalesMinute;
+import com.senibo.bookingservice.entity.EventSalesMinute;
+import com.senibo.bookingservice.entity.EventSalesStats;
+import com.senibo.bookingservice.repository.EventSalesMinuteRepository;
+import com.senibo.bookingservice.repository.EventSalesStatsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Live per-event sales figures, maintained from the booking-events topic.
+ * Each batch of booking events polled by BookingSalesConsumer is written with one
+ * statement: it marks every change as applied in sales_changes_applied and adds only
+ * the changes not marked before to the event_sales_stats totals and the
+ * event_sales_minutes series. A redelivered batch therefore adds nothing, and since the
+ * offsets are committed after the write, a crash loses nothing either. All figures
+ * live in the database, so any replica serves the dashboard: one primary key lookup
+ * plus at most SERIES_MINUTES rows, whatever the number of bookings.
+ */
+@Service
+@Slf4j
+public class SalesStatsService {
+
+  private static final int SERIES_MINUTES = 60;
+
+  // Minute rows are kept a while past the series so a late batch still lands in place
+  private static final int MINUTES_KEPT = 2 * SERIES_MINUTES;
+
+  private static final String APPLY_CHANGES = "WITH incoming AS ("
+      + "SELECT * FROM unnest(?::uuid[], ?::varchar[], ?::uuid[], ?::int[], ?::numeric[], ?::timestamp[]) "
+      + "AS t(booking_id, change, event_id, tickets, revenue, at)), "
+      + "applied AS (INSERT INTO sales_changes_applied (id, booking_id, change, applied_at) "
+      + "SELECT gen_random_uuid(), booking_id, change, now() FROM incoming "
+      + "ON CONFLICT (booking_id, change) DO NOTHING RETURNING booking_id, change), "
+      + "fresh AS (SELECT i.* FROM incoming i JOIN applied a ON a.booking_id = i.booking_id AND a.change = i.change), "
+      + "minutes AS (INSERT INTO event_sales_minutes (id, event_id, minute, bookings, tickets, cancellations) "
+      + "SELECT gen_random_uuid(), event_id, date_trunc('minute', at), "
+      + "COUNT(*) FILTER (WHERE change = 'CONFIRMED'), "
+      + "COALESCE(SUM(tickets) FILTER (WHERE change = 'CONFIRMED'), 0), "
+      + "COUNT(*) FILTER (WHERE change = 'CANCELLED') "
+      + "FROM fresh GROUP BY event_id, date_trunc('minute', at) "
+      + "ON CONFLICT (event_id, minute) DO UPDATE SET "
+      + "bookings = event_sales_minutes.bookings + EXCLUDED.bookings, "
+      + "tickets = event_sales_minutes.tickets + EXCLUDED.tickets, "
+      + "cancellations = event_sales_minutes.cancellations + EXCLUDED.cancellations) "
+      + "INSERT INTO event_sales_stats (event_id, confirmed_bookings, confirmed_tickets, confirmed_revenue, "
+      + "cancelled_bookings, cancelled_tickets, cancelled_revenue, last_booking_at, updated_at) "
+      + "SELECT event_id, COUNT(*) FILTER (WHERE change = 'CONFIRMED'), "
+      + "COALESCE(SUM(tickets) FILTER (WHERE change = 'CONFIRMED'), 0), "
+      + "COALESCE(SUM(revenue) FILTER (WHERE change = 'CONFIRMED'), 0), "
+      + "COUNT(*) FILTER (WHERE change = 'CANCELLED'), "
+      + "COALESCE(SUM(tickets) FILTER (WHERE change = 'CANCELLED'), 0), "
+      + "COALESCE(SUM(revenue) FILTER (WHERE change = 'CANCELLED'), 0), "
+      + "MAX(at) FILTER (WHERE change = 'CONFIRMED'), now() "
+      + "FROM fresh GROUP BY event_id "
+      + "ON CONFLICT (event_id) DO UPDATE SET "
+      + "confirmed_bookings = event_sales_stats.confirmed_bookings + EXCLUDED.confirmed_bookings, "
+      + "confirmed_tickets = event_sales_stats.confirmed_tickets + EXCLUDED.confirmed_tickets, "
+      + "confirmed_revenue = event_sales_stats.confirmed_revenue + EXCLUDED.confirmed_revenue, "
+      + "cancelled_bookings = event_sales_stats.cancelled_bookings + EXCLUDED.cancelled_bookings, "
+      + "cancelled_tickets = event_sales_stats.cancelled_tickets + EXCLUDED.cancelled_tickets, "
+      + "cancelled_revenue = event_sales_stats.cancelled_revenue + EXCLUDED.cancelled_revenue, "
+      + "last_booking_at = GREATEST(event_sales_stats.last_booking_at, EXCLUDED.last_booking_at), "
+      + "updated_at = EXCLUDED.updated_at";
+
+  private static final String PRUNE_MINUTES = "DELETE FROM event_sales_minutes WHERE minute < ?";
+
+  private static final String PRUNE_APPLIED = "DELETE FROM sales_changes_applied WHERE applied_at < ?";
+
+  // One-off seed from the bookings table, for events booked before the stats existed. The seeded
+  // bookings' changes are marked applied too, so their events still in the topic aren't counted again
+  private static final String BACKFILL_STATS = "WITH seeded AS (INSERT INTO event_sales_stats (event_id, "
+      + "confirmed_bookings, confirmed_tickets, confirmed_revenue, cancelled_bookings, cancelled_tickets, "
+      + "cancelled_revenue, last_booking_at, updated_at) "
+      + "SELECT event_id, COUNT(*), COALESCE(SUM(number_of_tickets), 0), COALESCE(SUM(total_price), 0), "
+      + "COUNT(*) FILTER (WHERE status = 'CANCELLED'), "
+      + "COALESCE(SUM(number_of_tickets) FILTER (WHERE status = 'CANCELLED'), 0), "
+      + "COALESCE(SUM(total_price) FILTER (WHERE status = 'CANCELLED'), 0), MAX(created_at), now() "
+      + "FROM bookings WHERE status IN ('CONFIRMED', 'CANCELLED') GROUP BY event_id "
+      + "ON CONFLICT (event_id) DO NOTHING RETURNING event_id), "
+      + "marked AS (INSERT INTO sales_changes_applied (id, booking_id, change, applied_at) "
+      + "SELECT gen_random_uuid(), b.id, c.change, now() FROM bookings b JOIN seeded s ON s.event_id = b.event_id "
+      + "CROSS JOIN (VALUES ('CONFIRMED'), ('CANCELLED')) AS c(change) "
+      + "WHERE b.status IN ('CONFIRMED', 'CANCELLED') AND (c.change = 'CONFIRMED' OR b.status = 'CANCELLED') "
+      + "ON CONFLICT (booking_id, change) DO NOTHING) "
+      + "SELECT COUNT(*) FROM seeded";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EventSalesStatsRepository eventSalesStatsRepository;
+  private final EventSalesMinuteRepository eventSalesMinuteRepository;
+  private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  private final int dedupeRetentionDays;
+
+  public SalesStatsService(
+      JdbcTemplate jdbcTemplate,
+      EventSalesStatsRepository eventSalesStatsRepository,
+      EventSalesMinuteRepository eventSalesMinuteRepository,
+      KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+      @Value("${app.sales-stats.dedupe-retention-days:7}") int dedupeRetentionDays) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.eventSalesStatsRepository = eventSalesStatsRepository;
+    this.eventSalesMinuteRepository = eventSalesMinuteRepository;
+    this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+    this.dedupeRetentionDays = dedupeRetentionDays;
+  }
+
+  // BookingSalesConsumer only starts once this has run, so no batch can fill the table before the seed
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (eventSalesStatsRepository.count() == 0) {
+      Integer seeded = jdbcTemplate.queryForObject(BACKFILL_STATS, Integer.class);
+      log.info("Sales stats seeded for {} events from existing bookings", seeded);
+    }
+    kafkaListenerEndpointRegistry.getListenerContainer(BookingSalesConsumer.LISTENER_ID).start();
+  }
+
+  /**
+   * Adds a batch of booking changes to the figures; changes already counted are skipped.
+   * Throws on a database failure so the batch is redelivered.
+   */
+  public void apply(List<SalesChange> changes) {
+    // A booking's change appears once per statement, or the join below would count it twice
+    Map<String, SalesChange> unique = new LinkedHashMap<>();
+    for (SalesChange change : changes) {
+      unique.putIfAbsent(change.bookingId() + ":" + change.type(), change);
+    }
+    if (unique.isEmpty()) {
+      return;
+    }
+
+    List<SalesChange> rows = new ArrayList<>(unique.values());
+    jdbcTemplate.update(APPLY_CHANGES, ps -> {
+      Connection connection = ps.getConnection();
+      ps.setArray(1, connection.createArrayOf("uuid", column(rows, SalesChange::bookingId)));
+      ps.setArray(2, connection.createArrayOf("varchar", column(rows, SalesChange::type)));
+      ps.setArray(3, connection.createArrayOf("uuid", column(rows, SalesChange::eventId)));
+      ps.setArray(4, connection.createArrayOf("int4", column(rows, SalesChange::tickets)));
+      ps.setArray(5, connection.createArrayOf("numeric", column(rows, SalesChange::revenue)));
+      ps.setArray(6, connection.createArrayOf("timestamp", column(rows, change -> Timestamp.valueOf(change.at()))));
+    });
+    log.debug("Applied {} booking changes to the sales figures", rows.size());
+  }
+
+  /**
+   * Rolled-up totals, and the last hour per minute.
+   */
+  public EventSalesResponse getSales(UUID eventId) {
+    EventSalesStats stored = eventSalesStatsRepository.findById(eventId).orElse(null);
+
+    LocalDateTime currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    LocalDateTime from = currentMinute.minusMinutes(SERIES_MINUTES - 1);
+    Map<LocalDateTime, EventSalesMinute> recorded = new LinkedHashMap<>();
+    for (EventSalesMinute row : eventSalesMinuteRepository.findByEventIdAndMinuteGreaterThanEqualOrderByMinute(eventId, from)) {
+      recorded.put(row.getMinute(), row);
+    }
+
+    List<SalesMinute> perMinute = new ArrayList<>(SERIES_MINUTES);
+    for (LocalDateTime minute = from; !minute.isAfter(currentMinute); minute = minute.plusMinutes(1)) {
+      EventSalesMinute row = recorded.get(minute);
+      perMinute.add(row != null
+          ? new SalesMinute(minute, row.getBookings(), row.getTickets(), row.getCancellations())
+          : new SalesMinute(minute, 0, 0, 0));
+    }
+
+    long bookingsLastHour = perMinute.stream().mapToLong(SalesMinute::bookings).sum();
+    if (stored == null) {
+      return new EventSalesResponse(eventId, 0, BigDecimal.ZERO, 0, 0, 0, bookingsLastHour, null, perMinute);
+    }
+    return new EventSalesResponse(
+        eventId,
+        stored.getConfirmedTickets() - stored.getCancelledTickets(),
+        stored.getConfirmedRevenue().subtract(stored.getCancelledRevenue()),
+        stored.getConfirmedBookings() - stored.getCancelledBookings(),
+        stored.getCancelledBookings(),
+        stored.getCancelledTickets(),
+        bookingsLastHour,
+        stored.getLastBookingAt(),
+        perMinute);
+  }
+
+  @Scheduled(fixedDelayString = "${app.sales-stats.prune-interval-ms:3600000}")
+  public void prune() {
+    LocalDateTime now = LocalDateTime.now();
+    int minutes = jdbcTemplate.update(PRUNE_MINUTES, Timestamp.valueOf(now.minusMinutes(MINUTES_KEPT)));
+    int applied = jdbcTemplate.update(PRUNE_APPLIED, Timestamp.valueOf(now.minusDays(dedupeRetentionDays)));
+    log.debug("Pruned {} sales minutes and {} applied change markers", minutes, applied);
+  }
+
+  private static Object[] column(List<SalesChange> rows, Function<SalesChange, Object> value) {
+    return rows.stream().map(value).toArray();
+  }
+
+  /**
+   * One booking confirmation or cancellation, as read from the booking-events topic.
+   *
+   * @param at when the change was published; sets its minute and the last booking time
+   */
+  public record SalesChange(UUID bookingId, UUID eventId, boolean confirmed, int tickets, BigDecimal revenue,
+      LocalDateTime at) {
+
+    String type() {
+      return confirmed ? "CONFIRMED" : "CANCELLED";
+    }
+  }
+}
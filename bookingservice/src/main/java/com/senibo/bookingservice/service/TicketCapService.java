@@ -0,0 +1,99 @@
+package com.senibo.bookingservice.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.dto.clientDTOs.EventResponse;
+import com.senibo.bookingservice.entity.UserEventTickets;
+import com.senibo.bookingservice.entity.UuidV7Generator;
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.repository.UserEventTicketsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user ticket limit of an event, enforced on the user_event_tickets counter.
+ * A booking adds its tickets with one conditional upsert that only applies while
+ * the total stays within the limit; run inside the booking transaction, its row
+ * lock also serialises concurrent bookings by the same user for the same event.
+ * The limit is the event's maxTicketsPerUser, or app.booking.max-tickets-per-user
+ * when the organizer didn't set one.
+ */
+@Service
+@Slf4j
+public class TicketCapService {
+
+  private static final String ADD_TICKETS = "INSERT INTO user_event_tickets (id, user_id, event_id, tickets) "
+      + "VALUES (?, ?, ?, ?) ON CONFLICT (user_id, event_id) DO UPDATE "
+      + "SET tickets = user_event_tickets.tickets + EXCLUDED.tickets "
+      + "WHERE user_event_tickets.tickets + EXCLUDED.tickets <= ?";
+
+  private static final String REMOVE_TICKETS = "UPDATE user_event_tickets "
+      + "SET tickets = GREATEST(tickets - ?, 0) WHERE user_id = ? AND event_id = ?";
+
+  // One-off seed from the bookings table, for tickets booked before the counter existed
+  private static final String BACKFILL_COUNTERS = "INSERT INTO user_event_tickets (id, user_id, event_id, tickets) "
+      + "SELECT gen_random_uuid(), user_id, event_id, SUM(number_of_tickets) FROM bookings "
+      + "WHERE status = 'CONFIRMED' GROUP BY user_id, event_id "
+      + "ON CONFLICT (user_id, event_id) DO NOTHING";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final UserEventTicketsRepository userEventTicketsRepository;
+  private final int defaultLimit;
+
+  public TicketCapService(JdbcTemplate jdbcTemplate, UserEventTicketsRepository userEventTicketsRepository,
+      @Value("${app.booking.max-tickets-per-user:20}") int defaultLimit) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.userEventTicketsRepository = userEventTicketsRepository;
+    this.defaultLimit = defaultLimit;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (userEventTicketsRepository.count() == 0) {
+      int seeded = jdbcTemplate.update(BACKFILL_COUNTERS);
+      log.info("Per-user ticket counters seeded for {} users and events from existing bookings", seeded);
+    }
+  }
+
+  public int limitFor(EventResponse event) {
+    return event.maxTicketsPerUser() != null ? event.maxTicketsPerUser() : defaultLimit;
+  }
+
+  /**
+   * Counts the tickets against the user's limit for the event, or fails when they
+   * would exceed it. Must run in the transaction that creates the booking.
+   */
+  public void reserve(UUID userId, EventResponse event, int tickets) {
+    int limit = limitFor(event);
+    if (tickets > limit
+        || jdbcTemplate.update(ADD_TICKETS, UuidV7Generator.next(), userId, event.id(), tickets, limit) == 0) {
+      int held = userEventTicketsRepository.findByUserIdAndEventId(userId, event.id())
+          .map(UserEventTickets::getTickets)
+          .orElse(0);
+      throw new BookingException(String.format(
+          "You can book at most %d tickets for this event. You already have %d.", limit, held));
+    }
+  }
+
+  // Must run in the transaction that cancels the booking
+  public void release(UUID userId, UUID eventId, int tickets) {
+    jdbcTemplate.update(REMOVE_TICKETS, tickets, userId, eventId);
+  }
+
+  /**
+   * Counts bookings made outside the limit check (lottery winners, each within the
+   * limit on entry). Rows are {userId, eventId, tickets}.
+   */
+  public void recordAll(List<Object[]> rows) {
+    jdbcTemplate.batchUpdate(ADD_TICKETS, rows.stream()
+        .map(row -> new Object[] { UuidV7Generator.next(), row[0], row[1], row[2], Integer.MAX_VALUE })
+        .toList());
+  }
+}
@@ -0,0 +1,100 @@
+package com.senibo.bookingservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.senibo.bookingservice.dto.TicketResponse;
+import com.senibo.bookingservice.entity.Booking;
+import com.senibo.bookingservice.enums.BookingStatus;
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.exception.NotFoundException;
+import com.senibo.bookingservice.exception.UnauthorizedException;
+import com.senibo.bookingservice.repository.BookingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues the signed tickets of a booking.
+ * Each ticket gets a serial unique within its event, numbered densely from 0 so
+ * check-in can track an event's tickets in a bitset. Serials are handed out by an
+ * upsert on event_ticket_serials that commits on its own, keeping the per-event
+ * row lock out of the booking transaction; a rolled-back booking only leaves a gap.
+ */
+@Service
+@Slf4j
+public class TicketService {
+
+  private static final String ALLOCATE_SERIALS = "INSERT INTO event_ticket_serials (event_id, next_serial) "
+      + "VALUES (?, ?) ON CONFLICT (event_id) DO UPDATE "
+      + "SET next_serial = event_ticket_serials.next_serial + EXCLUDED.next_serial "
+      + "RETURNING next_serial";
+
+  private final BookingRepository bookingRepository;
+  private final TicketTokenSigner ticketTokenSigner;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate serialTransaction;
+
+  public TicketService(BookingRepository bookingRepository, TicketTokenSigner ticketTokenSigner,
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.bookingRepository = bookingRepository;
+    this.ticketTokenSigner = ticketTokenSigner;
+    this.jdbcTemplate = jdbcTemplate;
+    this.serialTransaction = new TransactionTemplate(transactionManager);
+    this.serialTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Reserves `count` consecutive serials of the event and returns the first.
+   */
+  public int allocateSerials(UUID eventId, int count) {
+    Integer next = serialTransaction.execute(
+        status -> jdbcTemplate.queryForObject(ALLOCATE_SERIALS, Integer.class, eventId, count));
+    return next - count;
+  }
+
+  public List<String> tokens(Booking booking) {
+    if (booking.getTicketSerial() == null) {
+      return null;
+    }
+    List<String> tokens = new ArrayList<>(booking.getNumberOfTickets());
+    for (int i = 0; i < booking.getNumberOfTickets(); i++) {
+      tokens.add(ticketTokenSigner.issue(booking.getEventId(), booking.getId(), booking.getTicketSerial() + i));
+    }
+    return tokens;
+  }
+
+  // Bookings made before tickets existed get their serials on first request
+  @Transactional
+  public List<TicketResponse> getTickets(UUID bookingId, UUID userId) {
+    Booking booking = bookingRepository.findById(bookingId).orElseThrow(
+        () -> new NotFoundException("Booking Not Found"));
+
+    if (!booking.getUserId().equals(userId)) {
+      throw new UnauthorizedException("You are not authorized to view this booking");
+    }
+    if (booking.getStatus() != BookingStatus.CONFIRMED) {
+      throw new BookingException("Tickets are only available for confirmed bookings");
+    }
+
+    if (booking.getTicketSerial() == null) {
+      booking.setTicketSerial(allocateSerials(booking.getEventId(), booking.getNumberOfTickets()));
+      bookingRepository.save(booking);
+      log.info("Tickets issued: bookingId={}, firstSerial={}", bookingId, booking.getTicketSerial());
+    }
+
+    List<String> tokens = tokens(booking);
+    List<TicketResponse> tickets = new ArrayList<>(tokens.size());
+    for (int i = 0; i < tokens.size(); i++) {
+      tickets.add(new TicketResponse(booking.getTicketSerial() + i, tokens.get(i)));
+    }
+    return tickets;
+  }
+}
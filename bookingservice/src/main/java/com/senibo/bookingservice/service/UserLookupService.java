@@ -0,0 +1,58 @@
+package com.senibo.bookingservice.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.senibo.bookingservice.client.UserServiceClient;
+import com.senibo.bookingservice.dto.ApiSuccessResponse;
+import com.senibo.bookingservice.dto.clientDTOs.UserBatchRequest;
+import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves many users with one User Service call, for jobs that work through
+ * bookings in batches (attendee exports, event change fan-out).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserLookupService {
+
+  // Matches the User Service batch limit
+  public static final int MAX_BATCH_SIZE = 500;
+
+  private final UserServiceClient userServiceClient;
+
+  @Value("${app.internal-service-key}")
+  private String internalServiceKey;
+
+  /**
+   * Users by ID, for at most MAX_BATCH_SIZE IDs.
+   * A failed lookup returns an empty map: callers degrade one batch instead of failing the whole job.
+   */
+  public Map<UUID, UserResponse> getUsers(List<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return Map.of();
+    }
+
+    try {
+      ApiSuccessResponse<List<UserResponse>> response = userServiceClient.getUsersByIds(
+          new UserBatchRequest(userIds), internalServiceKey);
+
+      return response.data().stream()
+          .collect(Collectors.toMap(UserResponse::id, Function.identity()));
+    } catch (FeignException e) {
+      log.warn("User lookup failed for {} users: {}", userIds.size(), e.getMessage());
+      return Map.of();
+    }
+  }
+}
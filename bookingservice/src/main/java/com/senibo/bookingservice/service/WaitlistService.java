@@ -0,0 +1,322 @@
+package com.senibo.bookingservice.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.senibo.bookingservice.client.EventServiceClient;
+import com.senibo.bookingservice.dto.WaitlistResponse;
+import com.senibo.bookingservice.dto.clientDTOs.EventResponse;
+import com.senibo.bookingservice.dto.clientDTOs.UpdateTicketsRequest;
+import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
+import com.senibo.bookingservice.dto.kafka.WaitlistOfferedEvent;
+import com.senibo.bookingservice.entity.WaitlistEntry;
+import com.senibo.bookingservice.enums.EventStatus;
+import com.senibo.bookingservice.enums.WaitlistStatus;
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.exception.EventNotPublishedException;
+import com.senibo.bookingservice.exception.NotFoundException;
+import com.senibo.bookingservice.repository.WaitlistEntryRepository;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-event FIFO waitlist for sold-out events.
+ * Tickets returned by a cancellation are not handed back to Event Service while
+ * anyone is waiting: they are offered to waiting entries in arrival order and held
+ * (still counted as sold) for offer-hold-minutes. Offers that run out are swept up
+ * and passed on to the next in line; only tickets nobody is waiting for go back on sale.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WaitlistService {
+
+  // Waiting entries considered per allocation; a smaller request further back can use tickets the head can't
+  private static final int ALLOCATION_WINDOW = 200;
+
+  private static final int SWEEP_BATCH_SIZE = 500;
+
+  private static final List<WaitlistStatus> ACTIVE = List.of(WaitlistStatus.WAITING, WaitlistStatus.OFFERED);
+
+  private static final String WAITING_WINDOW = "SELECT id, user_id, number_of_tickets FROM waitlist_entries "
+      + "WHERE event_id = ? AND status = 'WAITING' ORDER BY created_at, id LIMIT ? FOR UPDATE";
+
+  private static final String OFFER = "UPDATE waitlist_entries SET status = 'OFFERED', offer_expires_at = ?, "
+      + "updated_at = ?, version = COALESCE(version, 0) + 1 WHERE id = ?";
+
+  private static final String EXPIRE_DUE_OFFERS = "UPDATE waitlist_entries e SET status = 'EXPIRED', updated_at = ?, "
+      + "version = COALESCE(e.version, 0) + 1 "
+      + "WHERE e.id IN (SELECT id FROM waitlist_entries WHERE status = 'OFFERED' AND offer_expires_at < ? "
+      + "ORDER BY offer_expires_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+      + "RETURNING e.event_id, e.number_of_tickets";
+
+  private static final String CANCEL_FOR_EVENT = "UPDATE waitlist_entries SET status = 'CANCELLED', updated_at = ?, "
+      + "version = COALESCE(version, 0) + 1 WHERE event_id = ? AND status IN ('WAITING', 'OFFERED')";
+
+  private final WaitlistEntryRepository waitlistEntryRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final EventServiceClient eventServiceClient;
+  private final EventLookupService eventLookupService;
+  private final UserLookupService userLookupService;
+  private final KafkaProducerService kafkaProducerService;
+
+  @Value("${app.internal-service-key}")
+  private String internalServiceKey;
+
+  @Value("${app.waitlist.offer-hold-minutes:15}")
+  private long offerHoldMinutes;
+
+  /**
+   * Queues the user for a sold-out event.
+   * Joining again while already queued returns the existing entry, so clients can poll this safely.
+   */
+  @Transactional
+  public WaitlistResponse join(UUID eventId, UUID userId, int numberOfTickets) {
+    WaitlistEntry existing = waitlistEntryRepository
+        .findFirstByEventIdAndUserIdAndStatusIn(eventId, userId, ACTIVE)
+        .orElse(null);
+    if (existing != null) {
+      return WaitlistResponse.from(existing, position(existing));
+    }
+
+    EventResponse event = eventLookupService.getEvent(eventId);
+    if (event == null) {
+      throw new NotFoundException("Event not found: " + eventId);
+    }
+    if (event.status() != EventStatus.PUBLISHED) {
+      throw new EventNotPublishedException(
+          String.format("Event '%s' is not published. Current status: %s", event.title(), event.status()));
+    }
+    if (Boolean.TRUE.equals(event.reservedSeating()) || (event.tiers() != null && !event.tiers().isEmpty())) {
+      throw new BookingException("Reserved seating and tiered events do not have a waitlist");
+    }
+    if (event.availableTickets() >= numberOfTickets) {
+      throw new BookingException("Tickets are still available for this event. Please book them directly.");
+    }
+
+    WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+        .eventId(eventId)
+        .userId(userId)
+        .numberOfTickets(numberOfTickets)
+        .status(WaitlistStatus.WAITING)
+        .build());
+
+    log.info("User {} joined the waitlist of event {} for {} tickets", userId, eventId, numberOfTickets);
+    return WaitlistResponse.from(entry, position(entry));
+  }
+
+  public WaitlistResponse getEntry(UUID eventId, UUID userId) {
+    WaitlistEntry entry = waitlistEntryRepository
+        .findFirstByEventIdAndUserIdOrderByCreatedAtDesc(eventId, userId)
+        .orElseThrow(() -> new NotFoundException("You are not on the waitlist for this event"));
+
+    return WaitlistResponse.from(entry, position(entry));
+  }
+
+  /**
+   * Leaves the waitlist. Leaving with an open offer declines it, and the held
+   * tickets move on to the next in line.
+   */
+  @Transactional
+  public void leave(UUID eventId, UUID userId) {
+    WaitlistEntry entry = waitlistEntryRepository
+        .findFirstByEventIdAndUserIdAndStatusIn(eventId, userId, ACTIVE)
+        .orElseThrow(() -> new NotFoundException("You are not on the waitlist for this event"));
+
+    boolean declined = entry.getStatus() == WaitlistStatus.OFFERED;
+    entry.setStatus(WaitlistStatus.CANCELLED);
+    // Flushed now: the version check settles a race with the expiry sweep before the tickets move on
+    waitlistEntryRepository.saveAndFlush(entry);
+
+    if (declined) {
+      releaseTickets(eventId, entry.getNumberOfTickets());
+    }
+  }
+
+  /**
+   * Marks the user's open offer as accepted; the caller books the held tickets.
+   * The flush checks the version, so an offer the sweep has just expired cannot be accepted.
+   */
+  @Transactional
+  public WaitlistEntry claimOffer(UUID eventId, UUID userId) {
+    WaitlistEntry entry = waitlistEntryRepository
+        .findFirstByEventIdAndUserIdAndStatusIn(eventId, userId, List.of(WaitlistStatus.OFFERED))
+        .orElseThrow(() -> new BookingException("You have no ticket offer for this event"));
+
+    if (entry.getOfferExpiresAt().isBefore(LocalDateTime.now())) {
+      throw new BookingException("Your ticket offer has expired");
+    }
+
+    entry.setStatus(WaitlistStatus.ACCEPTED);
+    return waitlistEntryRepository.saveAndFlush(entry);
+  }
+
+  /**
+   * Tickets given up by a cancellation: offered to the waitlist first, the rest
+   * returned to Event Service. Feign exceptions from the return are passed to the caller
+   * without rolling back the offers.
+   */
+  @Transactional(noRollbackFor = FeignException.class)
+  public void releaseTickets(UUID eventId, int tickets) {
+    int unclaimed = offer(eventId, tickets);
+    if (unclaimed > 0) {
+      returnToEvent(eventId, unclaimed);
+    }
+  }
+
+  // The event is gone: nobody waits for it any more and held tickets are void
+  public int cancelForEvent(UUID eventId) {
+    int cancelled = jdbcTemplate.update(CANCEL_FOR_EVENT, Timestamp.valueOf(LocalDateTime.now()), eventId);
+    if (cancelled > 0) {
+      log.info("Cancelled {} waitlist entries of cancelled event {}", cancelled, eventId);
+    }
+    return cancelled;
+  }
+
+  /**
+   * Expires offers whose hold has run out and passes their tickets on.
+   * Each replica claims its own batch (SKIP LOCKED); expiry and the new offers
+   * commit together, and leftovers go back to Event Service after the commit.
+   */
+  @Scheduled(fixedDelayString = "${app.waitlist.sweep-interval-ms:15000}")
+  public void releaseExpiredOffers() {
+    Map<UUID, Integer> unclaimed = transactionTemplate.execute(status -> {
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      Map<UUID, Integer> expired = new HashMap<>();
+      jdbcTemplate.query(EXPIRE_DUE_OFFERS,
+          (RowCallbackHandler) rs -> expired.merge(
+              rs.getObject("event_id", UUID.class), rs.getInt("number_of_tickets"), Integer::sum),
+          now, now, SWEEP_BATCH_SIZE);
+
+      Map<UUID, Integer> leftover = new HashMap<>();
+      expired.forEach((eventId, tickets) -> {
+        int rest = offer(eventId, tickets);
+        if (rest > 0) {
+          leftover.put(eventId, rest);
+        }
+      });
+      return leftover;
+    });
+
+    if (unclaimed == null) {
+      return;
+    }
+    unclaimed.forEach((eventId, tickets) -> {
+      try {
+        returnToEvent(eventId, tickets);
+      } catch (Exception e) {
+        log.error("Failed to return {} expired waitlist tickets to event {}", tickets, eventId, e);
+      }
+    });
+  }
+
+  /**
+   * Offers up to `tickets` to the waiting entries of an event in arrival order,
+   * skipping requests larger than what is left. Must run in a transaction: the
+   * window stays locked until the offers commit.
+   * Returns the tickets nobody was offered.
+   */
+  private int offer(UUID eventId, int tickets) {
+    List<WaitingEntry> window = jdbcTemplate.query(WAITING_WINDOW,
+        (rs, rowNum) -> new WaitingEntry(
+            rs.getObject("id", UUID.class),
+            rs.getObject("user_id", UUID.class),
+            rs.getInt("number_of_tickets")),
+        eventId, ALLOCATION_WINDOW);
+
+    List<WaitingEntry> offered = new ArrayList<>();
+    int remaining = tickets;
+    for (WaitingEntry entry : window) {
+      if (remaining == 0) {
+        break;
+      }
+      if (entry.numberOfTickets() <= remaining) {
+        offered.add(entry);
+        remaining -= entry.numberOfTickets();
+      }
+    }
+    if (offered.isEmpty()) {
+      return remaining;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime expiresAt = now.plusMinutes(offerHoldMinutes);
+    jdbcTemplate.batchUpdate(OFFER, offered.stream()
+        .map(entry -> new Object[] { Timestamp.valueOf(expiresAt), Timestamp.valueOf(now), entry.id() })
+        .toList());
+
+    log.info("Offered {} tickets of event {} to {} waitlisted users", tickets - remaining, eventId, offered.size());
+    afterCommit(() -> notifyOffers(eventId, offered, expiresAt));
+    return remaining;
+  }
+
+  // Offers are announced once they are committed, so the lookups behind the emails never hold the window lock
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  // Best effort, like booking notifications: the offer stands even if the email doesn't go out
+  private void notifyOffers(UUID eventId, List<WaitingEntry> offered, LocalDateTime expiresAt) {
+    try {
+      EventResponse event = eventLookupService.getEvent(eventId);
+      String title = event != null ? event.title() : null;
+      Map<UUID, UserResponse> users = userLookupService.getUsers(
+          offered.stream().map(WaitingEntry::userId).distinct().toList());
+
+      List<WaitlistOfferedEvent> events = offered.stream()
+          .map(entry -> {
+            UserResponse user = users.get(entry.userId());
+            return new WaitlistOfferedEvent(entry.id(), eventId, entry.userId(), user != null ? user.email() : null,
+                title, entry.numberOfTickets(), expiresAt);
+          })
+          .toList();
+      kafkaProducerService.publishBookingEvents(eventId, events);
+    } catch (Exception e) {
+      log.error("Waitlist offers made but failed to send notifications for event {}", eventId, e);
+    }
+  }
+
+  private void returnToEvent(UUID eventId, int tickets) {
+    // Negative number adds tickets back
+    eventServiceClient.updateAvailableTickets(eventId, new UpdateTicketsRequest(-tickets, null), internalServiceKey);
+    log.info("Returned {} tickets to event {}", tickets, eventId);
+  }
+
+  private Long position(WaitlistEntry entry) {
+    if (entry.getStatus() != WaitlistStatus.WAITING) {
+      return null;
+    }
+    return waitlistEntryRepository.countByEventIdAndStatusAndCreatedAtBefore(
+        entry.getEventId(), WaitlistStatus.WAITING, entry.getCreatedAt());
+  }
+
+  private record WaitingEntry(UUID id, UUID userId, int numberOfTickets) {
+  }
+}
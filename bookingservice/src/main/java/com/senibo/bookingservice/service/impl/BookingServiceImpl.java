@@ -1,7 +1,10 @@
 package com.senibo.bookingservice.service.impl;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -19,11 +22,15 @@ import com.senibo.bookingservice.dto.BookingResponse;
 import com.senibo.bookingservice.dto.CreateBookingRequest;
 import com.senibo.bookingservice.dto.PagedResponse;
 import com.senibo.bookingservice.dto.clientDTOs.EventResponse;
+import com.senibo.bookingservice.dto.clientDTOs.SeatReleaseRequest;
+import com.senibo.bookingservice.dto.clientDTOs.SeatReservationRequest;
+import com.senibo.bookingservice.dto.clientDTOs.TicketTierResponse;
 import com.senibo.bookingservice.dto.clientDTOs.UpdateTicketsRequest;
 import com.senibo.bookingservice.dto.clientDTOs.UserResponse;
 import com.senibo.bookingservice.dto.kafka.BookingCancelledEvent;
 import com.senibo.bookingservice.dto.kafka.BookingConfirmedEvent;
 import com.senibo.bookingservice.entity.Booking;
+import com.senibo.bookingservice.entity.WaitlistEntry;
 import com.senibo.bookingservice.enums.BookingStatus;
 import com.senibo.bookingservice.enums.EventStatus;
 import com.senibo.bookingservice.exception.BookingException;
@@ -33,7 +40,15 @@ import com.senibo.bookingservice.exception.NotFoundException;
 import com.senibo.bookingservice.exception.UnauthorizedException;
 import com.senibo.bookingservice.repository.BookingRepository;
 import com.senibo.bookingservice.service.BookingService;
+import com.senibo.bookingservice.service.EventLookupService;
 import com.senibo.bookingservice.service.KafkaProducerService;
+import com.senibo.bookingservice.service.LotteryService;
+import com.senibo.bookingservice.service.PriceQuoteVerifier;
+import com.senibo.bookingservice.service.PromoCodeService;
+import com.senibo.bookingservice.service.PromoCodeService.Promo;
+import com.senibo.bookingservice.service.TicketCapService;
+import com.senibo.bookingservice.service.TicketService;
+import com.senibo.bookingservice.service.WaitlistService;
 
 import feign.FeignException;
 import jakarta.transaction.Transactional;
@@ -51,6 +66,13 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserServiceClient userServiceClient;
     private final KafkaProducerService kafkaProducerService;
+    private final EventLookupService eventLookupService;
+    private final WaitlistService waitlistService;
+    private final PriceQuoteVerifier priceQuoteVerifier;
+    private final PromoCodeService promoCodeService;
+    private final TicketService ticketService;
+    private final LotteryService lotteryService;
+    private final TicketCapService ticketCapService;
 
     @Value("${app.internal-service-key}")
     private String internalServiceKey;
@@ -63,12 +85,38 @@ public class BookingServiceImpl implements BookingService {
         validateInputs(request, userId);
         EventResponse event = fetchAndValidateEvent(request);
         validateBookingAgainstEvent(request, event);
+        lotteryService.ensureOnGeneralSale(request.eventId());
+        TicketTierResponse tier = hasTiers(event) ? findTier(event.tiers(), request.tier()) : null;
+        BigDecimal quotedPrice = tier == null ? quotedPrice(request, event) : null;
+        Promo promo = hasPromoCode(request) ? promoCodeService.validate(request.promoCode(), request.eventId()) : null;
+
+        // Counted against the user's limit for the event first; the counter rolls back with the booking
+        ticketCapService.reserve(userId, event, request.numberOfTickets());
+
+        // A capped code's use is taken before the inventory, and handed back if the booking doesn't commit
+        if (promo != null) {
+            promoCodeService.redeem(promo);
+        }
 
         // --- STEP 2: INVENTORY RESERVATION (Critical - External Call) ---
         // We do this BEFORE saving to our DB. If this fails, the method exits,
         // nothing is saved, and we don't need manual rollbacks.
+        // Reserved seating events assign the seats in the same call.
+        // Tiered events are charged the tier price Event Service reserved at.
+        List<String> seats = null;
         try {
-            updateEventTickets(request, event);
+            if (Boolean.TRUE.equals(event.reservedSeating())) {
+                seats = reserveEventSeats(request);
+            } else {
+                EventResponse reserved = updateEventTickets(request, tier != null ? tier.name() : null);
+                if (tier != null && reserved != null && hasTiers(reserved)) {
+                    tier = findTier(reserved.tiers(), tier.name());
+                }
+            }
+        } catch (FeignException.BadRequest e) {
+            throw e;
+        } catch (FeignException.UnprocessableEntity e) {
+            throw new InsufficientTicketsException("The requested tickets are no longer available");
         } catch (FeignException e) {
             log.error("Failed to reserve tickets for event: {}", request.eventId(), e);
             throw new BookingException("Failed to reserve tickets. Please try again.");
@@ -76,37 +124,35 @@ public class BookingServiceImpl implements BookingService {
 
         // --- STEP 3: PERSISTENCE (Critical - Database) ---
         // Inventory is reserved, so we save the booking as CONFIRMED immediately.
-        Booking booking = createBookingEntity(request, userId, event);
+        BigDecimal unitPrice = tier != null ? tier.price() : quotedPrice;
+        Booking booking = createBookingEntity(request, userId, unitPrice, seats, tier != null ? tier.name() : null, promo);
 
         // --- STEP 4: NOTIFICATIONS (Non-Critical / Best Effort) ---
-        // We wrap this in a separate try-catch so it DOES NOT rollback the transaction.
+        // Failures are logged inside and DO NOT rollback the transaction.
         // If the email server fails, the user still has a valid booking.
-        try {
-            // Fetch User Email (Token Relay handles authentication)
-            UserResponse user = getUserDetails(userId);
-
-            BookingConfirmedEvent bookingConfirmedEvent = new BookingConfirmedEvent(
-                    booking.getId(),
-                    booking.getUserId(),
-                    user.email(),
-                    event.title(),
-                    booking.getNumberOfTickets(),
-                    booking.getTotalPrice(),
-                    booking.getBookingReference(),
-                    event.startDateTime());
+        sendConfirmation(booking, event, userId);
 
-            kafkaProducerService.publishBookingConfirmedEvent(bookingConfirmedEvent);
+        return BookingResponse.from(booking, ticketService.tokens(booking));
+    }
 
-            log.info("Booking created and notification sent: bookingReference={}, userId={}",
-                    booking.getBookingReference(), userId);
+    @Override
+    @Transactional
+    public BookingResponse acceptWaitlistOffer(UUID eventId, UUID userId) {
+        // The offered tickets are still reserved at Event Service, so there is no inventory call:
+        // claiming the offer is the reservation. Anything failing below rolls the claim back.
+        WaitlistEntry offer = waitlistService.claimOffer(eventId, userId);
 
-        } catch (Exception e) {
-            // Log and swallow exception. Do NOT fail the booking.
-            log.error("Booking confirmed but failed to send notification for bookingRef: {}",
-                    booking.getBookingReference(), e);
+        CreateBookingRequest request = new CreateBookingRequest(eventId, offer.getNumberOfTickets(), null, null, null, null);
+        EventResponse event = fetchAndValidateEvent(request);
+        if (event.price() == null || event.price().compareTo(BigDecimal.ZERO) < 0) {
+            throw new BookingException("Event price is invalid");
         }
+        ticketCapService.reserve(userId, event, request.numberOfTickets());
 
-        return BookingResponse.from(booking);
+        Booking booking = createBookingEntity(request, userId, event.price(), null, null, null);
+        sendConfirmation(booking, event, userId);
+
+        return BookingResponse.from(booking, ticketService.tokens(booking));
     }
 
     @Override
@@ -125,7 +171,8 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedException("You are not authorized to view this booking");
         }
 
-        return BookingResponse.from(booking);
+        return BookingResponse.from(booking,
+                booking.getStatus() == BookingStatus.CONFIRMED ? ticketService.tokens(booking) : null);
     }
 
     @Override
@@ -145,11 +192,29 @@ public class BookingServiceImpl implements BookingService {
         // 1. Cancel in DB
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        ticketCapService.release(userId, booking.getEventId(), booking.getNumberOfTickets());
+        if (booking.getPromoCode() != null) {
+            promoCodeService.release(booking.getPromoCode());
+        }
 
-        // 2. Return Tickets (Best Effort - Log on failure)
+        // 2. Release Tickets: offered to the waitlist first, the rest returned to the event.
+        // Seats and tier tickets go straight back (those events have no waitlist).
+        // (Best Effort - Log on failure)
         try {
-            returnTicketsToEvent(booking);
-            log.info("Tickets returned to event: bookingId={}, eventId={}, tickets={}",
+            if (booking.getSeats() != null) {
+                eventServiceClient.releaseSeats(
+                        booking.getEventId(),
+                        new SeatReleaseRequest(List.of(booking.getSeats().split(","))),
+                        internalServiceKey);
+            } else if (booking.getTier() != null) {
+                eventServiceClient.updateAvailableTickets(
+                        booking.getEventId(),
+                        new UpdateTicketsRequest(-booking.getNumberOfTickets(), booking.getTier()),
+                        internalServiceKey);
+            } else {
+                waitlistService.releaseTickets(booking.getEventId(), booking.getNumberOfTickets());
+            }
+            log.info("Tickets released: bookingId={}, eventId={}, tickets={}",
                     bookingId, booking.getEventId(), booking.getNumberOfTickets());
         } catch (FeignException e) {
             log.error("Failed to return tickets to event service: bookingId={}", bookingId, e);
@@ -165,13 +230,15 @@ public class BookingServiceImpl implements BookingService {
             if (event != null && user != null) {
                 BookingCancelledEvent bookingCancelledEvent = new BookingCancelledEvent(
                         booking.getId(),
+                        booking.getEventId(),
                         booking.getUserId(),
                         user.email(),
                         event.title(),
                         booking.getNumberOfTickets(),
                         booking.getTotalPrice(),
                         booking.getBookingReference(),
-                        event.startDateTime());
+                        event.startDateTime(),
+                        null);
 
                 kafkaProducerService.publishBookingCancelledEvent(bookingCancelledEvent);
             }
@@ -195,12 +262,15 @@ public class BookingServiceImpl implements BookingService {
         if (request.numberOfTickets() > 10) {
             throw new BookingException("Cannot book more than 10 tickets in a single booking");
         }
+        if (request.seats() != null && !request.seats().isEmpty()
+                && request.seats().size() != request.numberOfTickets()) {
+            throw new BookingException("Number of seats must match the number of tickets");
+        }
     }
 
     private EventResponse fetchAndValidateEvent(CreateBookingRequest request) {
         try {
-            ApiSuccessResponse<EventResponse> eventResponse = eventServiceClient.getEvent(request.eventId());
-            EventResponse event = eventResponse.data();
+            EventResponse event = eventLookupService.getEvent(request.eventId());
 
             if (event == null) {
                 throw new BookingException("Event not found with id: " + request.eventId());
@@ -217,8 +287,7 @@ public class BookingServiceImpl implements BookingService {
     // A safe version of event fetching that doesn't throw exceptions (used in cancellation)
     private EventResponse fetchEventDetailsSafe(UUID eventId) {
         try {
-            ApiSuccessResponse<EventResponse> eventResponse = eventServiceClient.getEvent(eventId);
-            return eventResponse.data();
+            return eventLookupService.getEvent(eventId);
         } catch (Exception e) {
             log.error("Could not fetch event details for notification. eventId={}", eventId, e);
             return null; // Return null so we skip the specific email fields
@@ -233,7 +302,7 @@ public class BookingServiceImpl implements BookingService {
         }
 
         if (event.availableTickets() <= 0) {
-            throw new InsufficientTicketsException("Event is sold out");
+            throw new InsufficientTicketsException("Event is sold out. Join the waitlist to be offered returned tickets.");
         }
 
         if (event.availableTickets() < request.numberOfTickets()) {
@@ -245,17 +314,74 @@ public class BookingServiceImpl implements BookingService {
         if (event.price() == null || event.price().compareTo(BigDecimal.ZERO) < 0) {
             throw new BookingException("Event price is invalid");
         }
+
+        if (request.seats() != null && !request.seats().isEmpty()
+                && !Boolean.TRUE.equals(event.reservedSeating())) {
+            throw new BookingException("This event does not have reserved seating");
+        }
+
+        if (hasTiers(event)) {
+            TicketTierResponse tier = findTier(event.tiers(), request.tier());
+            if (tier.availableTickets() < request.numberOfTickets()) {
+                throw new InsufficientTicketsException(
+                        String.format("Only %d %s tickets available. Requested: %d",
+                                tier.availableTickets(), tier.name(), request.numberOfTickets()));
+            }
+        } else if (request.tier() != null) {
+            throw new BookingException("This event is not sold in ticket tiers");
+        }
+
+        if (hasTiers(event) && request.quote() != null) {
+            throw new BookingException("Tiered events are priced per ticket tier; no price quote is needed");
+        }
+    }
+
+    // Dynamic prices move while the user checks out: a signed quote fixes what they pay
+    private BigDecimal quotedPrice(CreateBookingRequest request, EventResponse event) {
+        if (request.quote() != null) {
+            priceQuoteVerifier.verify(request.quote(), request.eventId());
+            return request.quote().unitPrice();
+        }
+        if (Boolean.TRUE.equals(event.dynamicPricing())) {
+            throw new BookingException("The price of this event follows demand. Book with a price quote.");
+        }
+        return event.price();
+    }
+
+    private boolean hasPromoCode(CreateBookingRequest request) {
+        return request.promoCode() != null && !request.promoCode().isBlank();
+    }
+
+    private boolean hasTiers(EventResponse event) {
+        return event.tiers() != null && !event.tiers().isEmpty();
+    }
+
+    private TicketTierResponse findTier(List<TicketTierResponse> tiers, String tierName) {
+        if (tierName == null || tierName.isBlank()) {
+            throw new BookingException("This event is sold in ticket tiers. Choose one of: "
+                    + tiers.stream().map(TicketTierResponse::name).collect(Collectors.joining(", ")));
+        }
+        return tiers.stream()
+                .filter(tier -> tier.name().equalsIgnoreCase(tierName.trim()))
+                .findFirst()
+                .orElseThrow(() -> new BookingException("Unknown ticket tier: " + tierName));
     }
 
-    private Booking createBookingEntity(CreateBookingRequest request, UUID userId, EventResponse event) {
-        BigDecimal totalPrice = calculateTotalPrice(request, event);
+    private Booking createBookingEntity(CreateBookingRequest request, UUID userId, BigDecimal unitPrice,
+            List<String> seats, String tier, Promo promo) {
+        BigDecimal totalPrice = calculateTotalPrice(request, unitPrice, promo);
         String bookingReference = generateUniqueBookingReference();
+        int ticketSerial = ticketService.allocateSerials(request.eventId(), request.numberOfTickets());
 
         // Optimized: Save directly as CONFIRMED since we already reserved tickets
         Booking booking = Booking.builder()
                 .userId(userId)
                 .eventId(request.eventId())
                 .numberOfTickets(request.numberOfTickets())
+                .seats(seats != null ? String.join(",", seats) : null)
+                .tier(tier)
+                .promoCode(promo != null ? promo.code() : null)
+                .ticketSerial(ticketSerial)
                 .totalPrice(totalPrice)
                 .status(BookingStatus.CONFIRMED) 
                 .bookingReference(bookingReference)
@@ -264,8 +390,13 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.save(booking);
     }
 
-    private BigDecimal calculateTotalPrice(CreateBookingRequest request, EventResponse event) {
-        return event.price().multiply(BigDecimal.valueOf(request.numberOfTickets()));
+    private BigDecimal calculateTotalPrice(CreateBookingRequest request, BigDecimal unitPrice, Promo promo) {
+        BigDecimal total = unitPrice.multiply(BigDecimal.valueOf(request.numberOfTickets()));
+        if (promo == null) {
+            return total;
+        }
+        BigDecimal payablePercent = BigDecimal.valueOf(100 - promo.discountPercent());
+        return total.multiply(payablePercent).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
     }
 
     private String generateUniqueBookingReference() {
@@ -282,21 +413,45 @@ public class BookingServiceImpl implements BookingService {
         throw new BookingException("Failed to generate unique booking reference");
     }
 
-    private void updateEventTickets(CreateBookingRequest request, EventResponse event) {
-        UpdateTicketsRequest updateRequest = new UpdateTicketsRequest(request.numberOfTickets());
-        eventServiceClient.updateAvailableTickets(
+    private EventResponse updateEventTickets(CreateBookingRequest request, String tier) {
+        UpdateTicketsRequest updateRequest = new UpdateTicketsRequest(request.numberOfTickets(), tier);
+        return eventServiceClient.updateAvailableTickets(
                 request.eventId(),
                 updateRequest,
-                internalServiceKey);
+                internalServiceKey).data();
     }
 
-    private void returnTicketsToEvent(Booking booking) {
-        // Negative number adds tickets back
-        UpdateTicketsRequest updateRequest = new UpdateTicketsRequest(-booking.getNumberOfTickets());
-        eventServiceClient.updateAvailableTickets(
-                booking.getEventId(),
-                updateRequest,
-                internalServiceKey);
+    private List<String> reserveEventSeats(CreateBookingRequest request) {
+        SeatReservationRequest reservation = new SeatReservationRequest(request.numberOfTickets(), request.seats());
+        return eventServiceClient.reserveSeats(request.eventId(), reservation, internalServiceKey).data();
+    }
+
+    private void sendConfirmation(Booking booking, EventResponse event, UUID userId) {
+        try {
+            // Fetch User Email (Token Relay handles authentication)
+            UserResponse user = getUserDetails(userId);
+
+            BookingConfirmedEvent bookingConfirmedEvent = new BookingConfirmedEvent(
+                    booking.getId(),
+                    booking.getEventId(),
+                    booking.getUserId(),
+                    user.email(),
+                    event.title(),
+                    booking.getNumberOfTickets(),
+                    booking.getTotalPrice(),
+                    booking.getBookingReference(),
+                    event.startDateTime());
+
+            kafkaProducerService.publishBookingConfirmedEvent(bookingConfirmedEvent);
+
+            log.info("Booking created and notification sent: bookingReference={}, userId={}",
+                    booking.getBookingReference(), userId);
+
+        } catch (Exception e) {
+            // Log and swallow exception. Do NOT fail the booking.
+            log.error("Booking confirmed but failed to send notification for bookingRef: {}",
+                    booking.getBookingReference(), e);
+        }
     }
 
     private UserResponse getUserDetails(UUID userId) {
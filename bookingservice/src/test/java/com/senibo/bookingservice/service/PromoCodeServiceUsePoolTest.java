@@ -0,0 +1,84 @@
+package com.senibo.bookingservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.senibo.bookingservice.service.PromoCodeService.UsePool;
+
+class PromoCodeServiceUsePoolTest {
+
+  @Test
+  void handsOutExactlyTheUsesPutIn() {
+    UsePool pool = new UsePool();
+    pool.put(5);
+
+    int taken = 0;
+    while (pool.tryTake()) {
+      taken++;
+    }
+
+    assertThat(taken).isEqualTo(5);
+    assertThat(pool.drain()).isZero();
+  }
+
+  @Test
+  void singleUseReturnedIsTakenAgain() {
+    UsePool pool = new UsePool();
+    pool.put(1);
+
+    assertThat(pool.tryTake()).isTrue();
+    assertThat(pool.tryTake()).isFalse();
+    pool.put(1);
+    assertThat(pool.tryTake()).isTrue();
+    assertThat(pool.tryTake()).isFalse();
+  }
+
+  @Test
+  void drainReturnsWhatIsLeftAndEmptiesThePool() {
+    UsePool pool = new UsePool();
+    pool.put(50);
+    pool.put(1);
+    pool.tryTake();
+
+    assertThat(pool.drain()).isEqualTo(50);
+    assertThat(pool.tryTake()).isFalse();
+    assertThat(pool.drain()).isZero();
+  }
+
+  @Test
+  void concurrentTakersNeverOverdraw() throws InterruptedException {
+    UsePool pool = new UsePool();
+    pool.put(10_000);
+
+    AtomicInteger taken = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      Thread thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        while (pool.tryTake()) {
+          taken.incrementAndGet();
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(taken.get()).isEqualTo(10_000);
+    assertThat(pool.drain()).isZero();
+  }
+}
@@ -0,0 +1,90 @@
+package com.senibo.bookingservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.senibo.bookingservice.exception.BookingException;
+import com.senibo.bookingservice.service.TicketTokenSigner.Ticket;
+
+class TicketTokenSignerTest {
+
+  private static final UUID EVENT_ID = UUID.fromString("0190f6a2-1c3e-7b4d-9a10-6f2e8c4d5a01");
+  private static final UUID BOOKING_ID = UUID.fromString("0190f6a2-7d21-7e88-b3c5-0a9d4e6f7b12");
+
+  private final TicketTokenSigner signer = new TicketTokenSigner("test-signing-secret-of-32-bytes!");
+
+  @Test
+  void issuedTokenVerifiesToItsTicket() {
+    String token = signer.issue(EVENT_ID, BOOKING_ID, 42);
+
+    assertThat(token).hasSize(71);
+    assertThat(signer.verify(token)).isEqualTo(new Ticket(EVENT_ID, BOOKING_ID, 42));
+    assertThat(signer.verify(" " + token + "\n")).isEqualTo(new Ticket(EVENT_ID, BOOKING_ID, 42));
+  }
+
+  @Test
+  void tamperedPayloadIsRejected() {
+    byte[] bytes = decode(signer.issue(EVENT_ID, BOOKING_ID, 42));
+    // Last byte of the serial
+    bytes[36] ^= 1;
+
+    assertInvalid(encode(bytes));
+  }
+
+  @Test
+  void tamperedMacIsRejected() {
+    byte[] bytes = decode(signer.issue(EVENT_ID, BOOKING_ID, 42));
+    bytes[bytes.length - 1] ^= 1;
+
+    assertInvalid(encode(bytes));
+  }
+
+  @Test
+  void tokenSignedWithAnotherSecretIsRejected() {
+    TicketTokenSigner other = new TicketTokenSigner("another-signing-secret-32-bytes!");
+
+    assertInvalid(other.issue(EVENT_ID, BOOKING_ID, 42));
+  }
+
+  @Test
+  void wrongLengthIsRejected() {
+    byte[] bytes = decode(signer.issue(EVENT_ID, BOOKING_ID, 42));
+
+    assertInvalid(encode(Arrays.copyOf(bytes, bytes.length - 1)));
+    assertInvalid(encode(Arrays.copyOf(bytes, bytes.length + 1)));
+    assertInvalid("");
+  }
+
+  @Test
+  void unknownVersionIsRejected() {
+    byte[] bytes = decode(signer.issue(EVENT_ID, BOOKING_ID, 42));
+    bytes[0] = 2;
+
+    assertInvalid(encode(bytes));
+  }
+
+  @Test
+  void malformedBase64IsRejected() {
+    assertInvalid("not a ticket token!");
+  }
+
+  private void assertInvalid(String token) {
+    assertThatThrownBy(() -> signer.verify(token))
+        .isInstanceOf(BookingException.class)
+        .hasMessage("Invalid ticket");
+  }
+
+  private static byte[] decode(String token) {
+    return Base64.getUrlDecoder().decode(token);
+  }
+
+  private static String encode(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -0,0 +1,61 @@
+package com.senibo.eventservice.consumer;
+
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.senibo.eventservice.dto.kafka.BookingConfirmedEvent;
+import com.senibo.eventservice.service.TrendingEventsTracker;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feeds TrendingEventsTracker from Booking Service's booking-events topic.
+ * Every replica joins its own consumer group and, on start, rewinds to the
+ * bookings of the last REPLAY_MS so the ranking is warm straight away.
+ */
+@Component
+@Slf4j
+@KafkaListener(
+    topics = BookingTrendConsumer.BOOKING_EVENTS_TOPIC,
+    groupId = "eventservice-trending-#{T(com.senibo.eventservice.service.KafkaProducerService).INSTANCE_ID}")
+public class BookingTrendConsumer extends AbstractConsumerSeekAware {
+
+  public static final String BOOKING_EVENTS_TOPIC = "booking-events";
+
+  // Older bookings have decayed to almost nothing
+  private static final long REPLAY_MS = 2 * 3_600_000L;
+
+  private final TrendingEventsTracker trendingEventsTracker;
+
+  public BookingTrendConsumer(TrendingEventsTracker trendingEventsTracker) {
+    this.trendingEventsTracker = trendingEventsTracker;
+  }
+
+  @Override
+  public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+    super.onPartitionsAssigned(assignments, callback);
+    callback.seekToTimestamp(assignments.keySet(), System.currentTimeMillis() - REPLAY_MS);
+  }
+
+  // Weighted by when the booking was made, so replayed bookings count as old ones
+  @KafkaHandler
+  public void handleBookingConfirmed(BookingConfirmedEvent event,
+      @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp) {
+    if (event.eventId() != null) {
+      trendingEventsTracker.record(event.eventId(), timestamp);
+    }
+  }
+
+  // Cancellations and reschedule notices don't count towards velocity
+  @KafkaHandler(isDefault = true)
+  public void ignore(Object event) {
+    log.trace("Ignoring {} for trending", event.getClass().getSimpleName());
+  }
+}
@@ -0,0 +1,74 @@
+package com.senibo.eventservice.consumer;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.senibo.eventservice.dto.kafka.EventCacheInvalidationEvent;
+import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.entity.EventInventory;
+import com.senibo.eventservice.service.AvailabilityStreamService;
+import com.senibo.eventservice.service.DynamicPricingService;
+import com.senibo.eventservice.service.EventGeoIndex;
+import com.senibo.eventservice.service.EventJsonCache;
+import com.senibo.eventservice.service.EventSuggestIndex;
+import com.senibo.eventservice.service.KafkaProducerService;
+import com.senibo.eventservice.service.SeatMapService;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the second-level caches of all eventservice replicas coherent.
+ * Every replica joins its own consumer group, so each one sees every message.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EventCacheInvalidationConsumer {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final EventJsonCache eventJsonCache;
+  private final EventGeoIndex eventGeoIndex;
+  private final EventSuggestIndex eventSuggestIndex;
+  private final SeatMapService seatMapService;
+  private final DynamicPricingService dynamicPricingService;
+  private final AvailabilityStreamService availabilityStreamService;
+
+  @KafkaListener(
+      topics = KafkaProducerService.CACHE_INVALIDATION_TOPIC,
+      groupId = "eventservice-cache-#{T(com.senibo.eventservice.service.KafkaProducerService).INSTANCE_ID}")
+  public void handleCacheInvalidation(EventCacheInvalidationEvent event) {
+    // Our own writes already refreshed the local cache
+    if (KafkaProducerService.INSTANCE_ID.equals(event.originInstanceId())) {
+      return;
+    }
+
+    log.debug("Evicting cached event {} (changed on replica {})", event.eventId(), event.originInstanceId());
+    // Ticket counts live in the event-inventory region; only other changes touch the descriptive entry
+    if (event.ticketsChanged() == null || event.pricingChanged() != null) {
+      entityManagerFactory.getCache().evict(Event.class, event.eventId());
+    }
+    entityManagerFactory.getCache().evict(EventInventory.class, event.eventId());
+    eventJsonCache.evict(event.eventId());
+    // Ticket and pricing updates leave coordinates, texts and status alone
+    if (event.ticketsChanged() == null && event.pricingChanged() == null) {
+      eventGeoIndex.refresh(event.eventId());
+      eventSuggestIndex.refresh(event.eventId());
+    }
+    // Seats released there (or a new layout) need a reload; seats taken there show up at our next commit
+    if (event.ticketsChanged() == null || event.ticketsChanged() < 0) {
+      seatMapService.evict(event.eventId());
+    }
+    // Reservations made there count towards the demand price here too
+    if (event.ticketsChanged() != null) {
+      dynamicPricingService.recordReservation(event.eventId(), event.ticketsChanged());
+      eventSuggestIndex.ticketsChanged(event.eventId(), event.ticketsChanged());
+      // Subscribers on this replica get the new count (read after the eviction above)
+      availabilityStreamService.changed(event.eventId());
+    }
+    if (Boolean.TRUE.equals(event.pricingChanged())) {
+      dynamicPricingService.refresh(event.eventId());
+    }
+  }
+}
@@ -1,22 +1,41 @@
 package com.senibo.eventservice.controller;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.senibo.eventservice.dto.*;
 import com.senibo.eventservice.enums.EventCategory;
 import com.senibo.eventservice.enums.EventStatus;
 import com.senibo.eventservice.exception.UnauthorizedException;
+import com.senibo.eventservice.service.AvailabilityStreamService;
+import com.senibo.eventservice.service.EventExportService;
+import com.senibo.eventservice.service.EventJsonCache;
+import com.senibo.eventservice.service.EventJsonCache.CachedJson;
 import com.senibo.eventservice.service.EventService;
+import com.senibo.eventservice.util.EventETags;
+import com.senibo.eventservice.util.EventImportReader;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +54,10 @@ public class EventController {
   private String internalServiceKey;
 
   private final EventService eventService;
+  private final EventJsonCache eventJsonCache;
+  private final EventExportService eventExportService;
+  private final AvailabilityStreamService availabilityStreamService;
+  private final ObjectMapper objectMapper;
 
   // ==================== HELPER METHOD ====================
 
@@ -59,6 +82,10 @@ public class EventController {
     }
   }
 
+  private static String importMessage(EventImportResponse report) {
+    return String.format("Imported %d of %d events", report.imported(), report.totalRows());
+  }
+
   // ==================== ENDPOINTS ====================
 
   @PostMapping
@@ -74,14 +101,56 @@ public class EventController {
     return ApiSuccessResponse.of(createdEvent, "Event created successfully");
   }
 
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Import events (JSON)", description = "Create up to 10,000 DRAFT events from a JSON array of create requests (JWT required). "
+      + "Invalid rows are skipped and reported; valid rows are imported.")
+  public ApiSuccessResponse<EventImportResponse> importEventsJson(InputStream body) {
+    UUID organizerId = getAuthenticatedOrganizerId();
+
+    EventImportResponse report = eventService.importEvents(EventImportReader.fromJson(body, objectMapper), organizerId);
+
+    return ApiSuccessResponse.of(report, importMessage(report));
+  }
+
+  @PostMapping(value = "/import", consumes = "text/csv")
+  @Operation(summary = "Import events (CSV)", description = "Create up to 10,000 DRAFT events from a CSV file whose header names the create request fields (JWT required). "
+      + "Invalid rows are skipped and reported; valid rows are imported.")
+  public ApiSuccessResponse<EventImportResponse> importEventsCsv(InputStream body) {
+    UUID organizerId = getAuthenticatedOrganizerId();
+
+    EventImportResponse report = eventService.importEvents(EventImportReader.fromCsv(body), organizerId);
+
+    return ApiSuccessResponse.of(report, importMessage(report));
+  }
+
   @GetMapping("/{eventId}")
-  @Operation(summary = "Get event by ID", description = "Retrieve event details by ID (public - no auth required)")
-  public ApiSuccessResponse<EventResponse> getEventById(
-      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+  @Operation(summary = "Get event by ID", description = "Retrieve event details by ID (public - no auth required). Supports If-None-Match.")
+  @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+      schema = @Schema(implementation = EventResponse.class)))
+  public ResponseEntity<byte[]> getEventById(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      WebRequest webRequest) {
+
+    // Body is pre-serialized; Jackson only runs on a cache miss
+    CachedJson event = eventJsonCache.getEvent(eventId, eventService::getEventById);
 
-    EventResponse event = eventService.getEventById(eventId);
+    // 304 Not Modified - nothing gets written
+    if (webRequest.checkNotModified(event.etag())) {
+      return null;
+    }
 
-    return ApiSuccessResponse.of(event);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(event.body());
+  }
+
+  @GetMapping(value = "/{eventId}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Stream ticket availability", description = "Server-sent 'availability' events with the available tickets of an event: "
+      + "the current count on connect, then changes, at most a few per second (public - no auth required). Use instead of polling the event.")
+  public SseEmitter streamAvailability(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+
+    return availabilityStreamService.subscribe(eventId);
   }
 
   @PutMapping("/{eventId}")
@@ -114,6 +183,104 @@ public class EventController {
     return ApiSuccessResponse.of(updatedEvent, "Tickets updated successfully");
   }
 
+  @PutMapping("/{eventId}/seat-map")
+  @Operation(summary = "Set seat map", description = "Define the reserved-seating sections of an event before tickets go on sale (owner only - JWT required)")
+  public ApiSuccessResponse<SeatMapResponse> configureSeatMap(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody SeatMapRequest request) {
+
+    UUID organizerId = getAuthenticatedOrganizerId(); // ✅ Get from JWT
+
+    SeatMapResponse seatMap = eventService.configureSeatMap(eventId, request, organizerId);
+
+    return ApiSuccessResponse.of(seatMap, "Seat map saved successfully");
+  }
+
+  @GetMapping("/{eventId}/seat-map")
+  @Operation(summary = "Get seat map", description = "Sections and live seat occupancy of a reserved-seating event (public - no auth required)")
+  public ApiSuccessResponse<SeatMapResponse> getSeatMap(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+
+    return ApiSuccessResponse.of(eventService.getSeatMap(eventId));
+  }
+
+  @PostMapping("/{eventId}/seats/reserve")
+  @Operation(summary = "Reserve seats", description = "Reserve chosen or best available adjacent seats (internal - Booking Service only)")
+  public ApiSuccessResponse<List<String>> reserveSeats(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody SeatReservationRequest request,
+      @RequestHeader(value = "x-internal-secret", required = true) String secret) {
+
+    // 🔒 SECURITY CHECK: If keys don't match, block the request
+    if (!internalServiceKey.equals(secret)) {
+      throw new UnauthorizedException("Access Denied: Only Internal Services can perform this action.");
+    }
+
+    return ApiSuccessResponse.of(eventService.reserveSeats(eventId, request), "Seats reserved successfully");
+  }
+
+  @PostMapping("/{eventId}/seats/release")
+  @Operation(summary = "Release seats", description = "Free reserved seats of a cancelled booking (internal - Booking Service only)")
+  public ApiSuccessResponse<String> releaseSeats(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody SeatReleaseRequest request,
+      @RequestHeader(value = "x-internal-secret", required = true) String secret) {
+
+    // 🔒 SECURITY CHECK: If keys don't match, block the request
+    if (!internalServiceKey.equals(secret)) {
+      throw new UnauthorizedException("Access Denied: Only Internal Services can perform this action.");
+    }
+
+    eventService.releaseSeats(eventId, request);
+
+    return ApiSuccessResponse.of("Seats released successfully");
+  }
+
+  @PutMapping("/{eventId}/tiers")
+  @Operation(summary = "Set ticket tiers", description = "Split the capacity of an event into priced tiers before tickets go on sale (owner only - JWT required)")
+  public ApiSuccessResponse<List<TicketTierResponse>> configureTicketTiers(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody TicketTiersRequest request) {
+
+    UUID organizerId = getAuthenticatedOrganizerId(); // ✅ Get from JWT
+
+    List<TicketTierResponse> tiers = eventService.configureTicketTiers(eventId, request, organizerId);
+
+    return ApiSuccessResponse.of(tiers, "Ticket tiers saved successfully");
+  }
+
+  @PutMapping("/{eventId}/pricing")
+  @Operation(summary = "Enable dynamic pricing", description = "Let the ticket price follow the sales pace within bounds (owner only - JWT required)")
+  public ApiSuccessResponse<EventResponse> configureDynamicPricing(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId,
+      @Valid @RequestBody DynamicPricingRequest request) {
+
+    UUID organizerId = getAuthenticatedOrganizerId(); // ✅ Get from JWT
+
+    EventResponse event = eventService.configureDynamicPricing(eventId, request, organizerId);
+
+    return ApiSuccessResponse.of(event, "Dynamic pricing saved successfully");
+  }
+
+  @DeleteMapping("/{eventId}/pricing")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  @Operation(summary = "Disable dynamic pricing", description = "Return the event to its base price (owner only - JWT required)")
+  public void disableDynamicPricing(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+
+    UUID organizerId = getAuthenticatedOrganizerId(); // ✅ Get from JWT
+
+    eventService.disableDynamicPricing(eventId, organizerId);
+  }
+
+  @GetMapping("/{eventId}/price-quote")
+  @Operation(summary = "Get price quote", description = "Signed current ticket price to book with; honoured until it expires (public - no auth required)")
+  public ApiSuccessResponse<PriceQuoteResponse> getPriceQuote(
+      @Parameter(description = "Event ID", required = true) @PathVariable UUID eventId) {
+
+    return ApiSuccessResponse.of(eventService.getPriceQuote(eventId));
+  }
+
   @DeleteMapping("/{eventId}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @Operation(summary = "Delete event", description = "Soft delete event by changing status to CANCELLED (owner only - JWT required)")
@@ -126,18 +293,23 @@ public class EventController {
   }
 
   @GetMapping("/search")
-  @Operation(summary = "Search events", description = "Search and filter events with pagination (public - no auth required)")
+  @Operation(summary = "Search events", description = "Search and filter events with pagination (public - no auth required). Supports If-None-Match.")
   public ApiSuccessResponse<PagedResponse<EventResponse>> searchEvents(
       @Parameter(description = "Event category") @RequestParam(required = false) String category,
       @Parameter(description = "City") @RequestParam(required = false) String city,
       @Parameter(description = "Event status") @RequestParam(required = false) String status,
       @Parameter(description = "Search keyword in title") @RequestParam(required = false) String titleKeyword,
       @Parameter(description = "Events starting after this date (ISO format)") @RequestParam(required = false) String startDateAfter,
+      @Parameter(description = "Events starting before this date (ISO format)") @RequestParam(required = false) String startDateBefore,
       @Parameter(description = "Organizer ID") @RequestParam(required = false) UUID organizerId,
+      @Parameter(description = "Latitude of the proximity search point") @RequestParam(required = false) Double nearLatitude,
+      @Parameter(description = "Longitude of the proximity search point") @RequestParam(required = false) Double nearLongitude,
+      @Parameter(description = "Proximity radius in km (default 25, max 500); results are sorted by distance") @RequestParam(required = false) Double radiusKm,
       @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
       @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
-      @Parameter(description = "Sort by field") @RequestParam(defaultValue = "startDateTime") String sortBy,
-      @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection) {
+      @Parameter(description = "Sort by field (startDateTime, price, createdAt)") @RequestParam(defaultValue = "startDateTime") String sortBy,
+      @Parameter(description = "Sort direction (ASC/DESC)") @RequestParam(defaultValue = "ASC") String sortDirection,
+      WebRequest webRequest) {
 
     // Build EventSearchRequest from query params
     EventSearchRequest searchRequest = new EventSearchRequest(
@@ -146,7 +318,11 @@ public class EventController {
         status != null ? EventStatus.valueOf(status.toUpperCase()) : null,
         titleKeyword,
         startDateAfter != null ? LocalDateTime.parse(startDateAfter) : null,
+        startDateBefore != null ? LocalDateTime.parse(startDateBefore) : null,
         organizerId,
+        nearLatitude,
+        nearLongitude,
+        radiusKm,
         page,
         size,
         sortBy,
@@ -154,9 +330,73 @@ public class EventController {
 
     PagedResponse<EventResponse> events = eventService.searchEvents(searchRequest);
 
+    if (webRequest.checkNotModified(EventETags.forPage(events))) {
+      return null;
+    }
+
     return ApiSuccessResponse.of(events);
   }
 
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Export events", description = "Stream every event matching the filters as newline-delimited JSON, ordered by ID (JWT required). "
+      + "Resume an interrupted export with after=<ID of the last event received>. Gzip-compressed when the client accepts it.")
+  public ResponseEntity<StreamingResponseBody> exportEvents(
+      @Parameter(description = "Event category") @RequestParam(required = false) String category,
+      @Parameter(description = "City") @RequestParam(required = false) String city,
+      @Parameter(description = "Event status") @RequestParam(required = false) String status,
+      @Parameter(description = "Search keyword in title") @RequestParam(required = false) String titleKeyword,
+      @Parameter(description = "Events starting after this date (ISO format)") @RequestParam(required = false) String startDateAfter,
+      @Parameter(description = "Events starting before this date (ISO format)") @RequestParam(required = false) String startDateBefore,
+      @Parameter(description = "Organizer ID") @RequestParam(required = false) UUID organizerId,
+      @Parameter(description = "Resume token: ID of the last event already received") @RequestParam(required = false) UUID after,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    EventSearchRequest filters = new EventSearchRequest(
+        category != null ? EventCategory.valueOf(category.toUpperCase()) : null,
+        city,
+        status != null ? EventStatus.valueOf(status.toUpperCase()) : null,
+        titleKeyword,
+        startDateAfter != null ? LocalDateTime.parse(startDateAfter) : null,
+        startDateBefore != null ? LocalDateTime.parse(startDateBefore) : null,
+        organizerId,
+        null, null, null, null, null, null, null);
+
+    boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+    StreamingResponseBody body = out -> {
+      if (gzip) {
+        GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+        eventExportService.exportEvents(filters, after, compressed);
+        compressed.finish();
+      } else {
+        eventExportService.exportEvents(filters, after, out);
+      }
+    };
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip").header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    return response.body(body);
+  }
+
+  @GetMapping("/suggest")
+  @Operation(summary = "Autocomplete events", description = "Prefix suggestions over titles, venues and cities of published events, most tickets sold first (public - no auth required)")
+  public ApiSuccessResponse<List<EventSuggestionResponse>> suggestEvents(
+      @Parameter(description = "Text typed so far", required = true) @RequestParam String q,
+      @Parameter(description = "Max suggestions (1-10)") @RequestParam(defaultValue = "10") int limit) {
+
+    return ApiSuccessResponse.of(eventService.suggestEvents(q, Math.max(1, limit)));
+  }
+
+  @GetMapping("/trending")
+  @Operation(summary = "Trending events", description = "Published events with the fastest booking velocity over the last hour (public - no auth required)")
+  public ApiSuccessResponse<List<TrendingEventResponse>> getTrendingEvents(
+      @Parameter(description = "Max events (1-20)") @RequestParam(defaultValue = "10") int limit) {
+
+    return ApiSuccessResponse.of(eventService.getTrendingEvents(Math.max(1, limit)));
+  }
+
   @GetMapping("/my-events")
   @Operation(summary = "Get my events", description = "Get all events created by the authenticated organizer (JWT required)")
   public ApiSuccessResponse<PagedResponse<EventResponse>> getMyEvents(
@@ -171,14 +411,35 @@ public class EventController {
   }
 
   @GetMapping("/published")
-  @Operation(summary = "Get published events", description = "Get all published events (public - no auth required)")
-  public ApiSuccessResponse<PagedResponse<EventResponse>> getPublishedEvents(
+  @Operation(summary = "Get published events", description = "Get all published events (public - no auth required). Supports If-None-Match.")
+  @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+      schema = @Schema(implementation = PagedResponse.class)))
+  public ResponseEntity<?> getPublishedEvents(
       @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-      @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+      @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+      WebRequest webRequest) {
+
+    // The landing page: serve page 0 from pre-serialized bytes
+    if (page == EventJsonCache.CACHED_PUBLISHED_PAGE) {
+      CachedJson firstPage = eventJsonCache.getPublishedFirstPage(size,
+          pageSize -> eventService.getPublishedEvents(EventJsonCache.CACHED_PUBLISHED_PAGE, pageSize));
+
+      if (webRequest.checkNotModified(firstPage.etag())) {
+        return null;
+      }
+
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(firstPage.body());
+    }
 
     PagedResponse<EventResponse> events = eventService.getPublishedEvents(page, size);
 
-    return ApiSuccessResponse.of(events);
+    if (webRequest.checkNotModified(EventETags.forPage(events))) {
+      return null;
+    }
+
+    return ResponseEntity.ok(ApiSuccessResponse.of(events));
   }
 
   @PatchMapping("/{eventId}/status")
@@ -193,4 +454,65 @@ public class EventController {
 
     return ApiSuccessResponse.of(updatedEvent, "Event status updated successfully");
   }
-}
\ No newline at end of file
+
+  // ==================== RECURRING SERIES ====================
+
+  @PostMapping("/series")
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Create event series", description = "Create a recurring event from a template and schedule, as DRAFT (JWT required). "
+      + "Occurrences become events lazily once the series is published.")
+  public ApiSuccessResponse<EventSeriesResponse> createSeries(
+      @Valid @RequestBody CreateEventSeriesRequest request) {
+
+    UUID organizerId = getAuthenticatedOrganizerId(); // ✅ Get from JWT
+
+    EventSeriesResponse series = eventService.createSeries(request, organizerId);
+
+    return ApiSuccessResponse.of(series, "Event series created successfully");
+  }
+
+  @GetMapping("/series/{seriesId}")
+  @Operation(summary = "Get event series", description = "Template and schedule of a recurring event (public - no auth required)")
+  public ApiSuccessResponse<EventSeriesResponse> getSeries(
+      @Parameter(description = "Series ID", required = true) @PathVariable UUID seriesId) {
+
+    return ApiSuccessResponse.of(eventService.getSeries(seriesId));
+  }
+
+  @PatchMapping("/series/{seriesId}/status")
+  @Operation(summary = "Update event series status", description = "Publish or cancel a series; cancelling also cancels its upcoming occurrences (owner only - JWT required)")
+  public ApiSuccessResponse<EventSeriesResponse> updateSeriesStatus(
+      @Parameter(description = "Series ID", required = true) @PathVariable UUID seriesId,
+      @Parameter(description = "New status (PUBLISHED or CANCELLED)", required = true) @RequestParam EventStatus status) {
+
+    UUID organizerId = getAuthenticatedOrganizerId(); // ✅ Get from JWT
+
+    EventSeriesResponse series = eventService.updateSeriesStatus(seriesId, status, organizerId);
+
+    return ApiSuccessResponse.of(series, "Event series status updated successfully");
+  }
+
+  @GetMapping("/series/{seriesId}/occurrences")
+  @Operation(summary = "Get series occurrences", description = "Occurrences of a series in a date range, in start order (public - no auth required). "
+      + "Occurrences without an id are booked through POST /series/{seriesId}/occurrences/{index}.")
+  public ApiSuccessResponse<List<EventResponse>> getSeriesOccurrences(
+      @Parameter(description = "Series ID", required = true) @PathVariable UUID seriesId,
+      @Parameter(description = "Occurrences starting from this date (ISO format, default now)") @RequestParam(required = false) String from,
+      @Parameter(description = "Occurrences starting before this date (ISO format, at most the search horizon ahead)") @RequestParam(required = false) String to) {
+
+    return ApiSuccessResponse.of(eventService.getSeriesOccurrences(seriesId,
+        from != null ? LocalDateTime.parse(from) : null,
+        to != null ? LocalDateTime.parse(to) : null));
+  }
+
+  @PostMapping("/series/{seriesId}/occurrences/{occurrenceIndex}")
+  @Operation(summary = "Open series occurrence", description = "Event of an occurrence, created on first request, to book by its ID (JWT required)")
+  public ApiSuccessResponse<EventResponse> materializeOccurrence(
+      @Parameter(description = "Series ID", required = true) @PathVariable UUID seriesId,
+      @Parameter(description = "Occurrence index (0 = first)", required = true) @PathVariable int occurrenceIndex) {
+
+    getAuthenticatedOrganizerId(); // any signed-in user about to book
+
+    return ApiSuccessResponse.of(eventService.materializeOccurrence(seriesId, occurrenceIndex));
+  }
+}
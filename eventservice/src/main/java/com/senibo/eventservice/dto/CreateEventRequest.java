@@ -50,11 +50,23 @@ public record CreateEventRequest(
     @NotBlank
     String city,
 
+    @Schema(description = "Venue latitude (WGS84)", example = "6.4281")
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    Double latitude,
+
+    @Schema(description = "Venue longitude (WGS84)", example = "3.4219")
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    Double longitude,
+
     @Schema(description = "Total number of seats available", example = "300")
     @NotNull @Min(1)
     Integer capacity,
 
     @Schema(description = "Ticket price", example = "15000.00")
     @NotNull @Positive
-    BigDecimal price
+    BigDecimal price,
+
+    @Schema(description = "Most tickets one user may book for this event (optional)", example = "4")
+    @Min(1)
+    Integer maxTicketsPerUser
 ) {}
@@ -0,0 +1,94 @@
+package com.senibo.eventservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.senibo.eventservice.enums.EventCategory;
+import com.senibo.eventservice.enums.RecurrenceFrequency;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "Request body for creating a recurring event series")
+public record CreateEventSeriesRequest(
+
+    @Schema(description = "Title of every occurrence", example = "Saturday Coding Workshop")
+    @NotBlank(message = "Title is required")
+    String title,
+
+    @Schema(description = "Description of every occurrence")
+    String description,
+
+    @Schema(description = "Event category", example = "TECH")
+    @NotNull(message = "Category is required")
+    EventCategory category,
+
+    @Schema(description = "Image URL for the occurrences", example = "https://example.com/banner.jpg")
+    String imageUrl,
+
+    @Schema(description = "Start of the first occurrence", example = "2025-04-19T10:00:00")
+    @NotNull @Future
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime firstStartDateTime,
+
+    @Schema(description = "End of the first occurrence; sets how long every occurrence lasts", example = "2025-04-19T13:00:00")
+    @NotNull @Future
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime firstEndDateTime,
+
+    @Schema(description = "How often the event repeats", example = "WEEKLY")
+    @NotNull(message = "Frequency is required")
+    RecurrenceFrequency frequency,
+
+    @Schema(description = "Repeat every this many days, weeks or months (default 1)", example = "1")
+    @Min(1) @Max(52)
+    Integer repeatEvery,
+
+    @Schema(description = "Last date an occurrence may start on (optional)", example = "2025-12-20")
+    LocalDate untilDate,
+
+    @Schema(description = "Number of occurrences (optional; without this or untilDate the series runs indefinitely)", example = "12")
+    @Min(1)
+    Integer occurrenceCount,
+
+    @Schema(description = "Venue name", example = "Co-Creation Hub")
+    @NotBlank
+    String venue,
+
+    @Schema(description = "Venue address", example = "294 Herbert Macaulay Way, Yaba")
+    @NotBlank
+    String address,
+
+    @Schema(description = "City", example = "Lagos")
+    @NotBlank
+    String city,
+
+    @Schema(description = "Venue latitude (WGS84)", example = "6.5095")
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    Double latitude,
+
+    @Schema(description = "Venue longitude (WGS84)", example = "3.3711")
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    Double longitude,
+
+    @Schema(description = "Tickets per occurrence", example = "40")
+    @NotNull @Min(1)
+    Integer capacity,
+
+    @Schema(description = "Ticket price", example = "5000.00")
+    @NotNull @Positive
+    BigDecimal price,
+
+    @Schema(description = "Most tickets one user may book per occurrence (optional)", example = "2")
+    @Min(1)
+    Integer maxTicketsPerUser
+) {}
@@ -0,0 +1,33 @@
+package com.senibo.eventservice.dto;
+
+import java.math.BigDecimal;
+
+import com.senibo.eventservice.enums.PricingCurve;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Request body for enabling dynamic pricing on an event")
+public record DynamicPricingRequest(
+    @Schema(description = "How the price follows the sales pace", example = "LINEAR")
+    @NotNull(message = "Curve is required")
+    PricingCurve curve,
+
+    @Schema(description = "Steepness of the curve", example = "0.5")
+    @NotNull(message = "Sensitivity is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Sensitivity must be positive")
+    @DecimalMax(value = "5.0", message = "Sensitivity cannot exceed 5")
+    Double sensitivity,
+
+    @Schema(description = "Lowest price the event can reach", example = "10000.00")
+    @NotNull(message = "Minimum price is required")
+    @DecimalMin(value = "0.0", message = "Minimum price cannot be negative")
+    BigDecimal minPrice,
+
+    @Schema(description = "Highest price the event can reach", example = "30000.00")
+    @NotNull(message = "Maximum price is required")
+    BigDecimal maxPrice
+) {
+}
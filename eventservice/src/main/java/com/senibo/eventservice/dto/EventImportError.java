@@ -0,0 +1,15 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Why one row of a bulk import was not imported")
+public record EventImportError(
+
+    @Schema(description = "1-based row number in the upload (CSV header excluded)", example = "42")
+    int row,
+
+    @Schema(description = "Validation or parse errors for the row")
+    List<String> errors
+) {}
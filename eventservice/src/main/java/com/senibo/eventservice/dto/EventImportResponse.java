@@ -0,0 +1,21 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a bulk event import")
+public record EventImportResponse(
+
+    @Schema(description = "Rows read from the upload", example = "1000")
+    int totalRows,
+
+    @Schema(description = "Events created (as DRAFT)", example = "997")
+    int imported,
+
+    @Schema(description = "Rows rejected", example = "3")
+    int failed,
+
+    @Schema(description = "Per-row errors for every rejected row")
+    List<EventImportError> errors
+) {}
@@ -0,0 +1,19 @@
+package com.senibo.eventservice.dto;
+
+/**
+ * One parsed row of a bulk import.
+ *
+ * @param row 1-based position in the upload (data rows only, CSV header excluded)
+ * @param request parsed event, null when the row could not be parsed
+ * @param error why the row could not be parsed, null otherwise
+ */
+public record EventImportRow(int row, CreateEventRequest request, String error) {
+
+  public static EventImportRow parsed(int row, CreateEventRequest request) {
+    return new EventImportRow(row, request, null);
+  }
+
+  public static EventImportRow failed(int row, String error) {
+    return new EventImportRow(row, null, error);
+  }
+}
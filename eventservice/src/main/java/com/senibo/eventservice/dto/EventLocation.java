@@ -0,0 +1,12 @@
+package com.senibo.eventservice.dto;
+
+import java.util.UUID;
+
+/**
+ * Lightweight projection of an event's coordinates, used to build the geo index.
+ */
+public record EventLocation(
+    UUID id,
+    Double latitude,
+    Double longitude
+) {}
@@ -2,9 +2,12 @@ package com.senibo.eventservice.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.entity.EventSeries;
 import com.senibo.eventservice.enums.EventCategory;
 import com.senibo.eventservice.enums.EventStatus;
 
@@ -43,15 +46,49 @@ public record EventResponse(
     @Schema(description = "City where the event will take place")
     String city,
 
+    @Schema(description = "Venue latitude", example = "6.4281")
+    Double latitude,
+
+    @Schema(description = "Venue longitude", example = "3.4219")
+    Double longitude,
+
     @Schema(description = "Total capacity", example = "300")
     Integer capacity,
 
     @Schema(description = "Tickets currently available", example = "150")
     Integer availableTickets,
 
-    @Schema(description = "Ticket price", example = "15000.00")
+    @Schema(description = "Tickets are sold as seats from the event seat map", example = "false")
+    Boolean reservedSeating,
+
+    @Schema(description = "Ticket price (the cheapest tier for tiered events)", example = "15000.00")
     BigDecimal price,
 
+    @Schema(description = "Price follows demand; book with a price quote to lock it in", example = "true")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean dynamicPricing,
+
+    @Schema(description = "Price of the cheapest tier with tickets left (tiered events only)", example = "10000.00")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    BigDecimal fromPrice,
+
+    @Schema(description = "Ticket tiers with live availability (event details of tiered events only)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    List<TicketTierResponse> tiers,
+
+    @Schema(description = "Most tickets one user may book for this event (when the organizer set a limit)", example = "4")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer maxTicketsPerUser,
+
+    @Schema(description = "Recurring series this event is an occurrence of")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    UUID seriesId,
+
+    @Schema(description = "Position of the occurrence in its series (0 = first). "
+        + "Occurrences without an id are not materialized yet: book them through the series occurrence endpoint", example = "3")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer occurrenceIndex,
+
     @Schema(description = "Current event status", example = "ACTIVE")
     EventStatus status,
 
@@ -62,11 +99,20 @@ public record EventResponse(
     LocalDateTime createdAt,
 
     @Schema(description = "Last update timestamp")
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+
+    @Schema(description = "Distance from the search point in km (proximity searches only)", example = "3.7")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Double distanceKm
 ) {
 
   // ✅ ADD THIS: Factory method to convert Event entity to EventResponse DTO
     public static EventResponse from(Event event) {
+        return from(event, null);
+    }
+
+    // Event details including the tiers of a tiered event
+    public static EventResponse from(Event event, List<TicketTierResponse> tiers) {
         return new EventResponse(
             event.getId(),
             event.getTitle(),
@@ -78,13 +124,70 @@ public record EventResponse(
             event.getVenue(),
             event.getAddress(),
             event.getCity(),
+            event.getLatitude(),
+            event.getLongitude(),
             event.getCapacity(),
             event.getAvailableTickets(),
+            event.getReservedSeating(),
             event.getPrice(),
+            null,
+            Boolean.TRUE.equals(event.getTicketTiers()) ? event.getFromPrice() : null,
+            tiers,
+            event.getMaxTicketsPerUser(),
+            event.getSeriesId(),
+            event.getOccurrenceIndex(),
             event.getStatus(),
             event.getOrganizerId(),
             event.getCreatedAt(),
-            event.getUpdatedAt()
+            event.getUpdatedAt(),
+            null
+        );
+    }
+
+    // Occurrence of a series that has no event row yet (no id; all tickets available)
+    public static EventResponse occurrence(EventSeries series, int index) {
+        return new EventResponse(
+            null,
+            series.getTitle(),
+            series.getDescription(),
+            series.getCategory(),
+            series.getImageUrl(),
+            series.occurrenceStart(index),
+            series.occurrenceEnd(index),
+            series.getVenue(),
+            series.getAddress(),
+            series.getCity(),
+            series.getLatitude(),
+            series.getLongitude(),
+            series.getCapacity(),
+            series.getCapacity(),
+            false,
+            series.getPrice(),
+            null,
+            null,
+            null,
+            series.getMaxTicketsPerUser(),
+            series.getId(),
+            index,
+            series.getStatus(),
+            series.getOrganizerId(),
+            series.getCreatedAt(),
+            series.getUpdatedAt(),
+            null
         );
     }
+
+    // Copy of this response annotated with the distance from a search point
+    public EventResponse withDistance(double distanceKm) {
+        return new EventResponse(id, title, description, category, imageUrl, startDateTime, endDateTime,
+            venue, address, city, latitude, longitude, capacity, availableTickets, reservedSeating, price, dynamicPricing, fromPrice, tiers, maxTicketsPerUser,
+            seriesId, occurrenceIndex, status, organizerId, createdAt, updatedAt, distanceKm);
+    }
+
+    // Copy of this response at the live price of a dynamically priced event
+    public EventResponse withDynamicPrice(BigDecimal price) {
+        return new EventResponse(id, title, description, category, imageUrl, startDateTime, endDateTime,
+            venue, address, city, latitude, longitude, capacity, availableTickets, reservedSeating, price, true,
+            fromPrice, tiers, maxTicketsPerUser, seriesId, occurrenceIndex, status, organizerId, createdAt, updatedAt, distanceKm);
+    }
 }
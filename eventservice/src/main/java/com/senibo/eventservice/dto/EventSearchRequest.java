@@ -24,9 +24,21 @@ public record EventSearchRequest(
     
     @Schema(description = "Filter events starting after this date")
     LocalDateTime startDateAfter,
+
+    @Schema(description = "Filter events starting before this date")
+    LocalDateTime startDateBefore,
     
     @Schema(description = "Filter by organizer ID")
     UUID organizerId,
+
+    @Schema(description = "Latitude of the proximity search point", example = "6.5244")
+    Double nearLatitude,
+
+    @Schema(description = "Longitude of the proximity search point", example = "3.3792")
+    Double nearLongitude,
+
+    @Schema(description = "Proximity search radius in km (default 25, max 500)", example = "25")
+    Double radiusKm,
     
     @Schema(description = "Page number (0-based)", example = "0")
     Integer page,
@@ -34,7 +46,7 @@ public record EventSearchRequest(
     @Schema(description = "Page size", example = "20")
     Integer size,
     
-    @Schema(description = "Sort by field", example = "startDateTime")
+    @Schema(description = "Sort by field (startDateTime, price or createdAt)", example = "startDateTime")
     String sortBy,
     
     @Schema(description = "Sort direction (ASC or DESC)", example = "ASC")
@@ -47,5 +59,11 @@ public record EventSearchRequest(
         size = (size != null && size > 0 && size <= 100) ? size : 20;
         sortBy = (sortBy != null && !sortBy.isBlank()) ? sortBy : "startDateTime";
         sortDirection = (sortDirection != null && !sortDirection.isBlank()) ? sortDirection : "ASC";
+        radiusKm = (radiusKm != null && radiusKm > 0) ? Math.min(radiusKm, 500.0) : 25.0;
+    }
+
+    // True when the caller asked for events near a point
+    public boolean isProximitySearch() {
+        return nearLatitude != null && nearLongitude != null;
     }
 }
\ No newline at end of file
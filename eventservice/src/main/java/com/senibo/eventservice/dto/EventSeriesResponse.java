@@ -0,0 +1,117 @@
+package com.senibo.eventservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.senibo.eventservice.entity.EventSeries;
+import com.senibo.eventservice.enums.EventCategory;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.enums.RecurrenceFrequency;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Recurring event series: occurrence template and schedule")
+public record EventSeriesResponse(
+    @Schema(description = "Series ID")
+    UUID id,
+
+    @Schema(description = "Title of every occurrence", example = "Saturday Coding Workshop")
+    String title,
+
+    @Schema(description = "Description of every occurrence")
+    String description,
+
+    @Schema(description = "Event category", example = "TECH")
+    EventCategory category,
+
+    @Schema(description = "Cover image URL")
+    String imageUrl,
+
+    @Schema(description = "How often the event repeats", example = "WEEKLY")
+    RecurrenceFrequency frequency,
+
+    @Schema(description = "Repeats every this many days, weeks or months", example = "1")
+    Integer repeatEvery,
+
+    @Schema(description = "Start of the first occurrence", example = "2025-04-19T10:00:00")
+    LocalDateTime firstStartDateTime,
+
+    @Schema(description = "End of the first occurrence", example = "2025-04-19T13:00:00")
+    LocalDateTime firstEndDateTime,
+
+    @Schema(description = "Last date an occurrence may start on", example = "2025-12-20")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    LocalDate untilDate,
+
+    @Schema(description = "Number of occurrences", example = "12")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer occurrenceCount,
+
+    @Schema(description = "Venue name")
+    String venue,
+
+    @Schema(description = "Address of the venue")
+    String address,
+
+    @Schema(description = "City")
+    String city,
+
+    @Schema(description = "Venue latitude", example = "6.5095")
+    Double latitude,
+
+    @Schema(description = "Venue longitude", example = "3.3711")
+    Double longitude,
+
+    @Schema(description = "Tickets per occurrence", example = "40")
+    Integer capacity,
+
+    @Schema(description = "Ticket price", example = "5000.00")
+    BigDecimal price,
+
+    @Schema(description = "Most tickets one user may book per occurrence", example = "2")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer maxTicketsPerUser,
+
+    @Schema(description = "Series status (DRAFT, PUBLISHED or CANCELLED)", example = "PUBLISHED")
+    EventStatus status,
+
+    @Schema(description = "Organizer ID")
+    UUID organizerId,
+
+    @Schema(description = "Creation timestamp")
+    LocalDateTime createdAt,
+
+    @Schema(description = "Last update timestamp")
+    LocalDateTime updatedAt
+) {
+
+  public static EventSeriesResponse from(EventSeries series) {
+    return new EventSeriesResponse(
+        series.getId(),
+        series.getTitle(),
+        series.getDescription(),
+        series.getCategory(),
+        series.getImageUrl(),
+        series.getFrequency(),
+        series.getRepeatEvery(),
+        series.getFirstStartDateTime(),
+        series.getFirstEndDateTime(),
+        series.getUntilDate(),
+        series.getOccurrenceCount(),
+        series.getVenue(),
+        series.getAddress(),
+        series.getCity(),
+        series.getLatitude(),
+        series.getLongitude(),
+        series.getCapacity(),
+        series.getPrice(),
+        series.getMaxTicketsPerUser(),
+        series.getStatus(),
+        series.getOrganizerId(),
+        series.getCreatedAt(),
+        series.getUpdatedAt());
+  }
+}
@@ -0,0 +1,15 @@
+package com.senibo.eventservice.dto;
+
+import java.util.UUID;
+
+/**
+ * Projection of the fields the autocomplete index needs, used for its startup load.
+ */
+public record EventSuggestSource(
+    UUID id,
+    String title,
+    String venue,
+    String city,
+    Integer capacity,
+    Integer availableTickets
+) {}
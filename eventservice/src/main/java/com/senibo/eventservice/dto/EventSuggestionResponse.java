@@ -0,0 +1,25 @@
+package com.senibo.eventservice.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.senibo.eventservice.enums.SuggestionType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Autocomplete suggestion")
+public record EventSuggestionResponse(
+
+    @Schema(description = "Suggested text", example = "Lagos Jazz Festival")
+    String text,
+
+    @Schema(description = "What the text refers to", example = "TITLE")
+    SuggestionType type,
+
+    @Schema(description = "Event ID (title suggestions only)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    UUID eventId,
+
+    @Schema(description = "Tickets sold across the matching published events", example = "1200")
+    long popularity
+) {}
@@ -0,0 +1,23 @@
+package com.senibo.eventservice.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Signed ticket price, honoured by Booking Service until it expires")
+public record PriceQuoteResponse(
+    @Schema(description = "Event ID")
+    UUID eventId,
+
+    @Schema(description = "Price per ticket", example = "17500.00")
+    BigDecimal unitPrice,
+
+    @Schema(description = "When the quote stops being accepted")
+    Instant expiresAt,
+
+    @Schema(description = "HMAC-SHA256 of the quote, Base64url")
+    String signature
+) {
+}
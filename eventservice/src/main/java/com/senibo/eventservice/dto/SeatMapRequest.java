@@ -0,0 +1,15 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+@Schema(description = "Request body for setting the seat map of an event")
+public record SeatMapRequest(
+    @Schema(description = "Sections in order of preference for best-available seating")
+    @NotEmpty(message = "At least one section is required")
+    List<@Valid SeatSection> sections
+) {
+}
@@ -0,0 +1,25 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Seat map of an event with its live occupancy")
+public record SeatMapResponse(
+    @Schema(description = "Event ID")
+    UUID eventId,
+
+    @Schema(description = "Sections in layout order")
+    List<SeatSection> sections,
+
+    @Schema(description = "Seats in the map", example = "60000")
+    int totalSeats,
+
+    @Schema(description = "Seats still free", example = "1520")
+    int availableSeats,
+
+    @Schema(description = "Base64 bitset, one bit per seat in layout order (bit i % 8 of byte i / 8), set = taken")
+    String occupancy
+) {
+}
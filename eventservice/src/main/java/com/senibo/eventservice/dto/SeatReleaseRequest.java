@@ -0,0 +1,14 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+@Schema(description = "Request body for releasing reserved seats (internal)")
+public record SeatReleaseRequest(
+    @Schema(description = "Seats to release (e.g. A-12-7)")
+    @NotEmpty(message = "Seats are required")
+    List<String> seats
+) {
+}
@@ -0,0 +1,23 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request body for reserving seats (internal)")
+public record SeatReservationRequest(
+    @Schema(description = "Number of seats", example = "4")
+    @NotNull(message = "Number of tickets is required")
+    @Positive(message = "Number of tickets must be positive")
+    @Max(value = 10, message = "Cannot reserve more than 10 seats at once")
+    Integer numberOfTickets,
+
+    @Schema(description = "Chosen seats (e.g. A-12-7); best available adjacent seats when empty")
+    @Size(max = 10, message = "Cannot reserve more than 10 seats at once")
+    List<String> seats
+) {
+}
@@ -0,0 +1,29 @@
+package com.senibo.eventservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "A block of equally long seat rows; rows and seats are numbered from 1, front row first")
+public record SeatSection(
+    @Schema(description = "Section name, used in seat labels", example = "A")
+    @NotBlank(message = "Section name is required")
+    @Pattern(regexp = "[A-Za-z0-9]{1,20}", message = "Section name must be 1-20 letters or digits")
+    String name,
+
+    @Schema(description = "Number of rows", example = "20")
+    @NotNull(message = "Rows are required")
+    @Positive(message = "Rows must be positive")
+    @Max(value = 500, message = "Rows cannot exceed 500")
+    Integer rows,
+
+    @Schema(description = "Seats in each row", example = "30")
+    @NotNull(message = "Seats per row are required")
+    @Positive(message = "Seats per row must be positive")
+    @Max(value = 1000, message = "Seats per row cannot exceed 1000")
+    Integer seatsPerRow
+) {
+}
@@ -0,0 +1,29 @@
+package com.senibo.eventservice.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "A ticket tier with its own price and share of the capacity")
+public record TicketTierRequest(
+    @Schema(description = "Tier name, unique within the event", example = "VIP")
+    @NotBlank(message = "Tier name is required")
+    @Size(max = 50, message = "Tier name cannot exceed 50 characters")
+    String name,
+
+    @Schema(description = "Ticket price in this tier", example = "50000.00")
+    @NotNull(message = "Tier price is required")
+    @DecimalMin(value = "0.0", message = "Tier price cannot be negative")
+    BigDecimal price,
+
+    @Schema(description = "Tickets in this tier", example = "50")
+    @NotNull(message = "Tier capacity is required")
+    @Positive(message = "Tier capacity must be positive")
+    Integer capacity
+) {
+}
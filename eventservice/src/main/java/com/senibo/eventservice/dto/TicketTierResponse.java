@@ -0,0 +1,27 @@
+package com.senibo.eventservice.dto;
+
+import java.math.BigDecimal;
+
+import com.senibo.eventservice.entity.EventTicketTier;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Ticket tier of an event with its live availability")
+public record TicketTierResponse(
+    @Schema(description = "Tier name", example = "VIP")
+    String name,
+
+    @Schema(description = "Ticket price in this tier", example = "50000.00")
+    BigDecimal price,
+
+    @Schema(description = "Tickets in this tier", example = "50")
+    Integer capacity,
+
+    @Schema(description = "Tickets still available in this tier", example = "12")
+    Integer availableTickets
+) {
+
+  public static TicketTierResponse from(EventTicketTier tier) {
+    return new TicketTierResponse(tier.getName(), tier.getPrice(), tier.getCapacity(), tier.getAvailableTickets());
+  }
+}
@@ -0,0 +1,17 @@
+package com.senibo.eventservice.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Request body for setting the ticket tiers of an event")
+public record TicketTiersRequest(
+    @Schema(description = "Tiers in display order; their capacities must add up to the event capacity. Empty removes the tiers")
+    @NotNull(message = "Tiers are required")
+    @Size(max = 10, message = "An event cannot have more than 10 tiers")
+    List<@Valid TicketTierRequest> tiers
+) {
+}
@@ -0,0 +1,13 @@
+package com.senibo.eventservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Trending event")
+public record TrendingEventResponse(
+
+    @Schema(description = "The event")
+    EventResponse event,
+
+    @Schema(description = "Estimated bookings per hour, weighted towards the last few minutes", example = "42.5")
+    double bookingsPerHour
+) {}
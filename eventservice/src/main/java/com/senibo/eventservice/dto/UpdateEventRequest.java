@@ -47,6 +47,14 @@ public record UpdateEventRequest(
     @Schema(description = "Updated city")
     String city,
 
+    @Schema(description = "Updated venue latitude (WGS84)", example = "6.4281")
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    Double latitude,
+
+    @Schema(description = "Updated venue longitude (WGS84)", example = "3.4219")
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    Double longitude,
+
     @Schema(description = "Updated capacity", example = "350")
     @Min(1)
     Integer capacity,
@@ -55,6 +63,10 @@ public record UpdateEventRequest(
     @Positive
     BigDecimal price,
 
+    @Schema(description = "Updated per-user ticket limit", example = "4")
+    @Min(1)
+    Integer maxTicketsPerUser,
+
     @Schema(description = "Updated event status", example = "CANCELLED")
     EventStatus status
 ) {}
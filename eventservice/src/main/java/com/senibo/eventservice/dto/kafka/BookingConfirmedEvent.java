@@ -0,0 +1,13 @@
+package com.senibo.eventservice.dto.kafka;
+
+import java.util.UUID;
+
+/**
+ * Booking Service's confirmation message, reduced to what the trending list needs.
+ */
+public record BookingConfirmedEvent(
+    UUID bookingId,
+    UUID eventId,
+    Integer numberOfTickets) {
+
+}
@@ -0,0 +1,13 @@
+package com.senibo.eventservice.dto.kafka;
+
+import java.util.UUID;
+
+/**
+ * Any other booking-events message (cancellations, reschedule notices, waitlist offers).
+ * Mapped here only so they deserialize; nothing in this service acts on them.
+ */
+public record BookingNoticeEvent(
+    UUID bookingId,
+    UUID eventId) {
+
+}
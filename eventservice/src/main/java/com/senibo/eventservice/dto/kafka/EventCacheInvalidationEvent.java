@@ -0,0 +1,17 @@
+package com.senibo.eventservice.dto.kafka;
+
+import java.util.UUID;
+
+/**
+ * Broadcast to every eventservice replica when an event row changes,
+ * so each node can drop its local second-level cache entries.
+ * ticketsChanged is set for ticket updates (positive = reserved) and feeds the
+ * sales windows of DynamicPricingService; pricingChanged asks it to reload the rule.
+ */
+public record EventCacheInvalidationEvent(
+    UUID eventId,
+    String originInstanceId,
+    Integer ticketsChanged,
+    Boolean pricingChanged) {
+
+}
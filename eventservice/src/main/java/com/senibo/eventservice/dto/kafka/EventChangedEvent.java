@@ -0,0 +1,21 @@
+package com.senibo.eventservice.dto.kafka;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.senibo.eventservice.enums.EventChangeType;
+
+/**
+ * Published when an event is cancelled or its dates move.
+ * Booking Service fans it out to every booking of the event.
+ */
+public record EventChangedEvent(
+    UUID eventId,
+    EventChangeType changeType,
+    String title,
+    String venue,
+    LocalDateTime startDateTime,
+    LocalDateTime endDateTime,
+    LocalDateTime previousStartDateTime) {
+
+}
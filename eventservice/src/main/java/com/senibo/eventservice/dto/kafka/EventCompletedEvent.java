@@ -0,0 +1,16 @@
+package com.senibo.eventservice.dto.kafka;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when an event moves to COMPLETED because its end time has passed.
+ */
+public record EventCompletedEvent(
+    UUID eventId,
+    UUID organizerId,
+    String title,
+    LocalDateTime endDateTime,
+    LocalDateTime completedAt) {
+
+}
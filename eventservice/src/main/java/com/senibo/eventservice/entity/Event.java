@@ -4,6 +4,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,30 +14,50 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import com.senibo.eventservice.enums.EventCategory;
 import com.senibo.eventservice.enums.EventStatus;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrimaryKeyJoinColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "events")
+// Composite indexes backing the search filters and EventSortField sort keys.
+// available_tickets is deliberately left unindexed so ticket updates stay HOT updates.
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_status_start", columnList = "status, start_date_time, id"),
+    @Index(name = "idx_events_status_price", columnList = "status, price, id"),
+    @Index(name = "idx_events_status_created", columnList = "status, created_at, id"),
+    @Index(name = "idx_events_city_status_start", columnList = "city, status, start_date_time"),
+    @Index(name = "idx_events_category_status_start", columnList = "category, status, start_date_time"),
+    @Index(name = "idx_events_organizer_created", columnList = "organizer_id, created_at"),
+    // EventLifecycleScheduler: published events in end order
+    @Index(name = "idx_events_status_end", columnList = "status, end_date_time")
+}, uniqueConstraints = {
+    // An occurrence of a series is materialized at most once, whichever replica or booking gets there first
+    @UniqueConstraint(name = "uk_events_series_occurrence", columnNames = { "series_id", "occurrence_index" })
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(region = "events", usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Event {
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @UuidV7
   private UUID id;
 
   //Basic Information
@@ -67,16 +90,51 @@ public class Event {
   @Column(nullable = false)
   private String city;
 
+  // Venue coordinates (WGS84), optional; indexed in memory by EventGeoIndex
+  @Column
+  private Double latitude;
+
+  @Column
+  private Double longitude;
+
   // Capacity & Pricing
   @Column(nullable = false)
   private Integer capacity;
 
-  @Column(nullable = false)
+  // Written once on insert; afterwards the count is owned by EventInventory
+  // so that ticket updates don't rewrite (and evict) the cached Event entry.
+  @Column(nullable = false, updatable = false)
   private Integer availableTickets;
 
+  // Not cascaded: saving an Event must never write back a ticket count it read earlier.
+  // The row is changed only through a managed EventInventory under its row lock.
+  @OneToOne(fetch = FetchType.EAGER)
+  @PrimaryKeyJoinColumn
+  private EventInventory inventory;
+
+  // Set once a seat map is configured: tickets are then sold as seats (SeatMapService)
+  @Column(nullable = false)
+  @ColumnDefault("false")
+  @Builder.Default
+  private Boolean reservedSeating = false;
+
+  // Set while the event sells tickets in tiers (EventTicketTier); price is then the cheapest tier
+  @Column(nullable = false)
+  @ColumnDefault("false")
+  @Builder.Default
+  private Boolean ticketTiers = false;
+
   @Column(nullable = false, precision = 10, scale = 2)
   private BigDecimal price;
 
+  // Most tickets one user may hold for this event; null leaves it to Booking Service's default
+  private Integer maxTicketsPerUser;
+
+  // Set on occurrences of a recurring series (EventSeries): which one, and which occurrence
+  private UUID seriesId;
+
+  private Integer occurrenceIndex;
+
   // Status & Ownership
   @Enumerated(EnumType.STRING)
   @Column(nullable = false)
@@ -93,4 +151,21 @@ public class Event {
   @LastModifiedDate
   @Column(nullable = false) // Good practice to make it non-nullable
   private LocalDateTime updatedAt;
+
+  // Live ticket count, read from the separately cached inventory when loaded
+  public Integer getAvailableTickets() {
+    return inventory != null ? inventory.getAvailableTickets() : availableTickets;
+  }
+
+  // Cheapest tier with tickets left, kept on the inventory row next to the ticket count
+  public BigDecimal getFromPrice() {
+    return inventory != null ? inventory.getFromPrice() : null;
+  }
+
+  public void setAvailableTickets(Integer availableTickets) {
+    this.availableTickets = availableTickets;
+    if (inventory != null) {
+      inventory.setAvailableTickets(availableTickets);
+    }
+  }
 }
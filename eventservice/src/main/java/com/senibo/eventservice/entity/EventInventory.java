@@ -0,0 +1,46 @@
+package com.senibo.eventservice.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ticket inventory view of an event.
+ * Maps the fast-changing availableTickets (and tier fromPrice) columns of the events table on their own,
+ * so ticket updates only touch the "event-inventory" cache region and never evict
+ * the descriptive Event entry.
+ * Rows are inserted through Event; this entity is only ever loaded and updated.
+ */
+@Entity
+@Table(name = "events")
+@Cacheable
+@Cache(region = "event-inventory", usage = CacheConcurrencyStrategy.READ_WRITE)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventInventory {
+
+  @Id
+  private UUID id;
+
+  @Column(nullable = false)
+  private Integer availableTickets;
+
+  // Tiered events: price of the cheapest tier with tickets left (null when sold out),
+  // updated with the ticket count so search results need no tier lookups
+  @Column(precision = 10, scale = 2)
+  private BigDecimal fromPrice;
+}
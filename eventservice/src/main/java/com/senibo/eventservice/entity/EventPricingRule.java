@@ -0,0 +1,50 @@
+package com.senibo.eventservice.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.senibo.eventservice.enums.PricingCurve;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dynamic pricing settings of an event (see DynamicPricingService).
+ * Event.price stays the base price; the live price moves between minPrice and maxPrice.
+ * currentPrice is the last computed price, so a restarted replica resumes from it.
+ */
+@Entity
+@Table(name = "event_pricing_rules")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventPricingRule {
+
+  @Id
+  private UUID eventId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private PricingCurve curve;
+
+  @Column(nullable = false)
+  private Double sensitivity;
+
+  @Column(nullable = false, precision = 10, scale = 2)
+  private BigDecimal minPrice;
+
+  @Column(nullable = false, precision = 10, scale = 2)
+  private BigDecimal maxPrice;
+
+  @Column(precision = 10, scale = 2)
+  private BigDecimal currentPrice;
+}
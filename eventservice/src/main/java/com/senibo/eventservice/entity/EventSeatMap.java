@@ -0,0 +1,46 @@
+package com.senibo.eventservice.entity;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.senibo.eventservice.dto.SeatSection;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reserved-seating layout of an event and its persisted occupancy.
+ * Seats are numbered in layout order: section by section, row by row.
+ * The occupancy column is only written by SeatMapService, in batches.
+ */
+@Entity
+@Table(name = "event_seat_maps")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSeatMap {
+
+  @Id
+  private UUID eventId;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(nullable = false)
+  private List<SeatSection> sections;
+
+  @Column(nullable = false)
+  private Integer totalSeats;
+
+  // One bit per seat (SeatOccupancy byte form); 7.5 KB for a 60k-seat stadium
+  @Column(nullable = false)
+  private byte[] occupancy;
+}
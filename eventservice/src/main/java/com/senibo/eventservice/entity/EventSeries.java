@@ -0,0 +1,157 @@
+package com.senibo.eventservice.entity;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.senibo.eventservice.enums.EventCategory;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.enums.RecurrenceFrequency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A recurring event: the template every occurrence is copied from, plus its schedule.
+ * Occurrences are numbered from 0 and only become Event rows (with seriesId and
+ * occurrenceIndex) when they are materialized: the next few ahead of time, any
+ * other one when someone books it (see SeriesOccurrenceService). Until then
+ * search expands them from the schedule.
+ * The schedule ends after occurrenceCount occurrences or on untilDate; with
+ * neither it runs indefinitely.
+ */
+@Entity
+@Table(name = "event_series", indexes = {
+    @Index(name = "idx_event_series_status_start", columnList = "status, first_start_date_time"),
+    @Index(name = "idx_event_series_organizer", columnList = "organizer_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class EventSeries {
+  @Id
+  @UuidV7
+  private UUID id;
+
+  // Occurrence template
+  @Column(nullable = false, length = 200)
+  private String title;
+
+  @Column
+  private String description;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private EventCategory category;
+
+  @Column
+  private String imageUrl;
+
+  @Column(nullable = false)
+  private String venue;
+
+  @Column(nullable = false)
+  private String address;
+
+  @Column(nullable = false)
+  private String city;
+
+  @Column
+  private Double latitude;
+
+  @Column
+  private Double longitude;
+
+  @Column(nullable = false)
+  private Integer capacity;
+
+  @Column(nullable = false, precision = 10, scale = 2)
+  private BigDecimal price;
+
+  private Integer maxTicketsPerUser;
+
+  // Schedule: occurrence n starts at firstStartDateTime + n * repeatEvery periods
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private RecurrenceFrequency frequency;
+
+  @Column(nullable = false)
+  private Integer repeatEvery;
+
+  @Column(nullable = false)
+  private LocalDateTime firstStartDateTime;
+
+  @Column(nullable = false)
+  private LocalDateTime firstEndDateTime;
+
+  private LocalDate untilDate;
+
+  private Integer occurrenceCount;
+
+  // DRAFT, PUBLISHED or CANCELLED; occurrences are materialized as PUBLISHED events
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private EventStatus status;
+
+  @Column(nullable = false)
+  private UUID organizerId;
+
+  // Highest occurrence index materialized ahead of time, so the scheduler can skip caught-up series
+  @Column(nullable = false)
+  @ColumnDefault("-1")
+  @Builder.Default
+  private Integer materializedThrough = -1;
+
+  @CreatedDate
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  // Computed from the first start rather than the previous occurrence, so monthly dates don't drift
+  public LocalDateTime occurrenceStart(int index) {
+    return frequency.advance(firstStartDateTime, (long) index * repeatEvery);
+  }
+
+  public LocalDateTime occurrenceEnd(int index) {
+    return occurrenceStart(index).plus(Duration.between(firstStartDateTime, firstEndDateTime));
+  }
+
+  public boolean hasOccurrence(int index) {
+    if (index < 0 || (occurrenceCount != null && index >= occurrenceCount)) {
+      return false;
+    }
+    return untilDate == null || !occurrenceStart(index).toLocalDate().isAfter(untilDate);
+  }
+
+  // Index of the first occurrence starting at or after time, without walking the schedule
+  public int firstOccurrenceFrom(LocalDateTime time) {
+    long units = frequency.unitsBetween(firstStartDateTime, time);
+    int index = (int) Math.max(0, units / repeatEvery);
+    while (occurrenceStart(index).isBefore(time)) {
+      index++;
+    }
+    return index;
+  }
+}
@@ -0,0 +1,55 @@
+package com.senibo.eventservice.entity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A priced share of an event's capacity (Early Bird, GA, VIP...).
+ * The tier capacities of an event add up to its capacity, so the event's
+ * availableTickets stays the total over all tiers.
+ * availableTickets is only changed through conditional updates
+ * (EventTicketTierRepository.adjustAvailableTickets), never read-modify-write.
+ */
+@Entity
+@Table(name = "event_ticket_tiers", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_ticket_tiers_event_name", columnNames = { "event_id", "name" })
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventTicketTier {
+
+  @Id
+  @UuidV7
+  private UUID id;
+
+  @Column(nullable = false)
+  private UUID eventId;
+
+  @Column(nullable = false, length = 50)
+  private String name;
+
+  @Column(nullable = false, precision = 10, scale = 2)
+  private BigDecimal price;
+
+  @Column(nullable = false)
+  private Integer capacity;
+
+  @Column(nullable = false)
+  private Integer availableTickets;
+
+  // Display order, as given by the organizer
+  @Column(nullable = false)
+  private Integer sortOrder;
+}
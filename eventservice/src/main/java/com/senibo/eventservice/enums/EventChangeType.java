@@ -0,0 +1,7 @@
+package com.senibo.eventservice.enums;
+
+// Changes to an event that its bookers must hear about
+public enum EventChangeType {
+  CANCELLED,
+  RESCHEDULED
+}
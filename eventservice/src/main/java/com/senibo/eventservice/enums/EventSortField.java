@@ -0,0 +1,45 @@
+package com.senibo.eventservice.enums;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import com.senibo.eventservice.exception.ValidationException;
+
+/**
+ * Sort keys accepted by event search.
+ * Each key is the leading sort column of a composite index on the events table
+ * (see Event), so the database can return a page without sorting the whole table.
+ */
+public enum EventSortField {
+
+  START_DATE_TIME("startDateTime", "start_date_time"),
+  PRICE("price", "price"),
+  CREATED_AT("createdAt", "created_at");
+
+  private final String property;
+  private final String column;
+
+  EventSortField(String property, String column) {
+    this.property = property;
+    this.column = column;
+  }
+
+  // Entity property, as used in Sort.by
+  public String getProperty() {
+    return property;
+  }
+
+  // Physical column, as used in native SQL
+  public String getColumn() {
+    return column;
+  }
+
+  public static EventSortField fromProperty(String property) {
+    return Arrays.stream(values())
+        .filter(field -> field.property.equalsIgnoreCase(property))
+        .findFirst()
+        .orElseThrow(() -> new ValidationException(String.format(
+            "Cannot sort by '%s'. Valid values are: %s", property,
+            Arrays.stream(values()).map(EventSortField::getProperty).collect(Collectors.joining(", ")))));
+  }
+}
@@ -0,0 +1,28 @@
+package com.senibo.eventservice.enums;
+
+/**
+ * How a dynamically priced event reacts to its sales pace.
+ * pace is the recent sales rate over the rate that would sell the remaining
+ * tickets exactly by the start of the event: 1 is on pace, 0 is no sales.
+ * Both curves give the base price at pace 1; sensitivity sets how steep they are.
+ */
+public enum PricingCurve {
+
+  // base * (1 + sensitivity * (pace - 1))
+  LINEAR {
+    @Override
+    public double multiplier(double pace, double sensitivity) {
+      return 1 + sensitivity * (pace - 1);
+    }
+  },
+
+  // base * e^(sensitivity * (pace - 1)): gentle below pace, steep above it
+  EXPONENTIAL {
+    @Override
+    public double multiplier(double pace, double sensitivity) {
+      return Math.exp(sensitivity * (pace - 1));
+    }
+  };
+
+  public abstract double multiplier(double pace, double sensitivity);
+}
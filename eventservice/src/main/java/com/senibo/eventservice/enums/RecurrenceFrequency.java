@@ -0,0 +1,29 @@
+package com.senibo.eventservice.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How often an event series repeats (every repeatEvery days, weeks or months).
+ */
+public enum RecurrenceFrequency {
+  DAILY(ChronoUnit.DAYS),
+  WEEKLY(ChronoUnit.WEEKS),
+  MONTHLY(ChronoUnit.MONTHS);
+
+  private final ChronoUnit unit;
+
+  RecurrenceFrequency(ChronoUnit unit) {
+    this.unit = unit;
+  }
+
+  // start moved forward by `units` periods (monthly: same day of month, clamped to the month's length)
+  public LocalDateTime advance(LocalDateTime start, long units) {
+    return start.plus(units, unit);
+  }
+
+  // Whole periods from start to end
+  public long unitsBetween(LocalDateTime start, LocalDateTime end) {
+    return unit.between(start, end);
+  }
+}
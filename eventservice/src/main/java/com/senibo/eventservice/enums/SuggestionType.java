@@ -0,0 +1,7 @@
+package com.senibo.eventservice.enums;
+
+public enum SuggestionType {
+  TITLE,
+  VENUE,
+  CITY
+}
@@ -148,6 +148,22 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
   }
 
+  /**
+   * Handles searches rejected by the query governor.
+   * Returns 422 UNPROCESSABLE ENTITY status; the client should narrow the search.
+   */
+  @ExceptionHandler(QueryTooExpensiveException.class)
+  @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+  public ResponseEntity<ApiErrorResponse> handleQueryTooExpensiveException(
+      QueryTooExpensiveException ex,
+      WebRequest request) {
+
+    log.warn("Search rejected: {}", ex.getMessage());
+
+    ApiErrorResponse error = ApiErrorResponse.of(ex.getMessage());
+    return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+  }
+
   /**
    * Handles all other unhandled exceptions.
    * Returns 500 INTERNAL SERVER ERROR status.
@@ -0,0 +1,7 @@
+package com.senibo.eventservice.exception;
+
+public class QueryTooExpensiveException extends RuntimeException {
+    public QueryTooExpensiveException(String message) {
+        super(message);
+    }
+}
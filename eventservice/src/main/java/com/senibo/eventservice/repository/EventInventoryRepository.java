@@ -0,0 +1,13 @@
+package com.senibo.eventservice.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.eventservice.entity.EventInventory;
+
+@Repository
+public interface EventInventoryRepository extends JpaRepository<EventInventory, UUID> {
+
+}
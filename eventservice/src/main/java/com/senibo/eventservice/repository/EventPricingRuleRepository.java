@@ -0,0 +1,13 @@
+package com.senibo.eventservice.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.eventservice.entity.EventPricingRule;
+
+@Repository
+public interface EventPricingRuleRepository extends JpaRepository<EventPricingRule, UUID> {
+
+}
@@ -1,14 +1,48 @@
 package com.senibo.eventservice.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.senibo.eventservice.dto.EventLocation;
+import com.senibo.eventservice.dto.EventSuggestSource;
 import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.enums.EventStatus;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event>{
-  
+
+  // Coordinates of located events in a status that end after the given time (startup load of the geo index)
+  @Query("SELECT new com.senibo.eventservice.dto.EventLocation(e.id, e.latitude, e.longitude) "
+      + "FROM Event e WHERE e.status = :status AND e.endDateTime > :endAfter "
+      + "AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL")
+  List<EventLocation> findLocations(EventStatus status, LocalDateTime endAfter);
+
+  // Autocomplete fields of all events in a status (startup load of the suggest index)
+  @Query("SELECT new com.senibo.eventservice.dto.EventSuggestSource("
+      + "e.id, e.title, e.venue, e.city, e.capacity, e.availableTickets) "
+      + "FROM Event e WHERE e.status = :status")
+  List<EventSuggestSource> findSuggestSources(EventStatus status);
+
+  // Read past the second-level cache: the committed capacity, for checks under the inventory row lock
+  @Query("SELECT e.capacity FROM Event e WHERE e.id = :eventId")
+  Optional<Integer> findCapacity(UUID eventId);
+
+  Optional<Event> findBySeriesIdAndOccurrenceIndex(UUID seriesId, Integer occurrenceIndex);
+
+  List<Event> findBySeriesIdAndStartDateTimeAfter(UUID seriesId, LocalDateTime startDateTime);
+
+  List<Event> findBySeriesIdAndStartDateTimeGreaterThanEqualAndStartDateTimeBefore(UUID seriesId,
+      LocalDateTime from, LocalDateTime to);
+
+  // (seriesId, occurrenceIndex) of every materialized occurrence of the series
+  @Query("SELECT e.seriesId, e.occurrenceIndex FROM Event e WHERE e.seriesId IN :seriesIds")
+  List<Object[]> findOccurrenceIndexes(Collection<UUID> seriesIds);
 }
@@ -0,0 +1,27 @@
+package com.senibo.eventservice.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.senibo.eventservice.entity.EventSeries;
+import com.senibo.eventservice.enums.EventStatus;
+
+@Repository
+public interface EventSeriesRepository extends JpaRepository<EventSeries, UUID>, JpaSpecificationExecutor<EventSeries> {
+
+  List<EventSeries> findByStatus(EventStatus status);
+
+  // Only moves forward, so replicas materializing the same series concurrently can't set it back
+  @Transactional
+  @Modifying
+  @Query("UPDATE EventSeries s SET s.materializedThrough = :index "
+      + "WHERE s.id = :seriesId AND s.materializedThrough < :index")
+  int advanceMaterializedThrough(UUID seriesId, int index);
+}
@@ -0,0 +1,36 @@
+package com.senibo.eventservice.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.senibo.eventservice.entity.EventTicketTier;
+
+@Repository
+public interface EventTicketTierRepository extends JpaRepository<EventTicketTier, UUID> {
+
+  List<EventTicketTier> findByEventIdOrderBySortOrder(UUID eventId);
+
+  boolean existsByEventIdAndNameIgnoreCase(UUID eventId, String name);
+
+  /**
+   * Takes tickets off a tier (negative to return them) in one statement, only when the
+   * result stays within [0, capacity]. The row lock of the UPDATE serialises concurrent
+   * bookings of the tier.
+   *
+   * @return 1 when applied, 0 when the tier is unknown or has too few tickets
+   */
+  @Modifying
+  @Query("UPDATE EventTicketTier t SET t.availableTickets = t.availableTickets - :tickets "
+      + "WHERE t.eventId = :eventId AND LOWER(t.name) = LOWER(:name) "
+      + "AND t.availableTickets - :tickets BETWEEN 0 AND t.capacity")
+  int adjustAvailableTickets(UUID eventId, String name, int tickets);
+
+  @Modifying
+  @Query("DELETE FROM EventTicketTier t WHERE t.eventId = :eventId")
+  void deleteByEventId(UUID eventId);
+}
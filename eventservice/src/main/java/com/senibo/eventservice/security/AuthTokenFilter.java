@@ -107,7 +107,12 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         if (method.equals("GET")) {
             if (path.equals("/api/events/published") ||
                 path.startsWith("/api/events/search") ||
-                path.matches("/api/events/[a-fA-F0-9\\-]+")) {
+                path.equals("/api/events/suggest") ||
+                path.equals("/api/events/trending") ||
+                path.matches("/api/events/[a-fA-F0-9\\-]+") ||
+                path.matches("/api/events/[a-fA-F0-9\\-]+/seat-map") ||
+                path.matches("/api/events/[a-fA-F0-9\\-]+/price-quote") ||
+                path.matches("/api/events/[a-fA-F0-9\\-]+/availability/stream")) {
                 return true;
             }
         }
@@ -0,0 +1,215 @@
+package com.senibo.eventservice.service;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.senibo.eventservice.entity.EventInventory;
+import com.senibo.eventservice.exception.NotFoundException;
+import com.senibo.eventservice.repository.EventInventoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Server-sent availableTickets updates for event pages, instead of polling the event.
+ * Ticket changes made here or on other replicas (via the cache invalidation topic)
+ * only mark an event dirty; every push interval the dirty events that have
+ * subscribers are read in one query and each new count is written once per
+ * subscriber. However fast tickets sell, an event pushes at most one update per
+ * interval. Streams are async requests: an idle subscriber holds a connection but
+ * no thread.
+ */
+@Service
+@Slf4j
+public class AvailabilityStreamService {
+
+  private final EventInventoryRepository eventInventoryRepository;
+  private final long streamTimeoutMs;
+
+  private final Map<UUID, Topic> topics = new ConcurrentHashMap<>();
+  // Event -> System.nanoTime() of its oldest change not pushed yet
+  private final Map<UUID, Long> dirty = new ConcurrentHashMap<>();
+  private final ExecutorService fanOut;
+
+  private final AtomicInteger subscribers = new AtomicInteger();
+  private final Timer fanOutLatency;
+  private final Counter messagesSent;
+
+  public AvailabilityStreamService(
+      EventInventoryRepository eventInventoryRepository,
+      MeterRegistry meterRegistry,
+      @Value("${app.availability.stream-timeout-ms:1800000}") long streamTimeoutMs,
+      @Value("${app.availability.fan-out-threads:4}") int fanOutThreads) {
+    this.eventInventoryRepository = eventInventoryRepository;
+    this.streamTimeoutMs = streamTimeoutMs;
+    this.fanOut = Executors.newFixedThreadPool(fanOutThreads);
+
+    Gauge.builder("event.availability.subscribers", subscribers, AtomicInteger::get)
+        .description("Open ticket availability streams")
+        .register(meterRegistry);
+    Gauge.builder("event.availability.streamed.events", topics, Map::size)
+        .description("Events with at least one availability subscriber")
+        .register(meterRegistry);
+    this.fanOutLatency = Timer.builder("event.availability.fanout")
+        .description("Time from a ticket change to its availability update written to every subscriber")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry);
+    this.messagesSent = Counter.builder("event.availability.messages")
+        .description("Availability updates written to subscribers")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Opens a stream for the event; the current count is sent right away.
+   */
+  public SseEmitter subscribe(UUID eventId) {
+    EventInventory inventory = eventInventoryRepository.findById(eventId).orElseThrow(
+        () -> new NotFoundException(String.format("Event with id %s not found", eventId)));
+
+    SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+    Topic topic = topics.compute(eventId, (id, current) -> {
+      Topic target = current != null ? current : new Topic(eventId);
+      target.emitters.add(emitter);
+      return target;
+    });
+    subscribers.incrementAndGet();
+
+    Runnable unsubscribe = () -> {
+      if (topic.emitters.remove(emitter)) {
+        subscribers.decrementAndGet();
+        topics.computeIfPresent(eventId, (id, current) -> current.emitters.isEmpty() ? null : current);
+      }
+    };
+    emitter.onCompletion(unsubscribe);
+    emitter.onTimeout(unsubscribe);
+    emitter.onError(error -> unsubscribe.run());
+
+    try {
+      emitter.send(message(eventId, inventory.getAvailableTickets()));
+    } catch (IOException e) {
+      emitter.completeWithError(e);
+    }
+    return emitter;
+  }
+
+  // The event's ticket count moved; pushed with the next batch if anyone is watching
+  public void changed(UUID eventId) {
+    if (topics.containsKey(eventId)) {
+      dirty.putIfAbsent(eventId, System.nanoTime());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.availability.push-interval-ms:250}")
+  public void pushChanges() {
+    if (dirty.isEmpty()) {
+      return;
+    }
+
+    Map<UUID, Long> batch = new HashMap<>();
+    for (UUID eventId : dirty.keySet()) {
+      Long since = dirty.remove(eventId);
+      if (since != null) {
+        batch.put(eventId, since);
+      }
+    }
+
+    // Ticket changes evict the inventory entries, so these are current
+    List<EventInventory> inventories = eventInventoryRepository.findAllById(batch.keySet());
+    for (EventInventory inventory : inventories) {
+      Topic topic = topics.get(inventory.getId());
+      if (topic != null) {
+        topic.latest = inventory.getAvailableTickets();
+        long since = batch.get(inventory.getId());
+        fanOut.execute(() -> {
+          topic.push();
+          fanOutLatency.record(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+        });
+      }
+    }
+  }
+
+  // Comments keep idle streams open through proxies and flush out disconnected clients
+  @Scheduled(fixedDelayString = "${app.availability.heartbeat-interval-ms:15000}")
+  public void heartbeat() {
+    for (Topic topic : topics.values()) {
+      fanOut.execute(topic::heartbeat);
+    }
+  }
+
+  @PreDestroy
+  public void closeStreams() {
+    fanOut.shutdownNow();
+    log.info("Closing {} availability streams", subscribers.get());
+    topics.values().forEach(topic -> topic.emitters.forEach(SseEmitter::complete));
+  }
+
+  private static SseEmitter.SseEventBuilder message(UUID eventId, int availableTickets) {
+    return SseEmitter.event()
+        .name("availability")
+        .data("{\"eventId\":\"" + eventId + "\",\"availableTickets\":" + availableTickets + "}");
+  }
+
+  /**
+   * Subscribers of one event. Pushes run on the fan-out pool, one at a time per event,
+   * and always send the latest count, so a slow push can't reorder updates.
+   */
+  private final class Topic {
+
+    private final UUID eventId;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile Integer latest;
+    private Integer lastSent;
+
+    private Topic(UUID eventId) {
+      this.eventId = eventId;
+    }
+
+    synchronized void push() {
+      Integer count = latest;
+      if (count == null || count.equals(lastSent)) {
+        return;
+      }
+      lastSent = count;
+      for (SseEmitter emitter : emitters) {
+        if (send(emitter, message(eventId, count))) {
+          messagesSent.increment();
+        }
+      }
+    }
+
+    synchronized void heartbeat() {
+      for (SseEmitter emitter : emitters) {
+        send(emitter, SseEmitter.event().comment("keep-alive"));
+      }
+    }
+
+    // A failed write means the client is gone; completing the emitter unsubscribes it
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+      try {
+        emitter.send(event);
+        return true;
+      } catch (IOException | IllegalStateException e) {
+        emitter.completeWithError(e);
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package com.senibo.eventservice.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.EventResponse;
+import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.entity.EventPricingRule;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.repository.EventPricingRuleRepository;
+import com.senibo.eventservice.repository.EventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Demand-based prices for the events that opted in (EventPricingRule).
+ * Each replica keeps a sliding window of tickets reserved per minute for every
+ * dynamically priced event. The window is fed from the ticket-update path: directly
+ * for local reservations, and through the cache invalidation broadcast for those
+ * made on other replicas, so every replica sees the same sales.
+ * Prices are recomputed every reprice-interval-ms, moving at most MAX_STEP at a time,
+ * and held in memory. Responses take the price from here (see priced), so publishing
+ * a new price only drops the cached JSON; nothing is re-read from the database.
+ */
+@Service
+@Slf4j
+public class DynamicPricingService {
+
+  // Largest relative move per recompute, so the price glides instead of jumping
+  private static final BigDecimal MAX_STEP = new BigDecimal("0.10");
+
+  // The pace is measured against at least this much selling time
+  private static final double MIN_HOURS_LEFT = 1.0;
+
+  // Keeps steep curves finite; the rule's maxPrice is the real ceiling
+  private static final double MAX_MULTIPLIER = 100;
+
+  private static final String SAVE_CURRENT_PRICE =
+      "UPDATE event_pricing_rules SET current_price = ? WHERE event_id = ?";
+
+  private final EventPricingRuleRepository pricingRuleRepository;
+  private final EventRepository eventRepository;
+  private final EventJsonCache eventJsonCache;
+  private final JdbcTemplate jdbcTemplate;
+  private final int windowMinutes;
+
+  private final Map<UUID, PricingState> states = new ConcurrentHashMap<>();
+
+  public DynamicPricingService(
+      EventPricingRuleRepository pricingRuleRepository,
+      EventRepository eventRepository,
+      EventJsonCache eventJsonCache,
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.pricing.window-minutes:15}") int windowMinutes) {
+    this.pricingRuleRepository = pricingRuleRepository;
+    this.eventRepository = eventRepository;
+    this.eventJsonCache = eventJsonCache;
+    this.jdbcTemplate = jdbcTemplate;
+    this.windowMinutes = windowMinutes;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRules() {
+    List<EventPricingRule> rules = pricingRuleRepository.findAll();
+    rules.forEach(this::put);
+    log.info("Dynamic pricing loaded for {} events", rules.size());
+  }
+
+  // Start, or change the rule of, a dynamically priced event; its sales window is kept
+  public void put(EventPricingRule rule) {
+    states.compute(rule.getEventId(), (eventId, state) -> {
+      PricingState updated = state != null ? state : new PricingState(windowMinutes);
+      updated.rule = rule;
+      BigDecimal price = updated.price != null ? updated.price : rule.getCurrentPrice();
+      updated.price = price != null ? clamp(price, rule.getMinPrice(), rule.getMaxPrice()) : null;
+      return updated;
+    });
+  }
+
+  public void remove(UUID eventId) {
+    states.remove(eventId);
+  }
+
+  // Re-read the rule after the event changed on another replica
+  public void refresh(UUID eventId) {
+    pricingRuleRepository.findById(eventId).ifPresentOrElse(this::put, () -> remove(eventId));
+  }
+
+  public boolean isDynamic(UUID eventId) {
+    return states.containsKey(eventId);
+  }
+
+  // Count tickets taken off a dynamically priced event (returns are ignored)
+  public void recordReservation(UUID eventId, int tickets) {
+    PricingState state = states.get(eventId);
+    if (state != null && tickets > 0) {
+      state.record(currentMinute(), tickets);
+    }
+  }
+
+  // Live price of a dynamically priced event, or null when Event.price applies
+  public BigDecimal currentPrice(UUID eventId) {
+    PricingState state = states.get(eventId);
+    return state != null ? state.price : null;
+  }
+
+  // The response with the live price, for dynamically priced events
+  public EventResponse priced(EventResponse event) {
+    PricingState state = states.get(event.id());
+    if (state == null) {
+      return event;
+    }
+    return event.withDynamicPrice(state.price != null ? state.price : event.price());
+  }
+
+  @Scheduled(initialDelayString = "${app.pricing.reprice-interval-ms:30000}",
+      fixedDelayString = "${app.pricing.reprice-interval-ms:30000}")
+  public void reprice() {
+    if (states.isEmpty()) {
+      return;
+    }
+
+    long minute = currentMinute();
+    List<Object[]> changed = new ArrayList<>();
+    for (Event event : eventRepository.findAllById(states.keySet())) {
+      PricingState state = states.get(event.getId());
+      if (state == null || event.getStatus() != EventStatus.PUBLISHED) {
+        continue;
+      }
+
+      BigDecimal current = state.price != null ? state.price : event.getPrice();
+      BigDecimal next = nextPrice(state, event, current, minute);
+      if (next.compareTo(current) != 0 || state.price == null) {
+        state.price = next;
+        eventJsonCache.evict(event.getId());
+        changed.add(new Object[] { next, event.getId() });
+      }
+    }
+
+    if (!changed.isEmpty()) {
+      // Only for restarts; replicas write (nearly) the same prices
+      jdbcTemplate.batchUpdate(SAVE_CURRENT_PRICE, changed);
+      log.debug("Repriced {} events", changed.size());
+    }
+  }
+
+  private BigDecimal nextPrice(PricingState state, Event event, BigDecimal current, long minute) {
+    EventPricingRule rule = state.rule;
+    int remaining = event.getAvailableTickets();
+    if (remaining <= 0) {
+      return current;
+    }
+
+    // Pace: recent sales rate over the rate that sells the rest exactly by the start
+    double soldPerHour = state.ticketsInWindow(minute) * 60.0 / windowMinutes;
+    double hoursLeft = Math.max(MIN_HOURS_LEFT,
+        Duration.between(LocalDateTime.now(), event.getStartDateTime()).toMinutes() / 60.0);
+    double pace = soldPerHour / (remaining / hoursLeft);
+
+    double multiplier = Math.min(MAX_MULTIPLIER, rule.getCurve().multiplier(pace, rule.getSensitivity()));
+    BigDecimal target = event.getPrice().multiply(BigDecimal.valueOf(multiplier));
+
+    BigDecimal step = current.max(event.getPrice()).multiply(MAX_STEP);
+    target = clamp(target, current.subtract(step), current.add(step));
+    return clamp(target, rule.getMinPrice(), rule.getMaxPrice()).setScale(2, RoundingMode.HALF_UP);
+  }
+
+  private static BigDecimal clamp(BigDecimal value, BigDecimal min, BigDecimal max) {
+    return value.max(min).min(max);
+  }
+
+  private static long currentMinute() {
+    return System.currentTimeMillis() / 60_000;
+  }
+
+  // Tickets per minute in a ring of windowMinutes buckets, each stamped with its minute
+  private static final class PricingState {
+
+    private final long[] minutes;
+    private final int[] tickets;
+    private volatile EventPricingRule rule;
+    private volatile BigDecimal price;
+
+    PricingState(int windowMinutes) {
+      this.minutes = new long[windowMinutes];
+      this.tickets = new int[windowMinutes];
+    }
+
+    synchronized void record(long minute, int count) {
+      int bucket = (int) (minute % minutes.length);
+      if (minutes[bucket] != minute) {
+        minutes[bucket] = minute;
+        tickets[bucket] = 0;
+      }
+      tickets[bucket] += count;
+    }
+
+    synchronized int ticketsInWindow(long minute) {
+      int total = 0;
+      for (int i = 0; i < minutes.length; i++) {
+        if (minutes[i] > minute - minutes.length) {
+          total += tickets[i];
+        }
+      }
+      return total;
+    }
+  }
+}
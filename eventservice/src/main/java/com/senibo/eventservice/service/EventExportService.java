@@ -0,0 +1,135 @@
+package com.senibo.eventservice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.senibo.eventservice.dto.EventResponse;
+import com.senibo.eventservice.dto.EventSearchRequest;
+import com.senibo.eventservice.enums.EventCategory;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.util.EventSearchSql;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams events as newline-delimited JSON straight from a server-side cursor.
+ * PostgreSQL only uses a cursor inside a transaction with a fetch size set, so
+ * rows are pulled FETCH_SIZE at a time and heap use does not grow with the export.
+ * Rows are ordered by id so an interrupted export can resume after the last id
+ * the client received.
+ */
+@Service
+@Slf4j
+public class EventExportService {
+
+  private static final int FETCH_SIZE = 500;
+
+  private static final String SELECT_EVENTS = "SELECT e.id, e.title, e.description, e.category, e.image_url, "
+      + "e.start_date_time, e.end_date_time, e.venue, e.address, e.city, e.latitude, e.longitude, "
+      + "e.capacity, e.available_tickets, e.reserved_seating, e.price, e.ticket_tiers, e.from_price, "
+      + "e.max_tickets_per_user, e.series_id, e.occurrence_index, e.status, e.organizer_id, e.created_at, e.updated_at "
+      + "FROM events e WHERE TRUE";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  public EventExportService(DataSource dataSource, ObjectMapper objectMapper) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+
+    this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    this.transactionTemplate.setReadOnly(true);
+
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Write every event matching the filters to out, one JSON object per line.
+   * Paging and sort fields of the request are ignored.
+   *
+   * @param after resume token: only events with a greater id are written
+   */
+  public void exportEvents(EventSearchRequest filters, UUID after, OutputStream out) {
+    StringBuilder sql = new StringBuilder(SELECT_EVENTS);
+    List<Object> args = new ArrayList<>();
+    EventSearchSql.appendFilters(sql, filters, args);
+    if (after != null) {
+      sql.append(" AND e.id > ?");
+      args.add(after);
+    }
+    sql.append(" ORDER BY e.id");
+
+    long[] exported = {0};
+    transactionTemplate.executeWithoutResult(status -> {
+      try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+        // The caller owns the stream (it may still have to finish a gzip trailer)
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+          try {
+            generator.writeObject(toResponse(rs));
+            generator.writeRaw('\n');
+            exported[0]++;
+          } catch (IOException ex) {
+            // Client went away; abort the query and release the cursor
+            throw new UncheckedIOException(ex);
+          }
+        }, args.toArray());
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+
+    log.info("Exported {} events (resumed after {})", exported[0], after);
+  }
+
+  private static EventResponse toResponse(ResultSet rs) throws SQLException {
+    return new EventResponse(
+        rs.getObject("id", UUID.class),
+        rs.getString("title"),
+        rs.getString("description"),
+        EventCategory.valueOf(rs.getString("category")),
+        rs.getString("image_url"),
+        rs.getObject("start_date_time", LocalDateTime.class),
+        rs.getObject("end_date_time", LocalDateTime.class),
+        rs.getString("venue"),
+        rs.getString("address"),
+        rs.getString("city"),
+        rs.getObject("latitude", Double.class),
+        rs.getObject("longitude", Double.class),
+        rs.getObject("capacity", Integer.class),
+        rs.getObject("available_tickets", Integer.class),
+        rs.getObject("reserved_seating", Boolean.class),
+        rs.getObject("price", BigDecimal.class),
+        null,
+        rs.getBoolean("ticket_tiers") ? rs.getObject("from_price", BigDecimal.class) : null,
+        null,
+        rs.getObject("max_tickets_per_user", Integer.class),
+        rs.getObject("series_id", UUID.class),
+        rs.getObject("occurrence_index", Integer.class),
+        EventStatus.valueOf(rs.getString("status")),
+        rs.getObject("organizer_id", UUID.class),
+        rs.getObject("created_at", LocalDateTime.class),
+        rs.getObject("updated_at", LocalDateTime.class),
+        null);
+  }
+}
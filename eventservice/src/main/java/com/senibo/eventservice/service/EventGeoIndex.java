@@ -0,0 +1,181 @@
+package com.senibo.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.EventLocation;
+import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.repository.EventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory uniform grid index over event venue coordinates.
+ * The globe is split into CELL_DEGREES x CELL_DEGREES cells; a radius query only
+ * visits the cells overlapping the bounding box of the circle and then applies an
+ * exact haversine check, so no trigonometry runs in SQL.
+ * Only PUBLISHED events that haven't ended are indexed, so drafts, cancelled and
+ * past events never take up the candidate limit of a proximity search.
+ * Reads are lock-free; writes (event create/update) are rare and serialized.
+ */
+@Service
+@Slf4j
+public class EventGeoIndex {
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+  private static final double KM_PER_DEGREE_LAT = 111.32;
+
+  // ~11 km per cell at the equator
+  private static final double CELL_DEGREES = 0.1;
+  private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+  private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+  private final EventRepository eventRepository;
+
+  private final Map<UUID, GeoPoint> points = new ConcurrentHashMap<>();
+  private final Map<Integer, Set<UUID>> cells = new ConcurrentHashMap<>();
+
+  public EventGeoIndex(EventRepository eventRepository) {
+    this.eventRepository = eventRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadIndex() {
+    List<EventLocation> locations = eventRepository.findLocations(EventStatus.PUBLISHED, LocalDateTime.now());
+    locations.forEach(location -> put(location.id(), location.latitude(), location.longitude()));
+    log.info("Geo index loaded with {} located events", locations.size());
+  }
+
+  // Add, move or drop an event according to its current state
+  public void index(Event event) {
+    if (isSearchable(event)) {
+      put(event.getId(), event.getLatitude(), event.getLongitude());
+    } else {
+      remove(event.getId());
+    }
+  }
+
+  // Add or move an event
+  public synchronized void put(UUID eventId, double latitude, double longitude) {
+    int cell = cellOf(row(latitude), column(longitude));
+    GeoPoint previous = points.put(eventId, new GeoPoint(latitude, longitude, cell));
+
+    if (previous != null && previous.cell() != cell) {
+      removeFromCell(previous.cell(), eventId);
+    }
+    cells.computeIfAbsent(cell, key -> ConcurrentHashMap.newKeySet()).add(eventId);
+  }
+
+  public synchronized void remove(UUID eventId) {
+    GeoPoint previous = points.remove(eventId);
+    if (previous != null) {
+      removeFromCell(previous.cell(), eventId);
+    }
+  }
+
+  // Re-read an event's coordinates and status after it changed on another replica
+  public void refresh(UUID eventId) {
+    eventRepository.findById(eventId).ifPresentOrElse(this::index, () -> remove(eventId));
+  }
+
+  /**
+   * Events within radiusKm of the given point, nearest first.
+   *
+   * @param limit maximum number of matches to return
+   */
+  public List<GeoMatch> findWithin(double latitude, double longitude, double radiusKm, int limit) {
+    double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+    double cosLat = Math.cos(Math.toRadians(latitude));
+    // Near the poles the circle covers every longitude
+    double lonSpan = cosLat < 1e-6 ? 180 : Math.min(180, radiusKm / (KM_PER_DEGREE_LAT * cosLat));
+
+    int minRow = row(Math.max(-90, latitude - latSpan));
+    int maxRow = row(Math.min(90, latitude + latSpan));
+    int minCol = (int) Math.floor((longitude - lonSpan + 180) / CELL_DEGREES);
+    int maxCol = (int) Math.floor((longitude + lonSpan + 180) / CELL_DEGREES);
+    if (maxCol - minCol >= COLUMNS) {
+      minCol = 0;
+      maxCol = COLUMNS - 1;
+    }
+
+    List<GeoMatch> matches = new ArrayList<>();
+    for (int r = minRow; r <= maxRow; r++) {
+      for (int c = minCol; c <= maxCol; c++) {
+        // Wrap around the antimeridian
+        Set<UUID> cell = cells.get(cellOf(r, Math.floorMod(c, COLUMNS)));
+        if (cell == null) {
+          continue;
+        }
+        for (UUID eventId : cell) {
+          GeoPoint point = points.get(eventId);
+          if (point == null) {
+            continue;
+          }
+          double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+          if (distance <= radiusKm) {
+            matches.add(new GeoMatch(eventId, distance));
+          }
+        }
+      }
+    }
+
+    matches.sort(Comparator.comparingDouble(GeoMatch::distanceKm));
+    return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+  }
+
+  public int size() {
+    return points.size();
+  }
+
+  // Great-circle distance (haversine)
+  public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  private static boolean isSearchable(Event event) {
+    return event.getStatus() == EventStatus.PUBLISHED
+        && event.getLatitude() != null && event.getLongitude() != null
+        && event.getEndDateTime().isAfter(LocalDateTime.now());
+  }
+
+  private void removeFromCell(int cell, UUID eventId) {
+    cells.computeIfPresent(cell, (key, ids) -> {
+      ids.remove(eventId);
+      return ids.isEmpty() ? null : ids;
+    });
+  }
+
+  private static int row(double latitude) {
+    return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+  }
+
+  private static int column(double longitude) {
+    return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+  }
+
+  private static int cellOf(int row, int column) {
+    return row * COLUMNS + column;
+  }
+
+  private record GeoPoint(double latitude, double longitude, int cell) {
+  }
+
+  public record GeoMatch(UUID eventId, double distanceKm) {
+  }
+}
@@ -0,0 +1,98 @@
+package com.senibo.eventservice.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.senibo.eventservice.dto.ApiSuccessResponse;
+import com.senibo.eventservice.dto.EventResponse;
+import com.senibo.eventservice.dto.PagedResponse;
+import com.senibo.eventservice.util.EventETags;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of ready-to-write UTF-8 JSON bodies for the hottest read endpoints:
+ * single events and page 0 of the published list.
+ * Bodies are produced once with the application ObjectMapper (see JacksonConfig)
+ * and written to the response as raw bytes, skipping object mapping.
+ * Entries are dropped whenever an event changes, locally or on another replica.
+ */
+@Service
+@Slf4j
+public class EventJsonCache {
+
+  // Only the first page of /published is cached; deeper pages are rarely hot
+  public static final int CACHED_PUBLISHED_PAGE = 0;
+
+  private final ObjectMapper objectMapper;
+
+  private final Cache<UUID, CachedJson> events = Caffeine.newBuilder()
+      .maximumSize(500)
+      .expireAfterWrite(Duration.ofMinutes(5))
+      .recordStats()
+      .build();
+
+  // Keyed by page size
+  private final Cache<Integer, CachedJson> publishedFirstPages = Caffeine.newBuilder()
+      .maximumSize(20)
+      .expireAfterWrite(Duration.ofMinutes(1))
+      .recordStats()
+      .build();
+
+  public EventJsonCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+
+    CaffeineCacheMetrics.monitor(meterRegistry, events, "event.json");
+    CaffeineCacheMetrics.monitor(meterRegistry, publishedFirstPages, "event.json.published");
+  }
+
+  /**
+   * Serialized ApiSuccessResponse for a single event.
+   * The loader only runs on a miss; its exceptions (e.g. NotFoundException) propagate.
+   */
+  public CachedJson getEvent(UUID eventId, Function<UUID, EventResponse> loader) {
+    return events.get(eventId, id -> {
+      EventResponse event = loader.apply(id);
+      return new CachedJson(serialize(ApiSuccessResponse.of(event)), EventETags.forEvent(event));
+    });
+  }
+
+  // Serialized ApiSuccessResponse for page 0 of the published events
+  public CachedJson getPublishedFirstPage(int size, IntFunction<PagedResponse<EventResponse>> loader) {
+    return publishedFirstPages.get(size, pageSize -> {
+      PagedResponse<EventResponse> page = loader.apply(pageSize);
+      return new CachedJson(serialize(ApiSuccessResponse.of(page)), EventETags.forPage(page));
+    });
+  }
+
+  // Any change to an event can reorder or alter the published list as well
+  public void evict(UUID eventId) {
+    events.invalidate(eventId);
+    publishedFirstPages.invalidateAll();
+  }
+
+  private byte[] serialize(Object body) {
+    try {
+      return objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize event response", e);
+    }
+  }
+
+  /**
+   * Pre-serialized response body together with its ETag.
+   * Note: the envelope timestamp is the time of serialization.
+   */
+  public record CachedJson(byte[] body, String etag) {
+  }
+}
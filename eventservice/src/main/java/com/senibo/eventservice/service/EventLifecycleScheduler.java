@@ -0,0 +1,165 @@
+package com.senibo.eventservice.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.kafka.EventCompletedEvent;
+import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.entity.EventInventory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves PUBLISHED events whose end time has passed to COMPLETED.
+ * Each run walks idx_events_status_end from the oldest end time and completes
+ * batch-size events per UPDATE, so a run only touches rows that are due.
+ * A session-level Postgres advisory lock, held on one connection for the whole
+ * run, makes sure only one replica completes events at a time.
+ */
+@Service
+@Slf4j
+public class EventLifecycleScheduler {
+
+  // Advisory lock id shared by every eventservice replica
+  private static final long LIFECYCLE_LOCK_ID = "eventservice:event-lifecycle".hashCode();
+
+  private static final String COMPLETE_DUE_EVENTS = "UPDATE events e SET status = 'COMPLETED', updated_at = ? "
+      + "WHERE e.id IN (SELECT id FROM events WHERE status = 'PUBLISHED' AND end_date_time < ? "
+      + "ORDER BY end_date_time LIMIT ? FOR UPDATE SKIP LOCKED) "
+      + "RETURNING e.id, e.organizer_id, e.title, e.end_date_time";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+  private final EventJsonCache eventJsonCache;
+  private final EventGeoIndex eventGeoIndex;
+  private final EventSuggestIndex eventSuggestIndex;
+  private final KafkaProducerService kafkaProducerService;
+  private final Counter completedEvents;
+
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+
+  public EventLifecycleScheduler(
+      JdbcTemplate jdbcTemplate,
+      EntityManagerFactory entityManagerFactory,
+      EventJsonCache eventJsonCache,
+      EventGeoIndex eventGeoIndex,
+      EventSuggestIndex eventSuggestIndex,
+      KafkaProducerService kafkaProducerService,
+      MeterRegistry meterRegistry,
+      @Value("${app.lifecycle.batch-size:500}") int batchSize,
+      @Value("${app.lifecycle.max-batches-per-run:20}") int maxBatchesPerRun) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManagerFactory = entityManagerFactory;
+    this.eventJsonCache = eventJsonCache;
+    this.eventGeoIndex = eventGeoIndex;
+    this.eventSuggestIndex = eventSuggestIndex;
+    this.kafkaProducerService = kafkaProducerService;
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+
+    this.completedEvents = Counter.builder("event.lifecycle.completed")
+        .description("Events moved to COMPLETED after their end time")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(initialDelayString = "${app.lifecycle.interval-ms:60000}",
+      fixedDelayString = "${app.lifecycle.interval-ms:60000}")
+  public void completeEndedEvents() {
+    Integer completed = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+      if (!tryLock(connection)) {
+        log.debug("Event lifecycle run skipped, another replica holds the lock");
+        return 0;
+      }
+
+      try {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+          List<EventCompletedEvent> done = completeBatch(connection);
+          done.forEach(this::onCompleted);
+          total += done.size();
+
+          if (done.size() < batchSize) {
+            break;
+          }
+        }
+        return total;
+      } finally {
+        unlock(connection);
+      }
+    });
+
+    if (completed != null && completed > 0) {
+      log.info("Completed {} ended events", completed);
+    }
+  }
+
+  // One UPDATE; committed on its own, since the connection is in auto-commit mode
+  private List<EventCompletedEvent> completeBatch(Connection connection) throws SQLException {
+    LocalDateTime now = LocalDateTime.now();
+    List<EventCompletedEvent> done = new ArrayList<>();
+
+    try (PreparedStatement statement = connection.prepareStatement(COMPLETE_DUE_EVENTS)) {
+      statement.setTimestamp(1, Timestamp.valueOf(now));
+      statement.setTimestamp(2, Timestamp.valueOf(now));
+      statement.setInt(3, batchSize);
+
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          done.add(new EventCompletedEvent(
+              rs.getObject("id", UUID.class),
+              rs.getObject("organizer_id", UUID.class),
+              rs.getString("title"),
+              rs.getObject("end_date_time", LocalDateTime.class),
+              now));
+        }
+      }
+    }
+    return done;
+  }
+
+  // The UPDATE bypassed Hibernate: drop local copies, tell the other replicas and downstream consumers
+  private void onCompleted(EventCompletedEvent event) {
+    entityManagerFactory.getCache().evict(Event.class, event.eventId());
+    entityManagerFactory.getCache().evict(EventInventory.class, event.eventId());
+    eventJsonCache.evict(event.eventId());
+    eventGeoIndex.remove(event.eventId());
+    eventSuggestIndex.remove(event.eventId());
+
+    kafkaProducerService.publishCacheInvalidation(event.eventId());
+    kafkaProducerService.publishEventCompleted(event);
+    completedEvents.increment();
+  }
+
+  private static boolean tryLock(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+      statement.setLong(1, LIFECYCLE_LOCK_ID);
+      try (ResultSet rs = statement.executeQuery()) {
+        return rs.next() && rs.getBoolean(1);
+      }
+    }
+  }
+
+  private static void unlock(Connection connection) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+      statement.setLong(1, LIFECYCLE_LOCK_ID);
+      statement.execute();
+    }
+  }
+}
@@ -1,11 +1,28 @@
 package com.senibo.eventservice.service;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 
 import com.senibo.eventservice.dto.CreateEventRequest;
+import com.senibo.eventservice.dto.CreateEventSeriesRequest;
+import com.senibo.eventservice.dto.DynamicPricingRequest;
+import com.senibo.eventservice.dto.EventImportResponse;
+import com.senibo.eventservice.dto.EventImportRow;
 import com.senibo.eventservice.dto.EventResponse;
 import com.senibo.eventservice.dto.EventSearchRequest;
+import com.senibo.eventservice.dto.EventSeriesResponse;
+import com.senibo.eventservice.dto.EventSuggestionResponse;
 import com.senibo.eventservice.dto.PagedResponse;
+import com.senibo.eventservice.dto.PriceQuoteResponse;
+import com.senibo.eventservice.dto.SeatMapRequest;
+import com.senibo.eventservice.dto.SeatMapResponse;
+import com.senibo.eventservice.dto.SeatReleaseRequest;
+import com.senibo.eventservice.dto.SeatReservationRequest;
+import com.senibo.eventservice.dto.TicketTierResponse;
+import com.senibo.eventservice.dto.TicketTiersRequest;
+import com.senibo.eventservice.dto.TrendingEventResponse;
 import com.senibo.eventservice.dto.UpdateEventRequest;
 import com.senibo.eventservice.dto.UpdateTicketsRequest;
 import com.senibo.eventservice.enums.EventStatus;
@@ -27,6 +44,17 @@ public interface EventService {
    */
   EventResponse createEvent(CreateEventRequest request, UUID organizerId);
 
+  /**
+   * Bulk-create events from an upload.
+   * Every row is validated like createEvent; valid rows are inserted as DRAFT in
+   * JDBC batches, invalid rows are skipped and reported.
+   * 
+   * @param rows Parsed upload, consumed once
+   * @param organizerId ID of the user importing the events (from JWT)
+   * @return Counts and the errors of every rejected row
+   */
+  EventImportResponse importEvents(Iterator<EventImportRow> rows, UUID organizerId);
+
   /**
    * Get a single event by ID.
    * Public endpoint - anyone can view event details.
@@ -59,6 +87,80 @@ public interface EventService {
    */
   EventResponse updateAvailableTickets(UUID eventId, UpdateTicketsRequest ticketsToBook);
 
+  /**
+   * Set the seat map of an event (owner only, before any tickets are sold).
+   * The seat count must match the event capacity.
+   * 
+   * @param eventId     Event ID
+   * @param request     Sections of the seat map
+   * @param organizerId ID of the organizer (from JWT)
+   * @return Seat map with every seat free
+   */
+  SeatMapResponse configureSeatMap(UUID eventId, SeatMapRequest request, UUID organizerId);
+
+  /**
+   * Seat map of an event with its live occupancy
+   * 
+   * @param eventId Event ID
+   * @return Seat map
+   */
+  SeatMapResponse getSeatMap(UUID eventId);
+
+  /**
+   * Reserve seats and take them off the available tickets (internal, Booking Service).
+   * 
+   * @param eventId Event ID
+   * @param request Seat count, and optionally the chosen seats
+   * @return Labels of the reserved seats
+   */
+  List<String> reserveSeats(UUID eventId, SeatReservationRequest request);
+
+  /**
+   * Free reserved seats and return them to the available tickets (internal, Booking Service).
+   * 
+   * @param eventId Event ID
+   * @param request Seats to free
+   */
+  void releaseSeats(UUID eventId, SeatReleaseRequest request);
+
+  /**
+   * Set the ticket tiers of an event (owner only, before any tickets are sold).
+   * Tier capacities must add up to the event capacity; an empty list removes the tiers.
+   * 
+   * @param eventId     Event ID
+   * @param request     Tiers in display order
+   * @param organizerId ID of the organizer (from JWT)
+   * @return Tiers with their availability
+   */
+  List<TicketTierResponse> configureTicketTiers(UUID eventId, TicketTiersRequest request, UUID organizerId);
+
+  /**
+   * Let the price of an event follow its sales pace (owner only).
+   * The current price is the base; the live price stays between the given bounds.
+   * 
+   * @param eventId     Event ID
+   * @param request     Curve and price bounds
+   * @param organizerId ID of the organizer (from JWT)
+   * @return Event at its live price
+   */
+  EventResponse configureDynamicPricing(UUID eventId, DynamicPricingRequest request, UUID organizerId);
+
+  /**
+   * Return an event to its fixed base price (owner only).
+   * 
+   * @param eventId     Event ID
+   * @param organizerId ID of the organizer (from JWT)
+   */
+  void disableDynamicPricing(UUID eventId, UUID organizerId);
+
+  /**
+   * Signed quote of the current ticket price, which Booking Service honours until it expires.
+   * 
+   * @param eventId Event ID
+   * @return Price quote
+   */
+  PriceQuoteResponse getPriceQuote(UUID eventId);
+
 
   /**
    * Delete (cancel) an event.
@@ -115,6 +217,78 @@ public interface EventService {
    */
   EventResponse updateEventStatus(UUID eventId, EventStatus newStatus, UUID organizerId);
 
+  /**
+   * Autocomplete over titles, venues and cities of published events.
+   * Public endpoint, served from an in-memory index.
+   * 
+   * @param prefix Text typed so far (matches the start of any word)
+   * @param limit Maximum number of suggestions
+   * @return Suggestions, most tickets sold first
+   */
+  List<EventSuggestionResponse> suggestEvents(String prefix, int limit);
+
+  /**
+   * Published upcoming events with the fastest booking velocity right now.
+   * Public endpoint, served from an in-memory sketch of recent bookings.
+   * 
+   * @param limit Maximum number of events
+   * @return Trending events, fastest selling first
+   */
+  List<TrendingEventResponse> getTrendingEvents(int limit);
+
+  /**
+   * Create a recurring event series (status DRAFT).
+   * Occurrences are materialized as events lazily once the series is published.
+   * 
+   * @param request Occurrence template and schedule
+   * @param organizerId ID of the user creating the series (from JWT)
+   * @return Created series
+   * @throws ValidationException if business rules are violated
+   */
+  EventSeriesResponse createSeries(CreateEventSeriesRequest request, UUID organizerId);
+
+  /**
+   * Get a recurring event series by ID.
+   * 
+   * @param seriesId Series ID
+   * @return Series details
+   * @throws NotFoundException if series not found
+   */
+  EventSeriesResponse getSeries(UUID seriesId);
+
+  /**
+   * Publish or cancel a series.
+   * Publishing materializes the next occurrences; cancelling also cancels every
+   * upcoming occurrence that already has an event (notifying its bookers).
+   * 
+   * @param seriesId ID of the series
+   * @param newStatus PUBLISHED or CANCELLED
+   * @param organizerId ID of the organizer making the request
+   * @return Updated series
+   * @throws NotFoundException if series not found
+   * @throws UnauthorizedException if organizer doesn't own the series
+   */
+  EventSeriesResponse updateSeriesStatus(UUID seriesId, EventStatus newStatus, UUID organizerId);
+
+  /**
+   * Occurrences of a series starting in a date range, materialized or not, in start order.
+   * Occurrences without an id have no event row yet.
+   * 
+   * @param seriesId ID of the series
+   * @param from Range start (null: now)
+   * @param to Range end, exclusive (null or beyond the search horizon: capped at it)
+   * @return Occurrences in the range
+   */
+  List<EventResponse> getSeriesOccurrences(UUID seriesId, LocalDateTime from, LocalDateTime to);
 
-  
-}
\ No newline at end of file
+  /**
+   * Event of a series occurrence, created if it has none yet, so it can be booked.
+   * 
+   * @param seriesId ID of the series
+   * @param occurrenceIndex Position of the occurrence in the series (0 = first)
+   * @return Event details of the occurrence
+   * @throws NotFoundException if series or occurrence not found
+   * @throws ValidationException if the series is not published or the occurrence has started
+   */
+  EventResponse materializeOccurrence(UUID seriesId, int occurrenceIndex);
+}
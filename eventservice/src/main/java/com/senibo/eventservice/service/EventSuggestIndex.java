@@ -0,0 +1,413 @@
+package com.senibo.eventservice.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.EventSuggestSource;
+import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.enums.SuggestionType;
+import com.senibo.eventservice.repository.EventRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory prefix trie over the titles, venues and cities of published events.
+ * Every word start of a text is indexed, so "jaz" finds "Lagos Jazz Festival".
+ * Each node keeps its MAX_SUGGESTIONS most popular suggestions (tickets sold),
+ * so a lookup is one walk down the prefix with no subtree scan.
+ * Reads are lock-free over copy-on-write arrays; writes are serialized and only
+ * touch the nodes on the paths of the changed texts. Ticket sales only move
+ * popularity, so they are summed per event and applied once per interval,
+ * keeping the writer lock off the booking path.
+ */
+@Service
+@Slf4j
+public class EventSuggestIndex {
+
+  public static final int MAX_SUGGESTIONS = 10;
+
+  // Caps trie depth for long titles
+  private static final int MAX_KEY_LENGTH = 48;
+
+  // Rough retained sizes used for the memory gauge (compressed oops)
+  private static final long NODE_BYTES = 120;
+  private static final long SUGGESTION_BYTES = 160;
+
+  private static final Comparator<Suggestion> BY_POPULARITY = Comparator
+      .comparingLong(Suggestion::popularity).reversed()
+      .thenComparing(Suggestion::text);
+
+  private final EventRepository eventRepository;
+
+  private final Node root = new Node();
+  private final AtomicLong nodeCount = new AtomicLong(1);
+
+  // Writer-side state, guarded by this
+  private final Map<UUID, IndexedEvent> indexedEvents = new HashMap<>();
+  private final Map<String, Aggregate> aggregates = new HashMap<>();
+
+  // Tickets sold (negative when returned) per event since the last popularity pass
+  private final Map<UUID, Long> pendingSold = new ConcurrentHashMap<>();
+
+  public EventSuggestIndex(EventRepository eventRepository, MeterRegistry meterRegistry) {
+    this.eventRepository = eventRepository;
+
+    Gauge.builder("event.suggest.nodes", nodeCount, AtomicLong::get)
+        .description("Nodes in the autocomplete trie")
+        .register(meterRegistry);
+    Gauge.builder("event.suggest.memory", this, EventSuggestIndex::estimatedBytes)
+        .description("Estimated heap retained by the autocomplete trie")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadIndex() {
+    List<EventSuggestSource> sources = eventRepository.findSuggestSources(EventStatus.PUBLISHED);
+    sources.forEach(source -> apply(source.id(), IndexedEvent.of(
+        source.title(), source.venue(), source.city(), source.capacity(), source.availableTickets())));
+    log.info("Suggest index loaded with {} published events ({} nodes)", sources.size(), nodeCount.get());
+  }
+
+  // Index a published event, drop any other. Its popularity is recomputed, so pending sales are dropped too
+  public void update(Event event) {
+    pendingSold.remove(event.getId());
+    IndexedEvent next = event.getStatus() == EventStatus.PUBLISHED
+        ? IndexedEvent.of(event.getTitle(), event.getVenue(), event.getCity(),
+            event.getCapacity(), event.getAvailableTickets())
+        : null;
+    apply(event.getId(), next);
+  }
+
+  // Drop an event that left PUBLISHED without being loaded
+  public void remove(UUID eventId) {
+    pendingSold.remove(eventId);
+    apply(eventId, null);
+  }
+
+  // Tickets reserved (negative when returned) here or on another replica; ranked with the next popularity pass
+  public void ticketsChanged(UUID eventId, int tickets) {
+    pendingSold.merge(eventId, (long) tickets, Long::sum);
+  }
+
+  @Scheduled(fixedDelayString = "${app.suggest.popularity-interval-ms:30000}")
+  public synchronized void applyPopularity() {
+    for (UUID eventId : pendingSold.keySet()) {
+      Long sold = pendingSold.remove(eventId);
+      IndexedEvent current = indexedEvents.get(eventId);
+      if (sold != null && sold != 0 && current != null) {
+        apply(eventId, current.withPopularity(Math.max(0, current.popularity() + sold)));
+      }
+    }
+  }
+
+  // Re-read an event after it changed on another replica
+  public void refresh(UUID eventId) {
+    eventRepository.findById(eventId).ifPresentOrElse(this::update, () -> apply(eventId, null));
+  }
+
+  /**
+   * Most popular suggestions whose text has a word starting with the prefix.
+   *
+   * @param limit maximum number of suggestions, capped at MAX_SUGGESTIONS
+   */
+  public List<Suggestion> suggest(String prefix, int limit) {
+    String key = normalize(prefix);
+    if (key.isEmpty()) {
+      return List.of();
+    }
+
+    Node node = root;
+    for (int i = 0; i < key.length() && node != null; i++) {
+      node = node.children.get(key.charAt(i));
+    }
+    if (node == null) {
+      return List.of();
+    }
+
+    Suggestion[] top = node.top;
+    return Arrays.asList(top).subList(0, Math.min(top.length, Math.min(limit, MAX_SUGGESTIONS)));
+  }
+
+  public long estimatedBytes() {
+    long suggestions;
+    synchronized (this) {
+      suggestions = indexedEvents.size() + aggregates.size();
+    }
+    return nodeCount.get() * NODE_BYTES + suggestions * SUGGESTION_BYTES;
+  }
+
+  private synchronized void apply(UUID eventId, IndexedEvent next) {
+    IndexedEvent previous = next == null ? indexedEvents.remove(eventId) : indexedEvents.put(eventId, next);
+    if (next == null ? previous == null : next.equals(previous)) {
+      return;
+    }
+
+    // Titles are per event, venues and cities are shared and summed
+    replace(
+        previous != null ? previous.titleSuggestion(eventId) : null,
+        next != null ? next.titleSuggestion(eventId) : null);
+
+    if (previous != null) {
+      contribute(SuggestionType.VENUE, previous.venue(), -previous.popularity(), -1);
+      contribute(SuggestionType.CITY, previous.city(), -previous.popularity(), -1);
+    }
+    if (next != null) {
+      contribute(SuggestionType.VENUE, next.venue(), next.popularity(), 1);
+      contribute(SuggestionType.CITY, next.city(), next.popularity(), 1);
+    }
+  }
+
+  private void contribute(SuggestionType type, String text, long popularity, int events) {
+    if (text == null || normalize(text).isEmpty()) {
+      return;
+    }
+
+    String id = type + ":" + normalize(text);
+    Aggregate current = aggregates.get(id);
+    Suggestion old = current != null ? current.suggestion() : null;
+
+    int remaining = (current != null ? current.events() : 0) + events;
+    if (remaining <= 0) {
+      aggregates.remove(id);
+      replace(old, null);
+      return;
+    }
+
+    // Keep the spelling of the first event that introduced the text
+    Suggestion updated = new Suggestion(id, old != null ? old.text() : text.strip(), type, null,
+        (old != null ? old.popularity() : 0) + popularity);
+    aggregates.put(id, new Aggregate(updated, remaining));
+    replace(old, updated);
+  }
+
+  // Swap a suggestion on every word-start path of its text
+  private void replace(Suggestion old, Suggestion updated) {
+    if (old != null && old.equals(updated)) {
+      return;
+    }
+    if (old != null) {
+      keys(old.text()).forEach(key -> removeKey(key, old));
+    }
+    if (updated != null) {
+      keys(updated.text()).forEach(key -> addKey(key, updated));
+    }
+  }
+
+  private void addKey(String key, Suggestion suggestion) {
+    Node[] path = new Node[key.length() + 1];
+    Node node = root;
+    path[0] = node;
+
+    for (int i = 0; i < key.length(); i++) {
+      char c = key.charAt(i);
+      Node child = node.children.get(c);
+      if (child == null) {
+        child = new Node();
+        node.children = node.children.with(c, child);
+        nodeCount.incrementAndGet();
+      }
+      node = child;
+      path[i + 1] = node;
+    }
+
+    node.terminals().put(suggestion.id(), suggestion);
+    for (Node onPath : path) {
+      onPath.offer(suggestion);
+    }
+  }
+
+  private void removeKey(String key, Suggestion suggestion) {
+    Node[] path = new Node[key.length() + 1];
+    Node node = root;
+    path[0] = node;
+
+    for (int i = 0; i < key.length(); i++) {
+      node = node.children.get(key.charAt(i));
+      if (node == null) {
+        return;
+      }
+      path[i + 1] = node;
+    }
+
+    if (node.terminals != null) {
+      node.terminals.remove(suggestion.id());
+    }
+
+    // Bottom-up, so every parent rebuilds from already-updated children
+    for (int i = key.length(); i >= 0; i--) {
+      Node onPath = path[i];
+      if (onPath.contains(suggestion.id())) {
+        onPath.rebuildTop();
+      }
+      if (i > 0 && onPath.isEmpty()) {
+        path[i - 1].children = path[i - 1].children.without(key.charAt(i - 1));
+        nodeCount.decrementAndGet();
+      }
+    }
+  }
+
+  // Distinct word-start suffixes of the normalized text
+  private static Set<String> keys(String text) {
+    String normalized = normalize(text);
+    Set<String> keys = new LinkedHashSet<>();
+    for (int i = 0; i < normalized.length(); i++) {
+      if (i == 0 || normalized.charAt(i - 1) == ' ') {
+        keys.add(normalized.substring(i, Math.min(normalized.length(), i + MAX_KEY_LENGTH)));
+      }
+    }
+    return keys;
+  }
+
+  private static String normalize(String text) {
+    return text == null ? "" : text.strip().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+  }
+
+  private static final class Node {
+
+    volatile Children children = Children.EMPTY;
+    volatile Suggestion[] top = new Suggestion[0];
+
+    // Suggestions whose key ends here; writer-only
+    Map<String, Suggestion> terminals;
+
+    Map<String, Suggestion> terminals() {
+      if (terminals == null) {
+        terminals = new HashMap<>(2);
+      }
+      return terminals;
+    }
+
+    boolean isEmpty() {
+      return (terminals == null || terminals.isEmpty()) && children.keys().length == 0;
+    }
+
+    boolean contains(String id) {
+      for (Suggestion suggestion : top) {
+        if (suggestion.id().equals(id)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    // Insert or raise a suggestion
+    void offer(Suggestion suggestion) {
+      List<Suggestion> candidates = new ArrayList<>(top.length + 1);
+      for (Suggestion existing : top) {
+        if (!existing.id().equals(suggestion.id())) {
+          candidates.add(existing);
+        }
+      }
+      candidates.add(suggestion);
+      top = best(candidates);
+    }
+
+    // Top-K of this node = top-K over its own terminals and its children's top-K
+    void rebuildTop() {
+      Map<String, Suggestion> candidates = new HashMap<>();
+      if (terminals != null) {
+        candidates.putAll(terminals);
+      }
+      for (Node child : children.nodes()) {
+        for (Suggestion suggestion : child.top) {
+          candidates.putIfAbsent(suggestion.id(), suggestion);
+        }
+      }
+      top = best(candidates.values());
+    }
+
+    private static Suggestion[] best(Collection<Suggestion> candidates) {
+      return candidates.stream()
+          .sorted(BY_POPULARITY)
+          .limit(MAX_SUGGESTIONS)
+          .toArray(Suggestion[]::new);
+    }
+  }
+
+  // Sorted child table, replaced as a whole so readers never see keys and nodes out of step
+  private record Children(char[] keys, Node[] nodes) {
+
+    static final Children EMPTY = new Children(new char[0], new Node[0]);
+
+    Node get(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index >= 0 ? nodes[index] : null;
+    }
+
+    Children with(char c, Node node) {
+      int at = -Arrays.binarySearch(keys, c) - 1;
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newNodes = new Node[nodes.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, at);
+      System.arraycopy(nodes, 0, newNodes, 0, at);
+      newKeys[at] = c;
+      newNodes[at] = node;
+      System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+      System.arraycopy(nodes, at, newNodes, at + 1, nodes.length - at);
+      return new Children(newKeys, newNodes);
+    }
+
+    Children without(char c) {
+      int at = Arrays.binarySearch(keys, c);
+      if (at < 0) {
+        return this;
+      }
+      char[] newKeys = new char[keys.length - 1];
+      Node[] newNodes = new Node[nodes.length - 1];
+      System.arraycopy(keys, 0, newKeys, 0, at);
+      System.arraycopy(nodes, 0, newNodes, 0, at);
+      System.arraycopy(keys, at + 1, newKeys, at, keys.length - at - 1);
+      System.arraycopy(nodes, at + 1, newNodes, at, nodes.length - at - 1);
+      return new Children(newKeys, newNodes);
+    }
+  }
+
+  private record IndexedEvent(String title, String venue, String city, long popularity) {
+
+    static IndexedEvent of(String title, String venue, String city, Integer capacity, Integer availableTickets) {
+      long sold = capacity != null && availableTickets != null ? capacity - availableTickets : 0;
+      return new IndexedEvent(title, venue, city, Math.max(0, sold));
+    }
+
+    IndexedEvent withPopularity(long newPopularity) {
+      return new IndexedEvent(title, venue, city, newPopularity);
+    }
+
+    Suggestion titleSuggestion(UUID eventId) {
+      return new Suggestion(SuggestionType.TITLE + ":" + eventId, title.strip(), SuggestionType.TITLE,
+          eventId, popularity);
+    }
+  }
+
+  private record Aggregate(Suggestion suggestion, int events) {
+  }
+
+  /**
+   * One suggestion. Immutable: a popularity change swaps in a new instance.
+   *
+   * @param id stable identity (type plus event ID or normalized text)
+   * @param eventId set for title suggestions only
+   */
+  public record Suggestion(String id, String text, SuggestionType type, UUID eventId, long popularity) {
+  }
+}
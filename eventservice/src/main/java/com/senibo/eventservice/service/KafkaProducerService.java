@@ -0,0 +1,62 @@
+package com.senibo.eventservice.service;
+
+import java.util.UUID;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.kafka.EventCacheInvalidationEvent;
+import com.senibo.eventservice.dto.kafka.EventChangedEvent;
+import com.senibo.eventservice.dto.kafka.EventCompletedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class KafkaProducerService {
+
+  public static final String CACHE_INVALIDATION_TOPIC = "event-cache-invalidation";
+
+  // Domain events about an event's lifecycle, for downstream read models
+  public static final String EVENT_LIFECYCLE_TOPIC = "event-lifecycle";
+
+  // Cancellations and reschedules, consumed by Booking Service
+  public static final String EVENT_CHANGES_TOPIC = "event-changes";
+
+  // Identifies this replica so it can ignore its own invalidation messages
+  public static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+
+  public KafkaProducerService(KafkaTemplate<String, Object> kafkaTemplate) {
+    this.kafkaTemplate = kafkaTemplate;
+  }
+
+  public void publishCacheInvalidation(UUID eventId) {
+    publishCacheInvalidation(new EventCacheInvalidationEvent(eventId, INSTANCE_ID, null, null));
+  }
+
+  // Ticket updates carry the number of tickets reserved (negative when returned)
+  public void publishTicketsChanged(UUID eventId, int ticketsChanged) {
+    publishCacheInvalidation(new EventCacheInvalidationEvent(eventId, INSTANCE_ID, ticketsChanged, null));
+  }
+
+  public void publishPricingChanged(UUID eventId) {
+    publishCacheInvalidation(new EventCacheInvalidationEvent(eventId, INSTANCE_ID, null, true));
+  }
+
+  private void publishCacheInvalidation(EventCacheInvalidationEvent event) {
+    log.debug("Publishing cache invalidation for event {}", event.eventId());
+    kafkaTemplate.send(CACHE_INVALIDATION_TOPIC, event.eventId().toString(), event);
+  }
+
+  public void publishEventCompleted(EventCompletedEvent event) {
+    log.debug("Publishing event completed for event {}", event.eventId());
+    kafkaTemplate.send(EVENT_LIFECYCLE_TOPIC, event.eventId().toString(), event);
+  }
+
+  public void publishEventChanged(EventChangedEvent event) {
+    log.info("Publishing {} for event {}", event.changeType(), event.eventId());
+    kafkaTemplate.send(EVENT_CHANGES_TOPIC, event.eventId().toString(), event);
+  }
+}
@@ -0,0 +1,56 @@
+package com.senibo.eventservice.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.PriceQuoteResponse;
+
+/**
+ * Signs price quotes with HMAC-SHA256 over "eventId|unitPrice|expiresAt (epoch seconds)".
+ * Booking Service checks the signature with the same app.pricing.quote-secret and
+ * charges the quoted price, so a price change after the quote doesn't affect the booking.
+ */
+@Service
+public class PriceQuoteSigner {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final SecretKeySpec key;
+  private final Duration ttl;
+
+  public PriceQuoteSigner(
+      @Value("${app.pricing.quote-secret}") String secret,
+      @Value("${app.pricing.quote-ttl-minutes:10}") long ttlMinutes) {
+    this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    this.ttl = Duration.ofMinutes(ttlMinutes);
+  }
+
+  public PriceQuoteResponse quote(UUID eventId, BigDecimal unitPrice) {
+    // Whole seconds, as signed
+    Instant expiresAt = Instant.ofEpochSecond(Instant.now().plus(ttl).getEpochSecond());
+    return new PriceQuoteResponse(eventId, unitPrice, expiresAt, sign(eventId, unitPrice, expiresAt));
+  }
+
+  private String sign(UUID eventId, BigDecimal unitPrice, Instant expiresAt) {
+    String payload = eventId + "|" + unitPrice.stripTrailingZeros().toPlainString() + "|" + expiresAt.getEpochSecond();
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot sign price quote", e);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.senibo.eventservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.senibo.eventservice.dto.EventSearchRequest;
+import com.senibo.eventservice.enums.EventSortField;
+import com.senibo.eventservice.exception.QueryTooExpensiveException;
+import com.senibo.eventservice.util.EventSearchSql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Query governor for event search.
+ * Before a search runs, the planner's cost estimate for the equivalent SQL is
+ * taken from EXPLAIN and the search is rejected when it is above max-plan-cost
+ * (typically an unindexed sort or a leading-wildcard title match over the whole
+ * table). Estimates are cached per query shape, so EXPLAIN runs about once a
+ * minute for each distinct filter/sort combination.
+ * Searches slower than slow-query-ms are logged together with their plan.
+ */
+@Service
+@Slf4j
+public class SearchQueryGovernor {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  private final double maxPlanCost;
+  private final long maxOffset;
+  private final long slowQueryMs;
+
+  private final Cache<String, SearchPlan> plans = Caffeine.newBuilder()
+      .maximumSize(1_000)
+      .expireAfterWrite(Duration.ofMinutes(1))
+      .build();
+
+  private final Timer searchTimer;
+  private final Counter rejectedSearches;
+  private final Counter slowSearches;
+
+  public SearchQueryGovernor(
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.search.max-plan-cost:100000}") double maxPlanCost,
+      @Value("${app.search.max-offset:10000}") long maxOffset,
+      @Value("${app.search.slow-query-ms:500}") long slowQueryMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.maxPlanCost = maxPlanCost;
+    this.maxOffset = maxOffset;
+    this.slowQueryMs = slowQueryMs;
+
+    this.searchTimer = Timer.builder("event.search")
+        .description("Event search query time")
+        .register(meterRegistry);
+    this.rejectedSearches = Counter.builder("event.search.rejected")
+        .description("Searches rejected by the query governor")
+        .register(meterRegistry);
+    this.slowSearches = Counter.builder("event.search.slow")
+        .description("Searches slower than the slow query threshold")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Estimate the cost of a search and reject it when it is too expensive.
+   *
+   * @return the estimated plan, to be handed back to record()
+   * @throws QueryTooExpensiveException if the offset or the estimated cost is above the limit
+   */
+  public SearchPlan check(EventSearchRequest request, EventSortField sortField, Sort.Direction direction) {
+    long offset = (long) request.page() * request.size();
+
+    // OFFSET reads and discards every skipped row
+    if (offset > maxOffset) {
+      rejectedSearches.increment();
+      throw new QueryTooExpensiveException(String.format(
+          "Only the first %d results can be paged through. Narrow the search instead.", maxOffset));
+    }
+
+    String shape = shapeOf(request, sortField, direction, offset);
+    SearchPlan plan = plans.get(shape, key -> explain(key, request, sortField, direction, offset));
+
+    if (plan.cost() > maxPlanCost) {
+      rejectedSearches.increment();
+      log.info("Rejected search {} (estimated cost {})", shape, plan.cost());
+      throw new QueryTooExpensiveException(
+          "This search is too broad. Add a status, city, category or start date filter.");
+    }
+    return plan;
+  }
+
+  // Time a search that passed check() and report it when slow
+  public void record(SearchPlan plan, long elapsedNanos) {
+    searchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    if (elapsedMs >= slowQueryMs) {
+      slowSearches.increment();
+      log.warn("Slow event search: {} ms, shape {}, estimated cost {}, plan {}",
+          elapsedMs, plan.shape(), plan.cost(), plan.plan());
+    }
+  }
+
+  // Filters that change the plan; free-text values are reduced to their presence
+  private static String shapeOf(EventSearchRequest request, EventSortField sortField,
+      Sort.Direction direction, long offset) {
+    return String.join("|",
+        "category=" + request.category(),
+        "status=" + request.status(),
+        "city=" + hasText(request.city()),
+        "title=" + hasText(request.titleKeyword()),
+        "start=" + (request.startDateAfter() != null),
+        "end=" + (request.startDateBefore() != null),
+        "organizer=" + (request.organizerId() != null),
+        "sort=" + sortField + " " + direction,
+        "size=" + request.size(),
+        // Bucket offsets by power of two
+        "offset<=" + (offset == 0 ? 0 : Long.highestOneBit(offset) << 1));
+  }
+
+  // Same filters and Sort as the JPA search
+  private SearchPlan explain(String shape, EventSearchRequest request, EventSortField sortField,
+      Sort.Direction direction, long offset) {
+    StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT e.id FROM events e WHERE TRUE");
+    List<Object> args = new ArrayList<>();
+
+    EventSearchSql.appendFilters(sql, request, args);
+
+    String order = direction.isAscending() ? "ASC" : "DESC";
+    sql.append(" ORDER BY e.").append(sortField.getColumn()).append(' ').append(order)
+        .append(", e.id ").append(order)
+        .append(" LIMIT ? OFFSET ?");
+    args.add(request.size());
+    args.add(offset);
+
+    try {
+      String json = jdbcTemplate.queryForObject(sql.toString(), String.class, args.toArray());
+      JsonNode plan = objectMapper.readTree(json).path(0).path("Plan");
+      return new SearchPlan(shape, plan.path("Total Cost").asDouble(), plan.toString());
+    } catch (DataAccessException | JsonProcessingException ex) {
+      // Never fail a search because the estimate is unavailable
+      log.warn("Could not estimate search cost for {}: {}", shape, ex.getMessage());
+      return new SearchPlan(shape, 0, "unavailable");
+    }
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  public record SearchPlan(String shape, double cost, String plan) {
+  }
+}
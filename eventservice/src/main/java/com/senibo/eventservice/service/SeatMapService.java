@@ -0,0 +1,385 @@
+package com.senibo.eventservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.senibo.eventservice.dto.SeatMapResponse;
+import com.senibo.eventservice.dto.SeatSection;
+import com.senibo.eventservice.entity.EventSeatMap;
+import com.senibo.eventservice.exception.InsufficientTicketsException;
+import com.senibo.eventservice.exception.NotFoundException;
+import com.senibo.eventservice.exception.ValidationException;
+import com.senibo.eventservice.repository.EventSeatMapRepository;
+import com.senibo.eventservice.util.SeatOccupancy;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Live seat occupancy of reserved-seating events.
+ * Seats are claimed in memory on a lock-free SeatOccupancy bitset, then made
+ * durable by a single writer thread that group-commits every queued claim and
+ * release: per event it locks the occupancy row, re-checks each claim against
+ * the stored bits (which include other replicas' claims), and writes the row
+ * back once. The database stays the source of truth; the in-memory bitset is
+ * what makes the search and the common-case conflict check cheap.
+ */
+@Service
+@Slf4j
+public class SeatMapService {
+
+  // A best-available search is retried when a concurrent request takes the block first
+  private static final int MAX_SEARCH_ATTEMPTS = 8;
+
+  private static final int MAX_COMMIT_BATCH = 1000;
+
+  // A group commit is rolled back after this long, so a request waits for a bounded time even on a stuck database
+  private static final int COMMIT_TIMEOUT_SECONDS = 5;
+  private static final long QUEUE_WAIT_MS = TimeUnit.SECONDS.toMillis(2 * COMMIT_TIMEOUT_SECONDS);
+
+  private static final String LOCK_OCCUPANCY = "SELECT occupancy FROM event_seat_maps WHERE event_id = ? FOR UPDATE";
+  private static final String WRITE_OCCUPANCY = "UPDATE event_seat_maps SET occupancy = ? WHERE event_id = ?";
+
+  private final EventSeatMapRepository eventSeatMapRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Cache<UUID, SeatMap> seatMaps = Caffeine.newBuilder()
+      .expireAfterAccess(Duration.ofMinutes(30))
+      .build();
+  private final BlockingQueue<PendingWrite> pending = new LinkedBlockingQueue<>();
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  public SeatMapService(EventSeatMapRepository eventSeatMapRepository, JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate) {
+    this.eventSeatMapRepository = eventSeatMapRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    this.transactionTemplate.setTimeout(COMMIT_TIMEOUT_SECONDS);
+
+    this.writer = new Thread(this::writeLoop, "seat-map-writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Creates or replaces the layout of an event, with every seat free.
+   * Returns the number of seats.
+   */
+  public int saveLayout(UUID eventId, List<SeatSection> sections) {
+    Map<String, Boolean> names = new HashMap<>();
+    long totalSeats = 0;
+    for (SeatSection section : sections) {
+      if (names.put(section.name().toUpperCase(), true) != null) {
+        throw new ValidationException("Duplicate section name: " + section.name());
+      }
+      totalSeats += (long) section.rows() * section.seatsPerRow();
+    }
+    if (totalSeats > SeatMap.MAX_SEATS) {
+      throw new ValidationException("A seat map cannot have more than " + SeatMap.MAX_SEATS + " seats");
+    }
+
+    eventSeatMapRepository.save(EventSeatMap.builder()
+        .eventId(eventId)
+        .sections(List.copyOf(sections))
+        .totalSeats((int) totalSeats)
+        .occupancy(new byte[(int) ((totalSeats + 7) >>> 3)])
+        .build());
+    evict(eventId);
+    return (int) totalSeats;
+  }
+
+  public SeatMapResponse getSeatMap(UUID eventId) {
+    SeatMap map = load(eventId);
+    return new SeatMapResponse(eventId, map.sections(), map.occupancy().size(), map.occupancy().freeCount(),
+        Base64.getEncoder().encodeToString(map.occupancy().toBytes()));
+  }
+
+  /**
+   * Reserves the chosen seats, or the best available block of `count` adjacent
+   * seats when none are chosen, and returns their labels once they are committed.
+   */
+  public List<String> reserve(UUID eventId, int count, List<String> chosen) {
+    if (chosen != null && !chosen.isEmpty()) {
+      if (chosen.size() != count) {
+        throw new ValidationException(String.format("Choose exactly %d seats", count));
+      }
+      SeatMap map = load(eventId);
+      int[] seats = map.indexesOf(chosen);
+      if (!map.occupancy().claim(seats) || commit(map, seats, true).length == 0) {
+        throw new InsufficientTicketsException("One or more of the chosen seats are already taken");
+      }
+      return map.labelsOf(seats);
+    }
+
+    for (int attempt = 0; attempt < MAX_SEARCH_ATTEMPTS; attempt++) {
+      SeatMap map = load(eventId);
+      int[] block = map.bestBlock(count);
+      if (block == null) {
+        throw new InsufficientTicketsException(String.format("No %d adjacent seats available", count));
+      }
+      // A failed claim or commit means another request got there first; the bitset now shows it
+      if (map.occupancy().claim(block) && commit(map, block, true).length > 0) {
+        return map.labelsOf(block);
+      }
+    }
+    throw new InsufficientTicketsException("Seats are selling fast. Please try again.");
+  }
+
+  /**
+   * Frees the given seats and returns the labels of those that were actually taken;
+   * seats already free (a repeated release, a wrong label) are left out.
+   */
+  public List<String> release(UUID eventId, List<String> labels) {
+    SeatMap map = load(eventId);
+    return map.labelsOf(commit(map, map.indexesOf(labels), false));
+  }
+
+  // Drops the in-memory copy; the next access reloads it (other replicas may have released seats).
+  // Seats claimed elsewhere need no eviction: the commit re-check finds them and marks them taken here
+  public void evict(UUID eventId) {
+    seatMaps.invalidate(eventId);
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    writer.join(TimeUnit.SECONDS.toMillis(5));
+  }
+
+  private SeatMap load(UUID eventId) {
+    SeatMap map = seatMaps.get(eventId, id -> eventSeatMapRepository.findById(id).map(SeatMap::of).orElse(null));
+    if (map == null) {
+      throw new NotFoundException("This event has no seat map");
+    }
+    return map;
+  }
+
+  // Queues the write for the next group commit and waits for the seats it changed:
+  // all of them or none for a claim, those that were taken for a release
+  private int[] commit(SeatMap map, int[] seats, boolean claim) {
+    PendingWrite write = new PendingWrite(map, seats, claim, new CompletableFuture<>());
+    pending.add(write);
+    try {
+      return write.result().get(QUEUE_WAIT_MS, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      if (pending.remove(write)) {
+        // The writer never picked it up: drop it as if it had failed
+        if (claim) {
+          map.occupancy().release(seats);
+        }
+        log.warn("Seat map write for event {} timed out in the commit queue", map.eventId());
+        throw claim
+            ? new InsufficientTicketsException("Seat reservations are busy. Please try again.")
+            : new IllegalStateException("Seat release timed out", e);
+      }
+      // Already in a group commit, which the transaction timeout bounds
+      try {
+        return write.result().join();
+      } catch (CompletionException inFlight) {
+        throw inFlight.getCause() instanceof RuntimeException cause ? cause : inFlight;
+      }
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : new CompletionException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the seat map commit", e);
+    }
+  }
+
+  private void writeLoop() {
+    List<PendingWrite> batch = new ArrayList<>();
+    while (running || !pending.isEmpty()) {
+      try {
+        PendingWrite first = pending.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        pending.drainTo(batch, MAX_COMMIT_BATCH - 1);
+        writeBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("Seat map commit of {} writes failed", batch.size(), e);
+        for (PendingWrite write : batch) {
+          if (write.claim()) {
+            write.map().occupancy().release(write.seats());
+          }
+          write.result().completeExceptionally(e);
+        }
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  // One transaction for the whole batch: one row lock, one check pass and one write per event.
+  // Rows are locked in event ID order so batches on different replicas can't deadlock
+  private void writeBatch(List<PendingWrite> batch) {
+    Map<UUID, List<PendingWrite>> byEvent = new TreeMap<>();
+    batch.forEach(write -> byEvent.computeIfAbsent(write.map().eventId(), id -> new ArrayList<>()).add(write));
+
+    Map<PendingWrite, int[]> outcomes = new IdentityHashMap<>();
+    Map<UUID, byte[]> committed = new HashMap<>();
+
+    transactionTemplate.executeWithoutResult(status -> {
+      List<Object[]> updates = new ArrayList<>();
+      byEvent.forEach((eventId, writes) -> {
+        byte[] stored = jdbcTemplate.queryForObject(LOCK_OCCUPANCY, byte[].class, eventId);
+        BitSet bits = BitSet.valueOf(stored);
+
+        for (PendingWrite write : writes) {
+          int[] applied;
+          if (write.claim()) {
+            applied = Arrays.stream(write.seats()).anyMatch(bits::get) ? new int[0] : write.seats();
+            Arrays.stream(applied).forEach(bits::set);
+          } else {
+            applied = Arrays.stream(write.seats()).filter(bits::get).toArray();
+            Arrays.stream(applied).forEach(bits::clear);
+          }
+          outcomes.put(write, applied);
+        }
+
+        // BitSet drops trailing zero bytes
+        byte[] updated = Arrays.copyOf(bits.toByteArray(), stored.length);
+        updates.add(new Object[] { updated, eventId });
+        committed.put(eventId, updated);
+      });
+      jdbcTemplate.batchUpdate(WRITE_OCCUPANCY, updates);
+    });
+
+    // Committed: settle the in-memory copies, then pick up seats taken on other replicas
+    for (PendingWrite write : batch) {
+      if (!write.claim()) {
+        write.map().occupancy().release(outcomes.get(write));
+      } else if (outcomes.get(write).length == 0) {
+        write.map().occupancy().release(write.seats());
+      }
+    }
+    for (PendingWrite write : batch) {
+      write.map().occupancy().markTaken(committed.get(write.map().eventId()));
+      write.result().complete(outcomes.get(write));
+    }
+  }
+
+  private record PendingWrite(SeatMap map, int[] seats, boolean claim, CompletableFuture<int[]> result) {
+  }
+
+  /**
+   * Loaded layout: seat i of the event is seat (i - sectionStart[s]) of section s,
+   * counted row by row.
+   */
+  private record SeatMap(UUID eventId, List<SeatSection> sections, int[] sectionStart,
+      Map<String, Integer> sectionIndex, SeatOccupancy occupancy) {
+
+    static final int MAX_SEATS = 200_000;
+
+    static SeatMap of(EventSeatMap entity) {
+      List<SeatSection> sections = entity.getSections();
+      int[] sectionStart = new int[sections.size()];
+      Map<String, Integer> sectionIndex = new HashMap<>();
+      int start = 0;
+      for (int s = 0; s < sections.size(); s++) {
+        sectionStart[s] = start;
+        sectionIndex.put(sections.get(s).name().toUpperCase(), s);
+        start += sections.get(s).rows() * sections.get(s).seatsPerRow();
+      }
+      return new SeatMap(entity.getEventId(), sections, sectionStart, sectionIndex,
+          new SeatOccupancy(entity.getTotalSeats(), entity.getOccupancy()));
+    }
+
+    // Front rows of the first sections first; within a row, the block nearest the middle
+    int[] bestBlock(int count) {
+      for (int s = 0; s < sections.size(); s++) {
+        SeatSection section = sections.get(s);
+        if (section.seatsPerRow() < count) {
+          continue;
+        }
+        for (int row = 0; row < section.rows(); row++) {
+          int from = sectionStart[s] + row * section.seatsPerRow();
+          int start = occupancy.bestBlock(from, from + section.seatsPerRow(), count);
+          if (start >= 0) {
+            int[] block = new int[count];
+            Arrays.setAll(block, i -> start + i);
+            return block;
+          }
+        }
+      }
+      return null;
+    }
+
+    // "A-12-7" = section A, row 12, seat 7; returned sorted, as SeatOccupancy.claim expects
+    int[] indexesOf(List<String> labels) {
+      int[] seats = new int[labels.size()];
+      for (int i = 0; i < seats.length; i++) {
+        seats[i] = indexOf(labels.get(i));
+      }
+      Arrays.sort(seats);
+      for (int i = 1; i < seats.length; i++) {
+        if (seats[i] == seats[i - 1]) {
+          throw new ValidationException("Seat chosen twice: " + labelOf(seats[i]));
+        }
+      }
+      return seats;
+    }
+
+    List<String> labelsOf(int[] seats) {
+      return Arrays.stream(seats).mapToObj(this::labelOf).toList();
+    }
+
+    private int indexOf(String label) {
+      String[] parts = label.strip().split("-");
+      Integer s = parts.length == 3 ? sectionIndex.get(parts[0].toUpperCase()) : null;
+      if (s == null) {
+        throw new ValidationException("Unknown seat: " + label);
+      }
+      SeatSection section = sections.get(s);
+      try {
+        int row = Integer.parseInt(parts[1]);
+        int seat = Integer.parseInt(parts[2]);
+        if (row < 1 || row > section.rows() || seat < 1 || seat > section.seatsPerRow()) {
+          throw new ValidationException("Unknown seat: " + label);
+        }
+        return sectionStart[s] + (row - 1) * section.seatsPerRow() + (seat - 1);
+      } catch (NumberFormatException e) {
+        throw new ValidationException("Unknown seat: " + label);
+      }
+    }
+
+    private String labelOf(int seat) {
+      // Sections are never empty, so the starts are strictly increasing
+      int s = Arrays.binarySearch(sectionStart, seat);
+      if (s < 0) {
+        s = -s - 2;
+      }
+      SeatSection section = sections.get(s);
+      int offset = seat - sectionStart[s];
+      return section.name() + "-" + (offset / section.seatsPerRow() + 1) + "-" + (offset % section.seatsPerRow() + 1);
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.senibo.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.senibo.eventservice.dto.EventResponse;
+import com.senibo.eventservice.dto.EventSearchRequest;
+import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.entity.EventSeries;
+import com.senibo.eventservice.enums.EventStatus;
+import com.senibo.eventservice.repository.EventRepository;
+import com.senibo.eventservice.repository.EventSeriesRepository;
+
+import jakarta.persistence.criteria.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Occurrences of recurring event series.
+ * An occurrence only gets an Event row (and with it inventory) when it is one of
+ * the next materialize-ahead occurrences of a published series, or when someone
+ * books it; every other occurrence is expanded from the schedule when a search
+ * asks for its date range. The unique key on (series_id, occurrence_index) makes
+ * materializing idempotent across replicas.
+ */
+@Service
+@Slf4j
+public class SeriesOccurrenceService {
+
+  // Upper bound on occurrences expanded for one search; a narrower date range shows the rest
+  public static final int MAX_EXPANDED_OCCURRENCES = 2000;
+
+  private final EventSeriesRepository eventSeriesRepository;
+  private final EventRepository eventRepository;
+  private final EventGeoIndex eventGeoIndex;
+  private final EventSuggestIndex eventSuggestIndex;
+  private final KafkaProducerService kafkaProducerService;
+
+  private final int materializeAhead;
+  private final int searchHorizonDays;
+
+  public SeriesOccurrenceService(
+      EventSeriesRepository eventSeriesRepository,
+      EventRepository eventRepository,
+      EventGeoIndex eventGeoIndex,
+      EventSuggestIndex eventSuggestIndex,
+      KafkaProducerService kafkaProducerService,
+      @Value("${app.series.materialize-ahead:4}") int materializeAhead,
+      @Value("${app.series.search-horizon-days:90}") int searchHorizonDays) {
+    this.eventSeriesRepository = eventSeriesRepository;
+    this.eventRepository = eventRepository;
+    this.eventGeoIndex = eventGeoIndex;
+    this.eventSuggestIndex = eventSuggestIndex;
+    this.kafkaProducerService = kafkaProducerService;
+    this.materializeAhead = materializeAhead;
+    this.searchHorizonDays = searchHorizonDays;
+  }
+
+  public int getSearchHorizonDays() {
+    return searchHorizonDays;
+  }
+
+  @Scheduled(fixedDelayString = "${app.series.materialize-interval-ms:3600000}")
+  public void materializeUpcoming() {
+    int created = 0;
+    for (EventSeries series : eventSeriesRepository.findByStatus(EventStatus.PUBLISHED)) {
+      created += materializeAhead(series);
+    }
+    if (created > 0) {
+      log.info("Materialized {} upcoming series occurrences", created);
+    }
+  }
+
+  /**
+   * Makes sure the next materialize-ahead occurrences of a published series exist as events.
+   *
+   * @return how many were created
+   */
+  public int materializeAhead(EventSeries series) {
+    int next = series.firstOccurrenceFrom(LocalDateTime.now());
+    int last = next + materializeAhead - 1;
+    if (series.getMaterializedThrough() >= last) {
+      return 0;
+    }
+
+    int created = 0;
+    for (int index = Math.max(next, series.getMaterializedThrough() + 1); index <= last && series.hasOccurrence(index); index++) {
+      if (eventRepository.findBySeriesIdAndOccurrenceIndex(series.getId(), index).isEmpty()) {
+        insert(series, index);
+        created++;
+      }
+    }
+    eventSeriesRepository.advanceMaterializedThrough(series.getId(), last);
+    return created;
+  }
+
+  // The occurrence's event, created now if it doesn't exist yet
+  public Event materialize(EventSeries series, int index) {
+    return eventRepository.findBySeriesIdAndOccurrenceIndex(series.getId(), index)
+        .orElseGet(() -> insert(series, index));
+  }
+
+  /**
+   * Occurrences of published series matching the search filters that start in the
+   * searched range and have no event row yet, in start order. The range starts no
+   * earlier than now and spans at most search-horizon-days.
+   */
+  public List<EventResponse> expand(EventSearchRequest request) {
+    if (request.status() != null && request.status() != EventStatus.PUBLISHED) {
+      return List.of();
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime from = request.startDateAfter() != null && request.startDateAfter().isAfter(now)
+        ? request.startDateAfter()
+        : now;
+    LocalDateTime to = from.plusDays(searchHorizonDays);
+    if (request.startDateBefore() != null && request.startDateBefore().isBefore(to)) {
+      to = request.startDateBefore();
+    }
+    if (!from.isBefore(to)) {
+      return List.of();
+    }
+
+    List<EventSeries> series = eventSeriesRepository.findAll(matching(request, to));
+    return unmaterialized(series, from, to);
+  }
+
+  // Occurrences of the series starting in [from, to) that have no event row yet, in start order
+  public List<EventResponse> unmaterialized(List<EventSeries> seriesList, LocalDateTime from, LocalDateTime to) {
+    if (seriesList.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, Set<Integer>> materialized = new HashMap<>();
+    for (Object[] row : eventRepository.findOccurrenceIndexes(seriesList.stream().map(EventSeries::getId).toList())) {
+      materialized.computeIfAbsent((UUID) row[0], id -> new HashSet<>()).add((Integer) row[1]);
+    }
+
+    List<EventResponse> occurrences = new ArrayList<>();
+    for (EventSeries series : seriesList) {
+      Set<Integer> taken = materialized.getOrDefault(series.getId(), Set.of());
+      for (int index = series.firstOccurrenceFrom(from);
+          series.hasOccurrence(index) && series.occurrenceStart(index).isBefore(to)
+              && occurrences.size() < MAX_EXPANDED_OCCURRENCES;
+          index++) {
+        if (!taken.contains(index)) {
+          occurrences.add(EventResponse.occurrence(series, index));
+        }
+      }
+    }
+
+    occurrences.sort(Comparator.comparing(EventResponse::startDateTime));
+    return occurrences;
+  }
+
+  private Event insert(EventSeries series, int index) {
+    Event event = Event.builder()
+        .title(series.getTitle())
+        .description(series.getDescription())
+        .category(series.getCategory())
+        .imageUrl(series.getImageUrl())
+        .startDateTime(series.occurrenceStart(index))
+        .endDateTime(series.occurrenceEnd(index))
+        .venue(series.getVenue())
+        .address(series.getAddress())
+        .city(series.getCity())
+        .latitude(series.getLatitude())
+        .longitude(series.getLongitude())
+        .capacity(series.getCapacity())
+        .availableTickets(series.getCapacity())
+        .price(series.getPrice())
+        .maxTicketsPerUser(series.getMaxTicketsPerUser())
+        .seriesId(series.getId())
+        .occurrenceIndex(index)
+        .status(EventStatus.PUBLISHED)
+        .organizerId(series.getOrganizerId())
+        .build();
+
+    try {
+      event = eventRepository.saveAndFlush(event);
+    } catch (DataIntegrityViolationException e) {
+      // Materialized concurrently by another replica or booking
+      return eventRepository.findBySeriesIdAndOccurrenceIndex(series.getId(), index).orElseThrow(() -> e);
+    }
+
+    eventGeoIndex.index(event);
+    eventSuggestIndex.update(event);
+    kafkaProducerService.publishCacheInvalidation(event.getId());
+    log.debug("Materialized occurrence {} of series {} as event {}", index, series.getId(), event.getId());
+    return event;
+  }
+
+  // Published series matching the search filters with a first occurrence before `to`
+  private static Specification<EventSeries> matching(EventSearchRequest request, LocalDateTime to) {
+    return (root, query, criteriaBuilder) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      predicates.add(criteriaBuilder.equal(root.get("status"), EventStatus.PUBLISHED));
+      predicates.add(criteriaBuilder.lessThan(root.get("firstStartDateTime"), to));
+      if (request.category() != null) {
+        predicates.add(criteriaBuilder.equal(root.get("category"), request.category()));
+      }
+      if (request.city() != null && !request.city().isBlank()) {
+        predicates.add(criteriaBuilder.equal(root.get("city"), request.city()));
+      }
+      if (request.titleKeyword() != null && !request.titleKeyword().isBlank()) {
+        predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("title")),
+            "%" + request.titleKeyword().toLowerCase() + "%"));
+      }
+      if (request.organizerId() != null) {
+        predicates.add(criteriaBuilder.equal(root.get("organizerId"), request.organizerId()));
+      }
+      return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+}
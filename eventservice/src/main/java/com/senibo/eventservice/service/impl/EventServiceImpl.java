@@ -1,78 +1,198 @@
 package com.senibo.eventservice.service.impl;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.senibo.eventservice.dto.CreateEventRequest;
+import com.senibo.eventservice.dto.CreateEventSeriesRequest;
+import com.senibo.eventservice.dto.DynamicPricingRequest;
+import com.senibo.eventservice.dto.EventImportError;
+import com.senibo.eventservice.dto.EventImportResponse;
+import com.senibo.eventservice.dto.EventImportRow;
 import com.senibo.eventservice.dto.EventResponse;
 import com.senibo.eventservice.dto.EventSearchRequest;
+import com.senibo.eventservice.dto.EventSeriesResponse;
+import com.senibo.eventservice.dto.EventSuggestionResponse;
 import com.senibo.eventservice.dto.PagedResponse;
+import com.senibo.eventservice.dto.PriceQuoteResponse;
+import com.senibo.eventservice.dto.SeatMapRequest;
+import com.senibo.eventservice.dto.SeatMapResponse;
+import com.senibo.eventservice.dto.SeatReleaseRequest;
+import com.senibo.eventservice.dto.SeatReservationRequest;
+import com.senibo.eventservice.dto.TicketTierRequest;
+import com.senibo.eventservice.dto.TicketTierResponse;
+import com.senibo.eventservice.dto.TicketTiersRequest;
+import com.senibo.eventservice.dto.TrendingEventResponse;
 import com.senibo.eventservice.dto.UpdateEventRequest;
 import com.senibo.eventservice.dto.UpdateTicketsRequest;
+import com.senibo.eventservice.dto.kafka.EventChangedEvent;
 import com.senibo.eventservice.entity.Event;
+import com.senibo.eventservice.entity.EventInventory;
+import com.senibo.eventservice.entity.EventPricingRule;
+import com.senibo.eventservice.entity.EventSeries;
+import com.senibo.eventservice.entity.EventTicketTier;
+import com.senibo.eventservice.enums.EventChangeType;
+import com.senibo.eventservice.enums.EventSortField;
 import com.senibo.eventservice.enums.EventStatus;
 import com.senibo.eventservice.exception.InsufficientTicketsException;
 import com.senibo.eventservice.exception.NotFoundException;
 import com.senibo.eventservice.exception.UnauthorizedException;
 import com.senibo.eventservice.exception.ValidationException;
+import com.senibo.eventservice.repository.EventInventoryRepository;
+import com.senibo.eventservice.repository.EventPricingRuleRepository;
 import com.senibo.eventservice.repository.EventRepository;
+import com.senibo.eventservice.repository.EventSeriesRepository;
+import com.senibo.eventservice.repository.EventTicketTierRepository;
+import com.senibo.eventservice.service.AvailabilityStreamService;
+import com.senibo.eventservice.service.DynamicPricingService;
+import com.senibo.eventservice.service.EventGeoIndex;
+import com.senibo.eventservice.service.EventGeoIndex.GeoMatch;
+import com.senibo.eventservice.service.EventJsonCache;
 import com.senibo.eventservice.service.EventService;
+import com.senibo.eventservice.service.EventSuggestIndex;
+import com.senibo.eventservice.service.KafkaProducerService;
+import com.senibo.eventservice.service.PriceQuoteSigner;
+import com.senibo.eventservice.service.SearchQueryGovernor;
+import com.senibo.eventservice.service.SearchQueryGovernor.SearchPlan;
+import com.senibo.eventservice.service.SeatMapService;
+import com.senibo.eventservice.service.SeriesOccurrenceService;
+import com.senibo.eventservice.service.TrendingEventsTracker;
+import com.senibo.eventservice.service.TrendingEventsTracker.TrendingEvent;
 import com.senibo.eventservice.util.EventSpecification;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+  // Trending list: at most this many events, each with at least this velocity
+  private static final int MAX_TRENDING = 20;
+  private static final double MIN_TRENDING_PER_HOUR = 1.0;
+
+  // Upper bound on geo candidates handed to the filter query (keeps the IN list bounded)
+  private static final int MAX_GEO_CANDIDATES = 2000;
+
+  // Bulk import: rows per upload, and events per transaction (a multiple of hibernate.jdbc.batch_size)
+  private static final int MAX_IMPORT_ROWS = 10_000;
+  private static final int IMPORT_BATCH_SIZE = 500;
+
   private final EventRepository eventRepository;
+  private final EventInventoryRepository eventInventoryRepository;
+  private final KafkaProducerService kafkaProducerService;
+  private final EventJsonCache eventJsonCache;
+  private final EventGeoIndex eventGeoIndex;
+  private final EventSuggestIndex eventSuggestIndex;
+  private final SearchQueryGovernor searchQueryGovernor;
+  private final TrendingEventsTracker trendingEventsTracker;
+  private final SeatMapService seatMapService;
+  private final EventTicketTierRepository eventTicketTierRepository;
+  private final EventPricingRuleRepository pricingRuleRepository;
+  private final DynamicPricingService dynamicPricingService;
+  private final PriceQuoteSigner priceQuoteSigner;
+  private final EventSeriesRepository eventSeriesRepository;
+  private final SeriesOccurrenceService seriesOccurrenceService;
+  private final AvailabilityStreamService availabilityStreamService;
+  private final Validator validator;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
 
   @Override
   public EventResponse createEvent(CreateEventRequest request, UUID organizerId) {
 
     // 1. Validate business rules
     validateEventDates(request.startDateTime(), request.endDateTime());
+    validateCoordinates(request.latitude(), request.longitude());
 
     // 2. Build Event entity from DTO
-    var event = Event.builder()
-        .title(request.title())
-        .description(request.description())
-        .category(request.category())
-        .imageUrl(request.imageUrl())
-        .startDateTime(request.startDateTime())
-        .endDateTime(request.endDateTime())
-        .venue(request.venue())
-        .address(request.address())
-        .city(request.city())
-        .capacity(request.capacity())
-        .availableTickets(request.capacity())
-        .price(request.price())
-        .status(EventStatus.DRAFT)
-        .organizerId(organizerId)
-        .build();
+    Event event = newEvent(request, organizerId);
 
     // 3. Save to database
     Event newEvent = eventRepository.save(event);
+    eventGeoIndex.index(newEvent);
+    // Let the other replicas index it too
+    kafkaProducerService.publishCacheInvalidation(newEvent.getId());
 
     // 4. Convert to DTO and return
-    return EventResponse.from(newEvent);
+    return toResponse(newEvent);
 
   }
 
+  @Override
+  public EventImportResponse importEvents(Iterator<EventImportRow> rows, UUID organizerId) {
+    List<EventImportError> errors = new ArrayList<>();
+    List<Event> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+    List<Integer> batchRows = new ArrayList<>(IMPORT_BATCH_SIZE);
+    int total = 0;
+    int imported = 0;
+
+    while (rows.hasNext()) {
+      if (total == MAX_IMPORT_ROWS) {
+        errors.add(new EventImportError(total + 1,
+            List.of("Imports are limited to " + MAX_IMPORT_ROWS + " rows; the rest of the upload was ignored")));
+        break;
+      }
+
+      // 1. Validate the row like a single create
+      EventImportRow row = rows.next();
+      total++;
+      List<String> rowErrors = validateImportRow(row);
+      if (!rowErrors.isEmpty()) {
+        errors.add(new EventImportError(row.row(), rowErrors));
+        continue;
+      }
+
+      // 2. Insert valid rows a batch at a time
+      batch.add(newEvent(row.request(), organizerId));
+      batchRows.add(row.row());
+      if (batch.size() == IMPORT_BATCH_SIZE) {
+        imported += insertBatch(batch, batchRows, errors);
+        batch.clear();
+        batchRows.clear();
+      }
+    }
+    imported += insertBatch(batch, batchRows, errors);
+
+    return new EventImportResponse(total, imported, total - imported, errors);
+  }
+
   @Override
   public EventResponse getEventById(UUID id) {
     Event event = eventRepository.findById(id).orElseThrow(
         () -> new NotFoundException(String.format("Event with id %s not found", id)));
 
-    return EventResponse.from(event);
+    if (Boolean.TRUE.equals(event.getTicketTiers())) {
+      return EventResponse.from(event, tierResponses(eventTicketTierRepository.findByEventIdOrderBySortOrder(id)));
+    }
+    return toResponse(event);
   }
 
   @Override
@@ -87,6 +207,11 @@ public class EventServiceImpl implements EventService {
       throw new UnauthorizedException("You are not authorized to update this event");
     }
 
+    // Compared after the update to tell bookers about cancellations and new dates
+    EventStatus previousStatus = event.getStatus();
+    LocalDateTime previousStart = event.getStartDateTime();
+    LocalDateTime previousEnd = event.getEndDateTime();
+
     // 3. Update basic fields if they are non-null & non-empty
     if (request.title() != null && !request.title().isBlank()) {
       event.setTitle(request.title());
@@ -138,71 +263,316 @@ public class EventServiceImpl implements EventService {
       event.setCity(request.city());
     }
 
+    if (request.latitude() != null || request.longitude() != null) {
+      validateCoordinates(request.latitude(), request.longitude());
+      event.setLatitude(request.latitude());
+      event.setLongitude(request.longitude());
+    }
+
     // 6. Capacity
+    boolean capacityChanged = false;
     if (request.capacity() != null) {
-      int ticketsSold = event.getCapacity() - event.getAvailableTickets();
-
-      // Prevent reducing capacity below tickets already sold
-      if (request.capacity() < ticketsSold) {
-        throw new ValidationException(
-            "Cannot reduce capacity to " + request.capacity() +
-                ". Already sold " + ticketsSold + " tickets");
+      if (Boolean.TRUE.equals(event.getReservedSeating()) && !request.capacity().equals(event.getCapacity())) {
+        throw new ValidationException("The capacity of a reserved seating event is set by its seat map");
       }
-
-      int diff = request.capacity() - event.getCapacity();
-      event.setCapacity(request.capacity());
-      event.setAvailableTickets(event.getAvailableTickets() + diff);
+      if (Boolean.TRUE.equals(event.getTicketTiers()) && !request.capacity().equals(event.getCapacity())) {
+        throw new ValidationException("The capacity of a tiered event is set by its ticket tiers");
+      }
+      capacityChanged = !request.capacity().equals(event.getCapacity());
     }
 
     // 7. Pricing
     if (request.price() != null) {
+      if (Boolean.TRUE.equals(event.getTicketTiers()) && request.price().compareTo(event.getPrice()) != 0) {
+        throw new ValidationException("Tiered events are priced per ticket tier");
+      }
+      pricingRuleRepository.findById(eventId).ifPresent(rule -> {
+        if (request.price().compareTo(rule.getMinPrice()) < 0 || request.price().compareTo(rule.getMaxPrice()) > 0) {
+          throw new ValidationException("The base price must lie between the dynamic pricing minimum and maximum");
+        }
+      });
       event.setPrice(request.price());
     }
 
-    // 8. Status
+    // 8. Per-user ticket limit
+    if (request.maxTicketsPerUser() != null) {
+      event.setMaxTicketsPerUser(request.maxTicketsPerUser());
+    }
+
+    // 9. Status
     if (request.status() != null) {
       event.setStatus(request.status());
     }
 
-    // 4. Save updated event
-    Event updatedEvent = eventRepository.save(event);
+    // 4. Save updated event; a capacity change moves the ticket count with it under the inventory row lock
+    Event updatedEvent = capacityChanged
+        ? transactionTemplate.execute(status -> resizeAndSave(event, request.capacity()))
+        : eventRepository.save(event);
+    onEventChanged(updatedEvent);
+    notifyBookers(updatedEvent, previousStatus, previousStart, previousEnd);
 
     // 5. Return DTO
-    return EventResponse.from(updatedEvent);
+    return toResponse(updatedEvent);
 
   }
 
   @Override
   public EventResponse updateAvailableTickets(UUID eventId, UpdateTicketsRequest ticketsToBook) {
+    // Both lookups are served from the second-level cache when warm
     Event event = eventRepository.findById(eventId)
         .orElseThrow(() -> new NotFoundException("Event not found"));
+    EventInventory inventory = eventInventoryRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found"));
+    event.setInventory(inventory);
+
+    if (Boolean.TRUE.equals(event.getTicketTiers())) {
+      return updateTierTickets(event, ticketsToBook);
+    }
+    if (ticketsToBook.tier() != null) {
+      throw new ValidationException("This event is not sold in ticket tiers");
+    }
+
+    // The count is read and written under the inventory row lock, never from the cache,
+    // so concurrent bookings on any replica can't overwrite each other's updates
+    int ticketsChange = ticketsToBook.ticketsToBook();
+    EventInventory updated = transactionTemplate.execute(status -> {
+      EventInventory locked = entityManager.find(EventInventory.class, eventId, LockModeType.PESSIMISTIC_WRITE);
+      int newAvailableTickets = locked.getAvailableTickets() - ticketsChange;
+
+      // Validate result is not negative
+      if (newAvailableTickets < 0) {
+        if (ticketsChange > 0) {
+          // Booking attempt
+          throw new InsufficientTicketsException(
+              String.format("Cannot book %d tickets. Only %d available.",
+                  ticketsChange, locked.getAvailableTickets()));
+        } else {
+          // Should never happen for returns, but just in case
+          throw new InsufficientTicketsException("Invalid ticket update operation");
+        }
+      }
 
-    // Calculate new ticket count
-    Integer ticketsChange = ticketsToBook.ticketsToBook();
-    Integer newAvailableTickets = event.getAvailableTickets() - ticketsChange;
-
-    // Validate result is not negative
-    if (newAvailableTickets < 0) {
-      if (ticketsChange > 0) {
-        // Booking attempt
-        throw new InsufficientTicketsException(
-            String.format("Cannot book %d tickets. Only %d available.",
-                ticketsChange, event.getAvailableTickets()));
-      } else {
-        // Should never happen for returns, but just in case
-        throw new InsufficientTicketsException("Invalid ticket update operation");
+      // Validate not exceeding total capacity when returning tickets
+      if (ticketsChange < 0 && newAvailableTickets > eventRepository.findCapacity(eventId).orElseThrow()) {
+        throw new InsufficientTicketsException("Cannot return more tickets than total capacity");
       }
+
+      // Update only the inventory row so the cached descriptive entry stays valid
+      locked.setAvailableTickets(newAvailableTickets);
+      return locked;
+    });
+
+    event.setInventory(updated);
+    onTicketsChanged(event, ticketsChange);
+    return toResponse(event);
+  }
+
+  @Override
+  public SeatMapResponse configureSeatMap(UUID eventId, SeatMapRequest request, UUID organizerId) {
+    Event event = eventRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found with id: " + eventId));
+
+    if (!event.getOrganizerId().equals(organizerId)) {
+      throw new UnauthorizedException("You are not authorized to update this event");
     }
 
-    // Validate not exceeding total capacity when returning tickets
-    if (newAvailableTickets > event.getCapacity()) {
-      throw new InsufficientTicketsException("Cannot return more tickets than total capacity");
+    if (Boolean.TRUE.equals(event.getTicketTiers())) {
+      throw new ValidationException("Reserved seating cannot be combined with ticket tiers");
     }
 
-    // Update
-    event.setAvailableTickets(newAvailableTickets);
-    Event updatedEvent = eventRepository.save(event);
-    return EventResponse.from(updatedEvent);
+    // Seat indexes are positions in the layout, so it cannot change under sold seats
+    if (!event.getAvailableTickets().equals(event.getCapacity())) {
+      throw new ValidationException("The seat map can only be changed before any tickets are sold");
+    }
+
+    long seats = request.sections().stream().mapToLong(section -> (long) section.rows() * section.seatsPerRow()).sum();
+    if (seats != event.getCapacity()) {
+      throw new ValidationException(String.format(
+          "The seat map has %d seats but the event capacity is %d", seats, event.getCapacity()));
+    }
+
+    seatMapService.saveLayout(eventId, request.sections());
+    if (!Boolean.TRUE.equals(event.getReservedSeating())) {
+      event.setReservedSeating(true);
+      event = eventRepository.save(event);
+      onEventChanged(event);
+    }
+
+    return seatMapService.getSeatMap(eventId);
+  }
+
+  @Override
+  public SeatMapResponse getSeatMap(UUID eventId) {
+    return seatMapService.getSeatMap(eventId);
+  }
+
+  @Override
+  public List<String> reserveSeats(UUID eventId, SeatReservationRequest request) {
+    Event event = eventRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found"));
+    if (!Boolean.TRUE.equals(event.getReservedSeating())) {
+      throw new ValidationException("This event has no reserved seating");
+    }
+
+    List<String> seats = seatMapService.reserve(eventId, request.numberOfTickets(), request.seats());
+    try {
+      updateAvailableTickets(eventId, new UpdateTicketsRequest(seats.size(), null));
+    } catch (RuntimeException e) {
+      // Keep the seat map and the ticket count in step; replicas that saw the claim reload the map
+      seatMapService.release(eventId, seats);
+      kafkaProducerService.publishCacheInvalidation(eventId);
+      throw e;
+    }
+    return seats;
+  }
+
+  @Override
+  public void releaseSeats(UUID eventId, SeatReleaseRequest request) {
+    // Seats first, then tickets, as in reserveSeats. Only seats that were actually taken are credited,
+    // so a repeated release or a wrong label can't raise the count above the seat map
+    List<String> released = seatMapService.release(eventId, request.seats());
+    if (released.isEmpty()) {
+      return;
+    }
+    try {
+      updateAvailableTickets(eventId, new UpdateTicketsRequest(-released.size(), null));
+    } catch (RuntimeException e) {
+      // Take the seats back so the map shows no more free seats than there are tickets
+      try {
+        seatMapService.reserve(eventId, released.size(), released);
+      } catch (RuntimeException retake) {
+        e.addSuppressed(retake);
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public List<TicketTierResponse> configureTicketTiers(UUID eventId, TicketTiersRequest request, UUID organizerId) {
+    Event event = eventRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found with id: " + eventId));
+
+    if (!event.getOrganizerId().equals(organizerId)) {
+      throw new UnauthorizedException("You are not authorized to update this event");
+    }
+
+    if (Boolean.TRUE.equals(event.getReservedSeating())) {
+      throw new ValidationException("Reserved seating cannot be combined with ticket tiers");
+    }
+    if (dynamicPricingService.isDynamic(eventId)) {
+      throw new ValidationException("Turn off dynamic pricing before setting ticket tiers");
+    }
+
+    Set<String> names = new HashSet<>();
+    List<EventTicketTier> tiers = new ArrayList<>(request.tiers().size());
+    int capacity = 0;
+    for (TicketTierRequest tier : request.tiers()) {
+      String name = tier.name().trim();
+      if (!names.add(name.toLowerCase(Locale.ROOT))) {
+        throw new ValidationException("Duplicate tier name: " + name);
+      }
+      capacity += tier.capacity();
+      tiers.add(EventTicketTier.builder()
+          .eventId(eventId)
+          .name(name)
+          .price(tier.price())
+          .capacity(tier.capacity())
+          .availableTickets(tier.capacity())
+          .sortOrder(tiers.size())
+          .build());
+    }
+    if (!tiers.isEmpty() && capacity != event.getCapacity()) {
+      throw new ValidationException(String.format(
+          "The tiers have %d tickets but the event capacity is %d", capacity, event.getCapacity()));
+    }
+    BigDecimal cheapest = cheapestAvailable(tiers);
+
+    List<EventTicketTier> saved = transactionTemplate.execute(status -> {
+      // The inventory row lock keeps bookings out while the tiers are replaced
+      EventInventory inventory = entityManager.find(EventInventory.class, eventId, LockModeType.PESSIMISTIC_WRITE);
+      if (!inventory.getAvailableTickets().equals(event.getCapacity())) {
+        throw new ValidationException("Ticket tiers can only be changed before any tickets are sold");
+      }
+
+      eventTicketTierRepository.deleteByEventId(eventId);
+      List<EventTicketTier> result = eventTicketTierRepository.saveAll(tiers);
+
+      inventory.setFromPrice(cheapest);
+      event.setInventory(inventory);
+      event.setTicketTiers(!tiers.isEmpty());
+      if (cheapest != null) {
+        event.setPrice(cheapest);
+      }
+      eventRepository.save(event);
+      return result;
+    });
+
+    onEventChanged(event);
+    return tierResponses(saved);
+  }
+
+  @Override
+  public EventResponse configureDynamicPricing(UUID eventId, DynamicPricingRequest request, UUID organizerId) {
+    Event event = eventRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found with id: " + eventId));
+
+    if (!event.getOrganizerId().equals(organizerId)) {
+      throw new UnauthorizedException("You are not authorized to update this event");
+    }
+
+    if (Boolean.TRUE.equals(event.getTicketTiers())) {
+      throw new ValidationException("Tiered events are priced per ticket tier");
+    }
+    if (request.minPrice().compareTo(event.getPrice()) > 0 || request.maxPrice().compareTo(event.getPrice()) < 0) {
+      throw new ValidationException("The base price must lie between the minimum and maximum price");
+    }
+
+    EventPricingRule rule = pricingRuleRepository.findById(eventId)
+        .orElseGet(() -> EventPricingRule.builder().eventId(eventId).build());
+    rule.setCurve(request.curve());
+    rule.setSensitivity(request.sensitivity());
+    rule.setMinPrice(request.minPrice());
+    rule.setMaxPrice(request.maxPrice());
+    dynamicPricingService.put(pricingRuleRepository.save(rule));
+
+    eventJsonCache.evict(eventId);
+    kafkaProducerService.publishPricingChanged(eventId);
+    return toResponse(event);
+  }
+
+  @Override
+  public void disableDynamicPricing(UUID eventId, UUID organizerId) {
+    Event event = eventRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found with id: " + eventId));
+
+    if (!event.getOrganizerId().equals(organizerId)) {
+      throw new UnauthorizedException("You are not authorized to update this event");
+    }
+
+    // Back to the base price
+    if (pricingRuleRepository.existsById(eventId)) {
+      pricingRuleRepository.deleteById(eventId);
+    }
+    dynamicPricingService.remove(eventId);
+
+    eventJsonCache.evict(eventId);
+    kafkaProducerService.publishPricingChanged(eventId);
+  }
+
+  @Override
+  public PriceQuoteResponse getPriceQuote(UUID eventId) {
+    Event event = eventRepository.findById(eventId)
+        .orElseThrow(() -> new NotFoundException("Event not found with id: " + eventId));
+
+    if (event.getStatus() != EventStatus.PUBLISHED) {
+      throw new ValidationException("Tickets for this event are not on sale");
+    }
+    if (Boolean.TRUE.equals(event.getTicketTiers())) {
+      throw new ValidationException("Tiered events are priced per ticket tier");
+    }
+
+    BigDecimal price = dynamicPricingService.currentPrice(eventId);
+    return priceQuoteSigner.quote(eventId, price != null ? price : event.getPrice());
   }
 
   @Override
@@ -217,14 +587,24 @@ public class EventServiceImpl implements EventService {
     }
 
     // 3. Set status to cancelled
+    EventStatus previousStatus = event.getStatus();
     event.setStatus(EventStatus.CANCELLED);
 
     // 4. Save event
     eventRepository.save(event);
+    onEventChanged(event);
+    notifyBookers(event, previousStatus, event.getStartDateTime(), event.getEndDateTime());
   }
 
   @Override
   public PagedResponse<EventResponse> searchEvents(EventSearchRequest searchRequest) {
+    // Only index-backed sort keys are accepted
+    EventSortField sortField = EventSortField.fromProperty(searchRequest.sortBy());
+
+    if (searchRequest.isProximitySearch()) {
+      return searchNearby(searchRequest);
+    }
+
     // 1. Build dynamic specification from search filters
     Specification<Event> spec = EventSpecification.buildSearchSpec(
         searchRequest.category(),
@@ -232,6 +612,7 @@ public class EventServiceImpl implements EventService {
         searchRequest.status(),
         searchRequest.titleKeyword(),
         searchRequest.startDateAfter(),
+        searchRequest.startDateBefore(),
         searchRequest.organizerId());
 
     // 2. Build Pageable with sorting
@@ -239,16 +620,26 @@ public class EventServiceImpl implements EventService {
         ? Sort.Direction.DESC
         : Sort.Direction.ASC;
 
+    // id breaks ties, matching the trailing column of the sort indexes
     Pageable pageable = PageRequest.of(
         searchRequest.page(),
         searchRequest.size(),
-        Sort.by(direction, searchRequest.sortBy()));
+        Sort.by(direction, sortField.getProperty(), "id"));
+
+    // 3. Reject searches the planner expects to be expensive, then query
+    SearchPlan plan = searchQueryGovernor.check(searchRequest, sortField, direction);
+    long started = System.nanoTime();
+    // Occurrences of recurring series that have no event row yet are expanded for the searched range
+    List<EventResponse> occurrences = seriesOccurrenceService.expand(searchRequest);
+    if (!occurrences.isEmpty()) {
+      return mergeOccurrences(spec, pageable, occurrences, plan, started);
+    }
 
-    // 3. Query
     Page<Event> eventPage = eventRepository.findAll(spec, pageable);
+    searchQueryGovernor.record(plan, System.nanoTime() - started);
 
     // 4. Convert and wrap
-    Page<EventResponse> responsePage = eventPage.map(EventResponse::from);
+    Page<EventResponse> responsePage = eventPage.map(this::toResponse);
 
     return PagedResponse.of(responsePage);
   }
@@ -265,7 +656,7 @@ public class EventServiceImpl implements EventService {
     Page<Event> eventPage = eventRepository.findAll(spec, pageable);
 
     // 4. Convert Event entities to EventResponse DTOs
-    Page<EventResponse> responsePage = eventPage.map(EventResponse::from);
+    Page<EventResponse> responsePage = eventPage.map(this::toResponse);
 
     //Same as this
     // Page<EventResponse> responsePage = eventPage.map(event -> EventResponse.from(event));
@@ -295,7 +686,7 @@ public class EventServiceImpl implements EventService {
     Page<Event> eventPage = eventRepository.findAll(spec, pageable);
 
     // 4. Convert Event entities to EventResponse DTOs
-    Page<EventResponse> responsePage = eventPage.map(EventResponse::from);
+    Page<EventResponse> responsePage = eventPage.map(this::toResponse);
 
     //Same as this
     // Page<EventResponse> responsePage = eventPage.map(event -> EventResponse.from(event));
@@ -324,6 +715,7 @@ public class EventServiceImpl implements EventService {
       throw new UnauthorizedException("You are not authorized to update this event");
     }
 
+    EventStatus previousStatus = event.getStatus();
     switch (event.getStatus()) {
       case DRAFT -> {
         if (newStatus == EventStatus.COMPLETED) {
@@ -355,8 +747,442 @@ public class EventServiceImpl implements EventService {
     }
 
     Event updatedEvent = eventRepository.save(event);
+    onEventChanged(updatedEvent);
+    notifyBookers(updatedEvent, previousStatus, updatedEvent.getStartDateTime(), updatedEvent.getEndDateTime());
+
+    return toResponse(updatedEvent);
+  }
+
+  @Override
+  public List<EventSuggestionResponse> suggestEvents(String prefix, int limit) {
+    return eventSuggestIndex.suggest(prefix, limit).stream()
+        .map(suggestion -> new EventSuggestionResponse(
+            suggestion.text(), suggestion.type(), suggestion.eventId(), suggestion.popularity()))
+        .toList();
+  }
+
+  @Override
+  public List<TrendingEventResponse> getTrendingEvents(int limit) {
+    // Over-fetch: some of the hottest events may have ended or been cancelled
+    List<TrendingEvent> trending = trendingEventsTracker.top(MAX_TRENDING * 2, MIN_TRENDING_PER_HOUR);
+    Map<UUID, Event> events = eventRepository.findAllById(trending.stream().map(TrendingEvent::eventId).toList())
+        .stream()
+        .collect(Collectors.toMap(Event::getId, event -> event));
+
+    LocalDateTime now = LocalDateTime.now();
+    return trending.stream()
+        .filter(entry -> {
+          Event event = events.get(entry.eventId());
+          return event != null && event.getStatus() == EventStatus.PUBLISHED && event.getEndDateTime().isAfter(now);
+        })
+        .limit(Math.min(limit, MAX_TRENDING))
+        .map(entry -> new TrendingEventResponse(toResponse(events.get(entry.eventId())),
+            entry.bookingsPerHour()))
+        .toList();
+  }
+
+  @Override
+  public EventSeriesResponse createSeries(CreateEventSeriesRequest request, UUID organizerId) {
+    // 1. Validate business rules
+    validateEventDates(request.firstStartDateTime(), request.firstEndDateTime());
+    validateCoordinates(request.latitude(), request.longitude());
+    if (request.untilDate() != null && request.untilDate().isBefore(request.firstStartDateTime().toLocalDate())) {
+      throw new ValidationException("Series end date must not be before the first occurrence");
+    }
+
+    // 2. Save the template and schedule; occurrences come later
+    EventSeries series = EventSeries.builder()
+        .title(request.title())
+        .description(request.description())
+        .category(request.category())
+        .imageUrl(request.imageUrl())
+        .venue(request.venue())
+        .address(request.address())
+        .city(request.city())
+        .latitude(request.latitude())
+        .longitude(request.longitude())
+        .capacity(request.capacity())
+        .price(request.price())
+        .maxTicketsPerUser(request.maxTicketsPerUser())
+        .frequency(request.frequency())
+        .repeatEvery(request.repeatEvery() != null ? request.repeatEvery() : 1)
+        .firstStartDateTime(request.firstStartDateTime())
+        .firstEndDateTime(request.firstEndDateTime())
+        .untilDate(request.untilDate())
+        .occurrenceCount(request.occurrenceCount())
+        .status(EventStatus.DRAFT)
+        .organizerId(organizerId)
+        .build();
+
+    return EventSeriesResponse.from(eventSeriesRepository.save(series));
+  }
+
+  @Override
+  public EventSeriesResponse getSeries(UUID seriesId) {
+    return EventSeriesResponse.from(findSeries(seriesId));
+  }
+
+  @Override
+  public EventSeriesResponse updateSeriesStatus(UUID seriesId, EventStatus newStatus, UUID organizerId) {
+    // 1. Find series and check ownership
+    EventSeries series = findSeries(seriesId);
+    if (!series.getOrganizerId().equals(organizerId)) {
+      throw new UnauthorizedException("You are not authorized to update this event series");
+    }
+
+    // 2. Only DRAFT -> PUBLISHED -> CANCELLED; occurrences complete on their own
+    if (series.getStatus() == EventStatus.CANCELLED) {
+      throw new ValidationException("This event series has already been cancelled");
+    }
+    if (newStatus != EventStatus.PUBLISHED && newStatus != EventStatus.CANCELLED) {
+      throw new ValidationException("An event series can only be published or cancelled");
+    }
+    if (series.getStatus() == newStatus) {
+      return EventSeriesResponse.from(series);
+    }
+
+    series.setStatus(newStatus);
+    EventSeries updated = eventSeriesRepository.save(series);
+
+    // 3. Bring the occurrences in line
+    if (newStatus == EventStatus.PUBLISHED) {
+      seriesOccurrenceService.materializeAhead(updated);
+    } else {
+      eventRepository.findBySeriesIdAndStartDateTimeAfter(seriesId, LocalDateTime.now()).stream()
+          .filter(event -> event.getStatus() == EventStatus.PUBLISHED || event.getStatus() == EventStatus.DRAFT)
+          .forEach(event -> deleteEvent(event.getId(), organizerId));
+    }
+
+    return EventSeriesResponse.from(updated);
+  }
+
+  @Override
+  public List<EventResponse> getSeriesOccurrences(UUID seriesId, LocalDateTime from, LocalDateTime to) {
+    EventSeries series = findSeries(seriesId);
+
+    LocalDateTime start = from != null ? from : LocalDateTime.now();
+    LocalDateTime horizon = start.plusDays(seriesOccurrenceService.getSearchHorizonDays());
+    LocalDateTime end = to != null && to.isBefore(horizon) ? to : horizon;
+
+    List<EventResponse> materialized = eventRepository
+        .findBySeriesIdAndStartDateTimeGreaterThanEqualAndStartDateTimeBefore(seriesId, start, end).stream()
+        .map(this::toResponse)
+        .toList();
+
+    return Stream.concat(materialized.stream(),
+            seriesOccurrenceService.unmaterialized(List.of(series), start, end).stream())
+        .sorted(Comparator.comparing(EventResponse::startDateTime))
+        .toList();
+  }
+
+  @Override
+  public EventResponse materializeOccurrence(UUID seriesId, int occurrenceIndex) {
+    EventSeries series = findSeries(seriesId);
+
+    if (series.getStatus() != EventStatus.PUBLISHED) {
+      throw new ValidationException("This event series is not open for booking");
+    }
+    if (!series.hasOccurrence(occurrenceIndex)) {
+      throw new NotFoundException(String.format("Event series %s has no occurrence %d", seriesId, occurrenceIndex));
+    }
+    if (!series.occurrenceStart(occurrenceIndex).isAfter(LocalDateTime.now())) {
+      throw new ValidationException("This occurrence has already started");
+    }
+
+    return toResponse(seriesOccurrenceService.materialize(series, occurrenceIndex));
+  }
+
+  /**
+   * Search page over events plus unmaterialized series occurrences.
+   * Both are in the requested order, so the page is cut from the first offset + size
+   * events merged with the occurrences; the search governor bounds the offset.
+   */
+  private PagedResponse<EventResponse> mergeOccurrences(Specification<Event> spec, Pageable pageable,
+      List<EventResponse> occurrences, SearchPlan plan, long started) {
+    int offset = (int) pageable.getOffset();
+    Page<Event> head = eventRepository.findAll(spec,
+        PageRequest.of(0, offset + pageable.getPageSize(), pageable.getSort()));
+    searchQueryGovernor.record(plan, System.nanoTime() - started);
+
+    Sort.Order order = pageable.getSort().iterator().next();
+    Comparator<EventResponse> comparator = switch (EventSortField.fromProperty(order.getProperty())) {
+      case START_DATE_TIME -> Comparator.comparing(EventResponse::startDateTime);
+      case PRICE -> Comparator.comparing(EventResponse::price);
+      case CREATED_AT -> Comparator.comparing(EventResponse::createdAt);
+    };
+    if (order.isDescending()) {
+      comparator = comparator.reversed();
+    }
+
+    // Stable sort: events keep their database order among equal keys
+    List<EventResponse> merged = Stream.concat(head.getContent().stream().map(this::toResponse), occurrences.stream())
+        .sorted(comparator)
+        .toList();
+
+    int from = Math.min(offset, merged.size());
+    int to = Math.min(from + pageable.getPageSize(), merged.size());
+
+    return PagedResponse.of(new PageImpl<>(merged.subList(from, to), pageable,
+        head.getTotalElements() + occurrences.size()));
+  }
+
+  private EventSeries findSeries(UUID seriesId) {
+    return eventSeriesRepository.findById(seriesId).orElseThrow(
+        () -> new NotFoundException(String.format("Event series with id %s not found", seriesId)));
+  }
+
+  /**
+   * Proximity search over upcoming published events: candidates come from the
+   * in-memory geo index (nearest first), the remaining filters are applied in the
+   * database on that ID set only, and the result is ordered by distance and paged in memory.
+   */
+  private PagedResponse<EventResponse> searchNearby(EventSearchRequest searchRequest) {
+    validateCoordinates(searchRequest.nearLatitude(), searchRequest.nearLongitude());
+
+    Pageable pageable = PageRequest.of(searchRequest.page(), searchRequest.size());
+    // The geo index only holds published events
+    if (searchRequest.status() != null && searchRequest.status() != EventStatus.PUBLISHED) {
+      return PagedResponse.of(Page.<EventResponse>empty(pageable));
+    }
+
+    List<GeoMatch> matches = eventGeoIndex.findWithin(
+        searchRequest.nearLatitude(),
+        searchRequest.nearLongitude(),
+        searchRequest.radiusKm(),
+        MAX_GEO_CANDIDATES);
+
+    if (matches.isEmpty()) {
+      return PagedResponse.of(Page.<EventResponse>empty(pageable));
+    }
+
+    Map<UUID, Double> distances = matches.stream()
+        .collect(Collectors.toMap(GeoMatch::eventId, GeoMatch::distanceKm));
+
+    Specification<Event> spec = EventSpecification.buildSearchSpec(
+        searchRequest.category(),
+        searchRequest.city(),
+        EventStatus.PUBLISHED,
+        searchRequest.titleKeyword(),
+        searchRequest.startDateAfter(),
+        searchRequest.startDateBefore(),
+        searchRequest.organizerId())
+        .and(EventSpecification.idIn(distances.keySet()));
+
+    List<EventResponse> nearby = eventRepository.findAll(spec).stream()
+        .map(event -> toResponse(event).withDistance(distances.get(event.getId())))
+        .sorted(Comparator.comparingDouble(EventResponse::distanceKm))
+        .toList();
+
+    int from = (int) Math.min(pageable.getOffset(), nearby.size());
+    int to = Math.min(from + pageable.getPageSize(), nearby.size());
+
+    return PagedResponse.of(new PageImpl<>(nearby.subList(from, to), pageable, nearby.size()));
+  }
+
+  // New DRAFT event with all tickets available
+  private Event newEvent(CreateEventRequest request, UUID organizerId) {
+    return Event.builder()
+        .title(request.title())
+        .description(request.description())
+        .category(request.category())
+        .imageUrl(request.imageUrl())
+        .startDateTime(request.startDateTime())
+        .endDateTime(request.endDateTime())
+        .venue(request.venue())
+        .address(request.address())
+        .city(request.city())
+        .latitude(request.latitude())
+        .longitude(request.longitude())
+        .capacity(request.capacity())
+        .availableTickets(request.capacity())
+        .price(request.price())
+        .maxTicketsPerUser(request.maxTicketsPerUser())
+        .status(EventStatus.DRAFT)
+        .organizerId(organizerId)
+        .build();
+  }
+
+  // Bean validation plus the createEvent business rules
+  private List<String> validateImportRow(EventImportRow row) {
+    if (row.error() != null) {
+      return List.of(row.error());
+    }
+    if (row.request() == null) {
+      return List.of("Row is empty");
+    }
+
+    List<String> errors = validator.validate(row.request()).stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.toCollection(ArrayList::new));
+
+    if (errors.isEmpty()) {
+      try {
+        validateEventDates(row.request().startDateTime(), row.request().endDateTime());
+        validateCoordinates(row.request().latitude(), row.request().longitude());
+      } catch (ValidationException e) {
+        errors.add(e.getMessage());
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Insert one batch in its own transaction.
+   * Ids are generated in memory (UuidV7Generator), so Hibernate can group the
+   * inserts into JDBC batches of hibernate.jdbc.batch_size at flush.
+   * When the batch fails, its rows are retried one by one so only the failing rows are reported.
+   * Imported events are drafts: no replica has them cached or indexed, so nothing is announced.
+   */
+  private int insertBatch(List<Event> batch, List<Integer> batchRows, List<EventImportError> errors) {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      insertInTransaction(batch);
+      return batch.size();
+    } catch (DataAccessException | TransactionException e) {
+      // Find the failing rows below
+    }
+
+    int inserted = 0;
+    for (int i = 0; i < batch.size(); i++) {
+      Event event = batch.get(i);
+      // The rolled-back batch left its generated id behind
+      event.setId(null);
+      try {
+        insertInTransaction(List.of(event));
+        inserted++;
+      } catch (DataAccessException | TransactionException e) {
+        errors.add(new EventImportError(batchRows.get(i), List.of("Could not be saved")));
+      }
+    }
+    return inserted;
+  }
+
+  private void insertInTransaction(List<Event> events) {
+    transactionTemplate.executeWithoutResult(status -> {
+      // Fresh drafts are rarely read right away; don't flood the second-level cache with them
+      entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+      eventRepository.saveAll(events);
+    });
+  }
+
+  // Latitude and longitude must be given together and be in range
+  private void validateCoordinates(Double latitude, Double longitude) {
+    if (latitude == null && longitude == null) {
+      return;
+    }
+    if (latitude == null || longitude == null) {
+      throw new ValidationException("Latitude and longitude must be provided together");
+    }
+    if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+      throw new ValidationException("Coordinates are out of range");
+    }
+  }
+
+  // Runs in a transaction: sold tickets are counted from the locked row, not the cached one
+  private Event resizeAndSave(Event event, int capacity) {
+    EventInventory inventory = entityManager.find(EventInventory.class, event.getId(), LockModeType.PESSIMISTIC_WRITE);
+    int currentCapacity = eventRepository.findCapacity(event.getId()).orElseThrow();
+    int ticketsSold = currentCapacity - inventory.getAvailableTickets();
+
+    // Prevent reducing capacity below tickets already sold
+    if (capacity < ticketsSold) {
+      throw new ValidationException(
+          "Cannot reduce capacity to " + capacity +
+              ". Already sold " + ticketsSold + " tickets");
+    }
+
+    inventory.setAvailableTickets(inventory.getAvailableTickets() + capacity - currentCapacity);
+    event.setInventory(inventory);
+    event.setCapacity(capacity);
+    return eventRepository.save(event);
+  }
+
+  // Tiered events: the tier row changes through a conditional update, then the event total
+  // (the sum over its tiers) and the cheapest available tier are rewritten under the inventory row lock
+  private EventResponse updateTierTickets(Event event, UpdateTicketsRequest request) {
+    String tierName = request.tier();
+    int ticketsChange = request.ticketsToBook();
+    if (tierName == null || tierName.isBlank()) {
+      throw new ValidationException("This event is sold in ticket tiers; a tier is required");
+    }
+
+    List<EventTicketTier> tiers = transactionTemplate.execute(status -> {
+      EventInventory inventory = entityManager.find(EventInventory.class, event.getId(), LockModeType.PESSIMISTIC_WRITE);
+      if (eventTicketTierRepository.adjustAvailableTickets(event.getId(), tierName, ticketsChange) == 0) {
+        if (!eventTicketTierRepository.existsByEventIdAndNameIgnoreCase(event.getId(), tierName)) {
+          throw new NotFoundException("Ticket tier not found: " + tierName);
+        }
+        throw new InsufficientTicketsException(ticketsChange > 0
+            ? String.format("Cannot book %d tickets. Not enough left in tier '%s'.", ticketsChange, tierName)
+            : "Cannot return more tickets than the tier capacity");
+      }
+
+      List<EventTicketTier> current = eventTicketTierRepository.findByEventIdOrderBySortOrder(event.getId());
+      inventory.setAvailableTickets(current.stream().mapToInt(EventTicketTier::getAvailableTickets).sum());
+      inventory.setFromPrice(cheapestAvailable(current));
+      event.setInventory(inventory);
+      return current;
+    });
+
+    onTicketsChanged(event, ticketsChange);
+    return EventResponse.from(event, tierResponses(tiers));
+  }
+
+  private static BigDecimal cheapestAvailable(List<EventTicketTier> tiers) {
+    return tiers.stream()
+        .filter(tier -> tier.getAvailableTickets() > 0)
+        .map(EventTicketTier::getPrice)
+        .min(Comparator.naturalOrder())
+        .orElse(null);
+  }
+
+  private static List<TicketTierResponse> tierResponses(List<EventTicketTier> tiers) {
+    return tiers.stream().map(TicketTierResponse::from).toList();
+  }
+
+  // Drop cached copies of a changed event here and on the other replicas
+  private void onEventChanged(Event event) {
+    eventJsonCache.evict(event.getId());
+    // Moved, published, cancelled or rescheduled events enter or leave proximity search
+    eventGeoIndex.index(event);
+    // Status, texts or tickets sold may have moved its suggestions
+    eventSuggestIndex.update(event);
+    kafkaProducerService.publishCacheInvalidation(event.getId());
+  }
+
+  // Ticket updates also feed the demand price, here and on the other replicas
+  private void onTicketsChanged(Event event, int ticketsChange) {
+    eventJsonCache.evict(event.getId());
+    eventSuggestIndex.ticketsChanged(event.getId(), ticketsChange);
+    dynamicPricingService.recordReservation(event.getId(), ticketsChange);
+    kafkaProducerService.publishTicketsChanged(event.getId(), ticketsChange);
+    availabilityStreamService.changed(event.getId());
+  }
+
+  // Response at the live price when the event is dynamically priced
+  private EventResponse toResponse(Event event) {
+    return dynamicPricingService.priced(EventResponse.from(event));
+  }
+
+  // Booking Service cancels or notifies every booking of the event
+  private void notifyBookers(Event event, EventStatus previousStatus, LocalDateTime previousStart,
+      LocalDateTime previousEnd) {
+    EventChangeType changeType;
+    if (event.getStatus() == EventStatus.CANCELLED && previousStatus != EventStatus.CANCELLED) {
+      changeType = EventChangeType.CANCELLED;
+    } else if (event.getStatus() == EventStatus.PUBLISHED
+        && (!event.getStartDateTime().equals(previousStart) || !event.getEndDateTime().equals(previousEnd))) {
+      changeType = EventChangeType.RESCHEDULED;
+    } else {
+      return;
+    }
 
-    return EventResponse.from(updatedEvent);
+    kafkaProducerService.publishEventChanged(new EventChangedEvent(event.getId(), changeType, event.getTitle(),
+        event.getVenue(), event.getStartDateTime(), event.getEndDateTime(), previousStart));
   }
 
   // Helper method for validation
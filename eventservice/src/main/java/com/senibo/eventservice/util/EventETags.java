@@ -0,0 +1,47 @@
+package com.senibo.eventservice.util;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+
+import com.senibo.eventservice.dto.EventResponse;
+import com.senibo.eventservice.dto.PagedResponse;
+
+/**
+ * Builds strong ETags for event responses.
+ * updatedAt only moves when the descriptive fields change, so the ticket count
+ * (owned by EventInventory) and the price (moved by dynamic pricing) are folded
+ * into the fingerprint as well.
+ */
+public class EventETags {
+
+  // ETag for a single event
+  public static String forEvent(EventResponse event) {
+    return quote(DigestUtils.md5DigestAsHex(fingerprint(event).getBytes(StandardCharsets.UTF_8)));
+  }
+
+  // Combined ETag for a page of events (changes if any item or the paging changes)
+  public static String forPage(PagedResponse<EventResponse> page) {
+    StringBuilder sb = new StringBuilder()
+        .append(page.pageNumber()).append('/')
+        .append(page.pageSize()).append('/')
+        .append(page.totalElements());
+
+    for (EventResponse event : page.content()) {
+      sb.append('|').append(fingerprint(event));
+    }
+
+    return quote(DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)));
+  }
+
+  // Occurrences not materialized yet have no id; their series and position identify them
+  private static String fingerprint(EventResponse event) {
+    String key = event.id() != null ? event.id().toString() : event.seriesId() + "#" + event.occurrenceIndex();
+    return key + ":" + event.updatedAt() + ":" + event.availableTickets() + ":" + event.price()
+        + ":" + event.status();
+  }
+
+  private static String quote(String value) {
+    return "\"" + value + "\"";
+  }
+}
@@ -0,0 +1,242 @@
+package com.senibo.eventservice.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.senibo.eventservice.dto.CreateEventRequest;
+import com.senibo.eventservice.dto.EventImportRow;
+import com.senibo.eventservice.enums.EventCategory;
+import com.senibo.eventservice.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Reads bulk import uploads one row at a time, so an upload is never held in memory.
+ * A row that cannot be parsed is returned as a failed EventImportRow and reading
+ * continues with the next one.
+ */
+public class EventImportReader {
+
+  // CSV header names, matching the (snake_case) CreateEventRequest JSON fields
+  private static final List<String> CSV_COLUMNS = List.of(
+      "title", "description", "category", "image_url", "start_date_time", "end_date_time",
+      "venue", "address", "city", "latitude", "longitude", "capacity", "price", "max_tickets_per_user");
+
+  // JSON array of CreateEventRequest objects
+  public static Iterator<EventImportRow> fromJson(InputStream body, ObjectMapper objectMapper) {
+    MappingIterator<CreateEventRequest> values;
+    try {
+      values = objectMapper.readerFor(CreateEventRequest.class).readValues(body);
+    } catch (IOException e) {
+      throw new ValidationException("Import body is not a JSON array of events");
+    }
+
+    return new Iterator<>() {
+      private int row = 0;
+
+      @Override
+      public boolean hasNext() {
+        try {
+          return values.hasNextValue();
+        } catch (JsonProcessingException e) {
+          // Broken JSON syntax: nothing after this point can be trusted
+          throw new ValidationException("Malformed JSON after row " + row + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public EventImportRow next() {
+        row++;
+        try {
+          return EventImportRow.parsed(row, values.nextValue());
+        } catch (JsonMappingException e) {
+          // Wrong type or unknown enum value; the iterator skips to the next element
+          return EventImportRow.failed(row, e.getOriginalMessage());
+        } catch (JsonProcessingException e) {
+          throw new ValidationException("Malformed JSON at row " + row + ": " + e.getOriginalMessage());
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    };
+  }
+
+  // RFC 4180 CSV with a header row naming CSV_COLUMNS (any order, unknown columns ignored)
+  public static Iterator<EventImportRow> fromCsv(InputStream body) {
+    CsvRecords records = new CsvRecords(new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+
+    List<String> header = records.hasNext() ? records.next() : List.of();
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      // Spreadsheet exports often start with a byte order mark
+      columns.put(header.get(i).replace("\uFEFF", "").strip(), i);
+    }
+    if (!columns.containsKey("title")) {
+      throw new ValidationException("CSV header must name the columns: " + String.join(",", CSV_COLUMNS));
+    }
+
+    return new Iterator<>() {
+      private int row = 0;
+
+      @Override
+      public boolean hasNext() {
+        return records.hasNext();
+      }
+
+      @Override
+      public EventImportRow next() {
+        List<String> fields = records.next();
+        row++;
+        try {
+          return EventImportRow.parsed(row, toRequest(fields, columns));
+        } catch (RuntimeException e) {
+          return EventImportRow.failed(row, e.getMessage());
+        }
+      }
+    };
+  }
+
+  private static CreateEventRequest toRequest(List<String> fields, Map<String, Integer> columns) {
+    return new CreateEventRequest(
+        text(fields, columns, "title"),
+        text(fields, columns, "description"),
+        parse(fields, columns, "category", value -> EventCategory.valueOf(value.toUpperCase())),
+        text(fields, columns, "image_url"),
+        parse(fields, columns, "start_date_time", LocalDateTime::parse),
+        parse(fields, columns, "end_date_time", LocalDateTime::parse),
+        text(fields, columns, "venue"),
+        text(fields, columns, "address"),
+        text(fields, columns, "city"),
+        parse(fields, columns, "latitude", Double::valueOf),
+        parse(fields, columns, "longitude", Double::valueOf),
+        parse(fields, columns, "capacity", Integer::valueOf),
+        parse(fields, columns, "price", BigDecimal::new),
+        parse(fields, columns, "max_tickets_per_user", Integer::valueOf));
+  }
+
+  // Missing column or empty cell reads as null
+  private static String text(List<String> fields, Map<String, Integer> columns, String column) {
+    Integer index = columns.get(column);
+    if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+      return null;
+    }
+    return fields.get(index).strip();
+  }
+
+  private static <T> T parse(List<String> fields, Map<String, Integer> columns, String column,
+      Function<String, T> parser) {
+    String value = text(fields, columns, column);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return parser.apply(value);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException(String.format("%s: invalid value '%s'", column, value));
+    }
+  }
+
+  /**
+   * Minimal streaming RFC 4180 record reader (quoted fields may contain commas,
+   * doubled quotes and line breaks). Blank lines are skipped.
+   */
+  private static final class CsvRecords implements Iterator<List<String>> {
+
+    private final Reader reader;
+    private List<String> nextRecord;
+
+    CsvRecords(Reader reader) {
+      this.reader = reader;
+      this.nextRecord = read();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextRecord != null;
+    }
+
+    @Override
+    public List<String> next() {
+      if (nextRecord == null) {
+        throw new NoSuchElementException();
+      }
+      List<String> current = nextRecord;
+      nextRecord = read();
+      return current;
+    }
+
+    private List<String> read() {
+      try {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+          any = true;
+          if (quoted) {
+            if (c == '"') {
+              reader.mark(1);
+              if (reader.read() == '"') {
+                field.append('"');
+              } else {
+                reader.reset();
+                quoted = false;
+              }
+            } else {
+              field.append((char) c);
+            }
+          } else if (c == '"') {
+            quoted = true;
+          } else if (c == ',') {
+            fields.add(field.toString());
+            field.setLength(0);
+          } else if (c == '\n' || c == '\r') {
+            if (c == '\r') {
+              reader.mark(1);
+              if (reader.read() != '\n') {
+                reader.reset();
+              }
+            }
+            if (fields.isEmpty() && field.isEmpty()) {
+              // Blank line
+              any = false;
+              continue;
+            }
+            fields.add(field.toString());
+            return fields;
+          } else {
+            field.append((char) c);
+          }
+        }
+
+        if (!any) {
+          return null;
+        }
+        fields.add(field.toString());
+        return fields;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
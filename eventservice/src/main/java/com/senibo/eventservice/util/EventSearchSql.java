@@ -0,0 +1,49 @@
+package com.senibo.eventservice.util;
+
+import com.senibo.eventservice.dto.EventSearchRequest;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Native SQL form of the search filters in EventSpecification.buildSearchSpec,
+ * for code that reads the events table (alias "e") through JDBC.
+ */
+public class EventSearchSql {
+
+  // Append an " AND ..." condition for every filter set on the request, collecting bind values
+  public static void appendFilters(StringBuilder sql, EventSearchRequest request, List<Object> args) {
+    if (request.category() != null) {
+      sql.append(" AND e.category = ?");
+      args.add(request.category().name());
+    }
+    if (hasText(request.city())) {
+      sql.append(" AND e.city = ?");
+      args.add(request.city());
+    }
+    if (request.status() != null) {
+      sql.append(" AND e.status = ?");
+      args.add(request.status().name());
+    }
+    if (hasText(request.titleKeyword())) {
+      sql.append(" AND lower(e.title) LIKE ?");
+      args.add("%" + request.titleKeyword().toLowerCase() + "%");
+    }
+    if (request.startDateAfter() != null) {
+      sql.append(" AND e.start_date_time >= ?");
+      args.add(Timestamp.valueOf(request.startDateAfter()));
+    }
+    if (request.startDateBefore() != null) {
+      sql.append(" AND e.start_date_time < ?");
+      args.add(Timestamp.valueOf(request.startDateBefore()));
+    }
+    if (request.organizerId() != null) {
+      sql.append(" AND e.organizer_id = ?");
+      args.add(request.organizerId());
+    }
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+}
@@ -6,6 +6,7 @@ import com.senibo.eventservice.enums.EventStatus;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 public class EventSpecification {
@@ -62,6 +63,16 @@ public class EventSpecification {
     };
   }
 
+  // Filter by start date before
+  public static Specification<Event> startDateBefore(LocalDateTime date) {
+    return (root, query, criteriaBuilder) -> {
+      if (date == null) {
+        return null;
+      }
+      return criteriaBuilder.lessThan(root.get("startDateTime"), date);
+    };
+  }
+
   // Filter by organizer
   public static Specification<Event> hasOrganizer(UUID organizerId) {
     return (root, query, criteriaBuilder) -> {
@@ -72,6 +83,16 @@ public class EventSpecification {
     };
   }
 
+  // Restrict to a set of IDs (e.g. candidates from the geo index)
+  public static Specification<Event> idIn(Collection<UUID> ids) {
+    return (root, query, criteriaBuilder) -> {
+      if (ids == null) {
+        return null;
+      }
+      return root.get("id").in(ids);
+    };
+  }
+
   // Combine multiple filters (you'll use this in service)
   public static Specification<Event> buildSearchSpec(
       EventCategory category,
@@ -79,6 +100,7 @@ public class EventSpecification {
       EventStatus status,
       String titleKeyword,
       LocalDateTime startDateAfter,
+      LocalDateTime startDateBefore,
       UUID organizerId) {
     return Specification
         .allOf(
@@ -87,6 +109,7 @@ public class EventSpecification {
             hasStatus(status),
             titleContains(titleKeyword),
             startDateAfter(startDateAfter),
+            startDateBefore(startDateBefore),
             hasOrganizer(organizerId));
   }
 }
@@ -0,0 +1,211 @@
+package com.senibo.eventservice.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free occupancy bitset of a seat map: one bit per seat in layout order,
+ * set = taken. The byte form (seat i is bit i % 8 of byte i / 8) is what
+ * event_seat_maps.occupancy stores, and matches java.util.BitSet.valueOf.
+ * A multi-seat claim CASes each 64-seat word it touches in ascending order and
+ * undoes the words already taken if a later one conflicts, so a claim either
+ * takes every seat or none; an adjacent block spans at most two words.
+ */
+public final class SeatOccupancy {
+
+  private final int size;
+  private final AtomicLongArray words;
+
+  public SeatOccupancy(int size, byte[] bits) {
+    this.size = size;
+    this.words = new AtomicLongArray((size + 63) >>> 6);
+
+    ByteBuffer buffer = ByteBuffer.wrap(bits).order(ByteOrder.LITTLE_ENDIAN);
+    for (int w = 0; w < words.length() && buffer.hasRemaining(); w++) {
+      words.set(w, buffer.remaining() >= Long.BYTES ? buffer.getLong() : tail(buffer));
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Takes all of the given seats (sorted ascending), or none of them when any is already taken.
+   */
+  public boolean claim(int[] seats) {
+    int[] wordIndexes = new int[seats.length];
+    long[] masks = new long[seats.length];
+    int count = toMasks(seats, wordIndexes, masks);
+
+    for (int i = 0; i < count; i++) {
+      if (!setWord(wordIndexes[i], masks[i])) {
+        for (int j = 0; j < i; j++) {
+          clearWord(wordIndexes[j], masks[j]);
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public void release(int[] seats) {
+    int[] wordIndexes = new int[seats.length];
+    long[] masks = new long[seats.length];
+    int count = toMasks(seats, wordIndexes, masks);
+    for (int i = 0; i < count; i++) {
+      clearWord(wordIndexes[i], masks[i]);
+    }
+  }
+
+  // Marks seats taken elsewhere (committed by another replica); never frees a seat
+  public void markTaken(byte[] committed) {
+    SeatOccupancy other = new SeatOccupancy(size, committed);
+    for (int w = 0; w < words.length(); w++) {
+      long mask = other.words.get(w);
+      if (mask != 0) {
+        words.getAndAccumulate(w, mask, (current, bits) -> current | bits);
+      }
+    }
+  }
+
+  public boolean isTaken(int seat) {
+    return (words.get(seat >>> 6) & (1L << seat)) != 0;
+  }
+
+  public int freeCount() {
+    int taken = 0;
+    for (int w = 0; w < words.length(); w++) {
+      taken += Long.bitCount(words.get(w));
+    }
+    return size - taken;
+  }
+
+  /**
+   * Start of the free block of `count` seats in [from, to) whose middle is nearest
+   * the middle of the range (the row), or -1 when no such block exists.
+   */
+  public int bestBlock(int from, int to, int count) {
+    double center = (from + to) / 2.0;
+    int best = -1;
+    double bestDistance = Double.MAX_VALUE;
+
+    int position = from;
+    while (position + count <= to) {
+      int gapStart = nextFree(position, to);
+      if (gapStart < 0 || gapStart + count > to) {
+        break;
+      }
+      int gapEnd = nextTaken(gapStart, to);
+      if (gapEnd < 0) {
+        gapEnd = to;
+      }
+
+      if (gapEnd - gapStart >= count) {
+        // Slide the block inside the gap as close to the middle as it goes
+        int start = (int) Math.round(center - count / 2.0);
+        start = Math.max(gapStart, Math.min(start, gapEnd - count));
+        double distance = Math.abs(start + count / 2.0 - center);
+        if (distance < bestDistance) {
+          best = start;
+          bestDistance = distance;
+        }
+      }
+      position = gapEnd + 1;
+    }
+    return best;
+  }
+
+  public byte[] toBytes() {
+    ByteBuffer buffer = ByteBuffer.allocate(words.length() * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (int w = 0; w < words.length(); w++) {
+      buffer.putLong(words.get(w));
+    }
+    byte[] bytes = new byte[(size + 7) >>> 3];
+    System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  // First free seat in [from, to), or -1
+  private int nextFree(int from, int to) {
+    int w = from >>> 6;
+    long free = ~words.get(w) & (-1L << from);
+    while (true) {
+      if (free != 0) {
+        int seat = (w << 6) + Long.numberOfTrailingZeros(free);
+        return seat < to ? seat : -1;
+      }
+      if (++w << 6 >= to) {
+        return -1;
+      }
+      free = ~words.get(w);
+    }
+  }
+
+  // First taken seat in [from, to), or -1
+  private int nextTaken(int from, int to) {
+    int w = from >>> 6;
+    long taken = words.get(w) & (-1L << from);
+    while (true) {
+      if (taken != 0) {
+        int seat = (w << 6) + Long.numberOfTrailingZeros(taken);
+        return seat < to ? seat : -1;
+      }
+      if (++w << 6 >= to) {
+        return -1;
+      }
+      taken = words.get(w);
+    }
+  }
+
+  private boolean setWord(int w, long mask) {
+    while (true) {
+      long current = words.get(w);
+      if ((current & mask) != 0) {
+        return false;
+      }
+      if (words.compareAndSet(w, current, current | mask)) {
+        return true;
+      }
+    }
+  }
+
+  private void clearWord(int w, long mask) {
+    while (true) {
+      long current = words.get(w);
+      if (words.compareAndSet(w, current, current & ~mask)) {
+        return;
+      }
+    }
+  }
+
+  // Groups sorted seats into one mask per word; returns the number of words
+  private int toMasks(int[] seats, int[] wordIndexes, long[] masks) {
+    int count = 0;
+    int i = 0;
+    while (i < seats.length) {
+      if (seats[i] < 0 || seats[i] >= size) {
+        throw new IllegalArgumentException("Seat index out of range: " + seats[i]);
+      }
+      int w = seats[i] >>> 6;
+      long mask = 0;
+      while (i < seats.length && seats[i] >>> 6 == w) {
+        mask |= 1L << seats[i];
+        i++;
+      }
+      wordIndexes[count] = w;
+      masks[count] = mask;
+      count++;
+    }
+    return count;
+  }
+
+  private static long tail(ByteBuffer buffer) {
+    long word = 0;
+    for (int shift = 0; buffer.hasRemaining(); shift += 8) {
+      word |= (buffer.get() & 0xFFL) << shift;
+    }
+    return word;
+  }
+}
@@ -0,0 +1,99 @@
+package com.senibo.eventservice.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+class SeatOccupancyTest {
+
+  @Test
+  void claimTakesEverySeatOrNone() {
+    SeatOccupancy occupancy = new SeatOccupancy(200, new byte[25]);
+
+    // 62..65 spans the first two words; 65 is taken, so 62..64 must stay free
+    assertThat(occupancy.claim(new int[] { 65 })).isTrue();
+    assertThat(occupancy.claim(new int[] { 62, 63, 64, 65 })).isFalse();
+    assertThat(occupancy.isTaken(62)).isFalse();
+    assertThat(occupancy.isTaken(63)).isFalse();
+    assertThat(occupancy.isTaken(64)).isFalse();
+    assertThat(occupancy.freeCount()).isEqualTo(199);
+
+    assertThat(occupancy.claim(new int[] { 62, 63, 64 })).isTrue();
+    assertThat(occupancy.freeCount()).isEqualTo(196);
+  }
+
+  @Test
+  void releaseFreesOnlyTheGivenSeats() {
+    SeatOccupancy occupancy = new SeatOccupancy(100, new byte[13]);
+    occupancy.claim(new int[] { 1, 2, 3, 70 });
+
+    occupancy.release(new int[] { 2, 70 });
+
+    assertThat(occupancy.isTaken(1)).isTrue();
+    assertThat(occupancy.isTaken(2)).isFalse();
+    assertThat(occupancy.isTaken(3)).isTrue();
+    assertThat(occupancy.isTaken(70)).isFalse();
+    assertThat(occupancy.claim(new int[] { 2, 70 })).isTrue();
+  }
+
+  @Test
+  void seatOutsideTheMapIsRejected() {
+    SeatOccupancy occupancy = new SeatOccupancy(10, new byte[2]);
+
+    assertThatThrownBy(() -> occupancy.claim(new int[] { 10 })).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> occupancy.claim(new int[] { -1 })).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void bytesRoundTripInBitSetLayout() {
+    BitSet taken = new BitSet();
+    taken.set(0);
+    taken.set(9);
+    taken.set(63);
+    taken.set(64);
+    taken.set(130);
+    byte[] stored = Arrays.copyOf(taken.toByteArray(), (131 + 7) / 8);
+
+    SeatOccupancy occupancy = new SeatOccupancy(131, stored);
+
+    assertThat(occupancy.freeCount()).isEqualTo(126);
+    assertThat(occupancy.isTaken(9)).isTrue();
+    assertThat(occupancy.isTaken(10)).isFalse();
+    assertThat(occupancy.isTaken(130)).isTrue();
+    assertThat(occupancy.toBytes()).isEqualTo(stored);
+  }
+
+  @Test
+  void markTakenAddsSeatsButNeverFreesOne() {
+    SeatOccupancy occupancy = new SeatOccupancy(16, new byte[2]);
+    occupancy.claim(new int[] { 1 });
+
+    BitSet committed = new BitSet();
+    committed.set(5);
+    committed.set(12);
+    occupancy.markTaken(committed.toByteArray());
+
+    assertThat(occupancy.isTaken(1)).isTrue();
+    assertThat(occupancy.isTaken(5)).isTrue();
+    assertThat(occupancy.isTaken(12)).isTrue();
+    assertThat(occupancy.freeCount()).isEqualTo(13);
+  }
+
+  @Test
+  void bestBlockIsTheFreeBlockNearestTheMiddleOfTheRow() {
+    // Row of 20 seats starting at 60, across a word boundary; its middle is 70
+    SeatOccupancy occupancy = new SeatOccupancy(100, new byte[13]);
+    assertThat(occupancy.bestBlock(60, 80, 4)).isEqualTo(68);
+
+    // 66..71 taken: the gap on the right (72..79) is nearer the middle than the one on the left (60..65)
+    occupancy.claim(new int[] { 66, 67, 68, 69, 70, 71 });
+    assertThat(occupancy.bestBlock(60, 80, 4)).isEqualTo(72);
+    assertThat(occupancy.bestBlock(60, 80, 8)).isEqualTo(72);
+    assertThat(occupancy.bestBlock(60, 70, 6)).isEqualTo(60);
+    assertThat(occupancy.bestBlock(60, 80, 9)).isEqualTo(-1);
+  }
+}
@@ -2,6 +2,8 @@ package com.senibo.notificationservice.consumer;
 
 import com.senibo.notificationservice.event.BookingCancelledEvent;
 import com.senibo.notificationservice.event.BookingConfirmedEvent;
+import com.senibo.notificationservice.event.BookingRescheduledEvent;
+import com.senibo.notificationservice.event.WaitlistOfferedEvent;
 import com.senibo.notificationservice.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +40,12 @@ public class BookingEventConsumer {
     public void handleBookingCancelledEvent(BookingCancelledEvent event) {
         log.info("Received BookingCancelledEvent for bookingId: {}", event.bookingId());
 
+        // Bulk fan-outs still publish bookings whose user could not be resolved
+        if (event.email() == null) {
+            log.warn("No email address for bookingId: {}, skipping cancellation email", event.bookingId());
+            return;
+        }
+
         try {
             emailService.sendBookingCancellationEmail(
                     event.email(),
@@ -50,4 +58,50 @@ public class BookingEventConsumer {
         }
 
     }
+
+    @KafkaHandler
+    public void handleBookingRescheduledEvent(BookingRescheduledEvent event) {
+        log.info("Received BookingRescheduledEvent for bookingId: {}", event.bookingId());
+
+        // Bulk fan-outs still publish bookings whose user could not be resolved
+        if (event.email() == null) {
+            log.warn("No email address for bookingId: {}, skipping rescheduled email", event.bookingId());
+            return;
+        }
+
+        try {
+            emailService.sendBookingRescheduledEmail(
+                    event.email(),
+                    "Valued Customer",
+                    event);
+            log.info("✅ Booking rescheduled email sent successfully to: {}", event.email());
+        } catch (Exception e) {
+            log.error("❌ FAILED to send booking rescheduled email to: {}", event.email(), e);
+            throw e; // Re-throw so Kafka knows it failed
+        }
+
+    }
+
+    @KafkaHandler
+    public void handleWaitlistOfferedEvent(WaitlistOfferedEvent event) {
+        log.info("Received WaitlistOfferedEvent for waitlistEntryId: {}", event.waitlistEntryId());
+
+        // Offers are still made when the user lookup fails
+        if (event.email() == null) {
+            log.warn("No email address for waitlistEntryId: {}, skipping offer email", event.waitlistEntryId());
+            return;
+        }
+
+        try {
+            emailService.sendWaitlistOfferEmail(
+                    event.email(),
+                    "Valued Customer",
+                    event);
+            log.info("✅ Waitlist offer email sent successfully to: {}", event.email());
+        } catch (Exception e) {
+            log.error("❌ FAILED to send waitlist offer email to: {}", event.email(), e);
+            throw e; // Re-throw so Kafka knows it failed
+        }
+
+    }
 }
\ No newline at end of file
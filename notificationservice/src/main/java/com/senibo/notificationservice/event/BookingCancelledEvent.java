@@ -12,7 +12,9 @@ public record BookingCancelledEvent(
   Integer numberOfTickets,
   BigDecimal totalPrice,
   String bookingReference,
-  LocalDateTime eventDate
+  LocalDateTime eventDate,
+  // Set when the booking was cancelled for the user (e.g. the event was cancelled)
+  String reason
 ) {
 
 }
@@ -0,0 +1,18 @@
+package com.senibo.notificationservice.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookingRescheduledEvent(
+  UUID bookingId,
+  UUID userId,
+  String email,
+  String eventTitle,
+  String venue,
+  Integer numberOfTickets,
+  String bookingReference,
+  LocalDateTime previousEventDate,
+  LocalDateTime eventDate
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.senibo.notificationservice.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record WaitlistOfferedEvent(
+  UUID waitlistEntryId,
+  UUID userId,
+  String email,
+  String eventTitle,
+  Integer numberOfTickets,
+  LocalDateTime offerExpiresAt
+) {
+
+}
@@ -2,10 +2,14 @@ package com.senibo.notificationservice.service;
 
 import com.senibo.notificationservice.event.BookingCancelledEvent;
 import com.senibo.notificationservice.event.BookingConfirmedEvent;
+import com.senibo.notificationservice.event.BookingRescheduledEvent;
+import com.senibo.notificationservice.event.WaitlistOfferedEvent;
 
 public interface EmailService {
     void sendVerificationEmail(String to, String username, String verificationToken);
     void sendWelcomeEmail(String to, String username);
     void sendBookingConfirmationEmail(String to, String username, BookingConfirmedEvent event);
     void sendBookingCancellationEmail(String to, String username, BookingCancelledEvent event);
+    void sendBookingRescheduledEmail(String to, String username, BookingRescheduledEvent event);
+    void sendWaitlistOfferEmail(String to, String username, WaitlistOfferedEvent event);
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Service;
 
 import com.senibo.notificationservice.event.BookingCancelledEvent;
 import com.senibo.notificationservice.event.BookingConfirmedEvent;
+import com.senibo.notificationservice.event.BookingRescheduledEvent;
+import com.senibo.notificationservice.event.WaitlistOfferedEvent;
 import com.senibo.notificationservice.service.EmailService;
 
 import jakarta.mail.MessagingException;
@@ -99,15 +101,71 @@ public class EmailServiceImpl implements EmailService {
              <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #eee; border-radius: 10px;">
                 <h2 style="color: #c0392b;">Booking Cancelled</h2>
                 <p>Hi %s,</p>
-                <p>We have processed your cancellation for <strong>%s</strong>.</p>
+                <p>%s</p>
                 <p>We hope to see you at another event soon.</p>
             </div>
             """,
-        username, event.eventTitle());
+        username, cancellationDetail(event));
 
     sendHtmlEmail(to, subject, html);
   }
 
+  @Override
+  @Async
+  public void sendBookingRescheduledEmail(String to, String username, BookingRescheduledEvent event) {
+    String subject = "Event Rescheduled: " + event.eventTitle();
+    String html = String.format(
+        """
+            <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #eee; border-radius: 10px;">
+                <h2 style="color: #e67e22;">Event Rescheduled</h2>
+                <p>Hi %s,</p>
+                <p>The organizer has moved <strong>%s</strong>. Your booking stays valid for the new date:</p>
+                <div style="background-color: #f9f9f9; padding: 15px; border-radius: 5px; margin: 10px 0;">
+                    <p><strong>New Date:</strong> %s</p>
+                    <p><strong>Previous Date:</strong> %s</p>
+                    <p><strong>Venue:</strong> %s</p>
+                    <p><strong>Ref:</strong> %s</p>
+                    <p><strong>Tickets:</strong> %d</p>
+                </div>
+            </div>
+            """,
+        username, event.eventTitle(), event.eventDate(), event.previousEventDate(), event.venue(),
+        event.bookingReference(), event.numberOfTickets());
+
+    sendHtmlEmail(to, subject, html);
+  }
+
+  @Override
+  @Async
+  public void sendWaitlistOfferEmail(String to, String username, WaitlistOfferedEvent event) {
+    String subject = "Tickets Available: " + event.eventTitle();
+    String html = String.format(
+        """
+            <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #eee; border-radius: 10px;">
+                <h2 style="color: #27ae60;">Your Waitlist Tickets Are Here</h2>
+                <p>Hi %s,</p>
+                <p>Tickets for <strong>%s</strong> have been returned and we are holding them for you:</p>
+                <div style="background-color: #f9f9f9; padding: 15px; border-radius: 5px; margin: 10px 0;">
+                    <p><strong>Tickets:</strong> %d</p>
+                    <p><strong>Accept Before:</strong> %s</p>
+                </div>
+                <p>If you don't accept in time, the tickets go to the next person on the waitlist.</p>
+            </div>
+            """,
+        username, event.eventTitle(), event.numberOfTickets(), event.offerExpiresAt());
+
+    sendHtmlEmail(to, subject, html);
+  }
+
+  // Organizer cancellations carry a reason; user cancellations don't
+  private static String cancellationDetail(BookingCancelledEvent event) {
+    if (event.reason() != null) {
+      return String.format("Your booking for <strong>%s</strong> has been cancelled. %s.",
+          event.eventTitle(), event.reason());
+    }
+    return String.format("We have processed your cancellation for <strong>%s</strong>.", event.eventTitle());
+  }
+
   private void sendHtmlEmail(String to, String subject, String htmlBody) {
     // Implementation for sending HTML email
     try {
@@ -1,14 +1,17 @@
 package com.senibo.userservice.controller;
 
 import com.senibo.userservice.dto.*;
+import com.senibo.userservice.exception.UnauthorizedException;
 import com.senibo.userservice.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +27,9 @@ public class AuthController {
 
     private final AuthService authService;
 
+    @Value("${app.internal-service-key}")
+    private String internalServiceKey;
+
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED) // For Swagger documentation
     public ResponseEntity<ApiSuccessResponse<String>> register(
@@ -62,4 +68,20 @@ public class AuthController {
 
         return ResponseEntity.ok(ApiSuccessResponse.of(response, "User retrieved successfully"));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get users by IDs", description = "Batch user lookup for internal services (x-internal-secret required)")
+    public ResponseEntity<ApiSuccessResponse<List<UserResponse>>> getUsersByIds(
+            @Valid @RequestBody UserBatchRequest request,
+            @RequestHeader(value = "x-internal-secret", required = true) String secret) {
+
+        // Returns emails in bulk, so only other services may call it
+        if (!internalServiceKey.equals(secret)) {
+            throw new UnauthorizedException("Access Denied: Only Internal Services can perform this action.");
+        }
+
+        List<UserResponse> response = authService.getUsersByIds(request.userIds());
+
+        return ResponseEntity.ok(ApiSuccessResponse.of(response, "Users retrieved successfully"));
+    }
+}
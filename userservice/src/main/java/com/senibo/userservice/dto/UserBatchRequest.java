@@ -0,0 +1,16 @@
+package com.senibo.userservice.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Batch user lookup (internal services only)")
+public record UserBatchRequest(
+    @Schema(description = "IDs of the users to look up", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = 500, message = "At most 500 user IDs per request")
+    List<UUID> userIds
+) {}
@@ -19,8 +19,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -38,7 +36,7 @@ import lombok.NoArgsConstructor;
 public class User implements UserDetails {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @UuidV7
   private UUID id;
 
   @Column(nullable = false, unique = true, length = 50)
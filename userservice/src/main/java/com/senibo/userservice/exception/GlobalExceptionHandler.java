@@ -94,6 +94,21 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
   }
 
+  /**
+   * Handles calls to internal endpoints without the shared service key.
+   * Returns 401 UNAUTHORIZED status.
+   */
+  @ExceptionHandler(UnauthorizedException.class)
+  @ResponseStatus(HttpStatus.UNAUTHORIZED)
+  public ResponseEntity<ApiErrorResponse> handleUnauthorizedException(
+      UnauthorizedException ex,
+      WebRequest request) {
+    log.warn("Unauthorized: {}", ex.getMessage());
+
+    ApiErrorResponse error = ApiErrorResponse.of("Unauthorized");
+    return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+  }
+
   /**
   * Handles unverified account exceptions.
   * Returns 403 FORBIDDEN status.
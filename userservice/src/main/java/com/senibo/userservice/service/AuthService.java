@@ -1,5 +1,6 @@
 package com.senibo.userservice.service;
 
+import java.util.List;
 import java.util.UUID;
 
 import com.senibo.userservice.dto.AuthResponse;
@@ -23,5 +24,14 @@ public interface AuthService {
    * @throws NotFoundException if user is not found
    */
   UserResponse getUserById(UUID userId);
+
+  /**
+   * Retrieves several users in one query.
+   * Unknown IDs are skipped, so the result may be shorter than the input.
+   * 
+   * @param userIds IDs of the users to look up
+   * @return UserResponse for every user found, in no particular order
+   */
+  List<UserResponse> getUsersByIds(List<UUID> userIds);
   
 }
@@ -1,6 +1,7 @@
 package com.senibo.userservice.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.security.authentication.BadCredentialsException;
@@ -173,4 +174,11 @@ public class AuthServiceImpl implements AuthService {
     return UserResponse.from(user);
   }
 
-}
\ No newline at end of file
+  @Override
+  public List<UserResponse> getUsersByIds(List<UUID> userIds) {
+    return userRepository.findAllById(userIds).stream()
+        .map(UserResponse::from)
+        .toList();
+  }
+
+}
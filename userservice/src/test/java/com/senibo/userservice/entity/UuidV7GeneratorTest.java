@@ -0,0 +1,67 @@
+package com.senibo.userservice.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+  @Test
+  void carriesVersionVariantAndCurrentTime() {
+    long before = System.currentTimeMillis();
+    UUID id = UuidV7Generator.next();
+    long after = System.currentTimeMillis();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    // Ids drawn in a burst just before may have carried the counter a few milliseconds ahead
+    long millis = id.getMostSignificantBits() >>> 16;
+    assertThat(millis >= before && millis < after + 1_000).isTrue();
+  }
+
+  @Test
+  void idsAreStrictlyIncreasingWithinAMillisecond() {
+    // Far more ids than fit one millisecond's counter, so it also carries into the timestamp
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      ids.add(UuidV7Generator.next());
+    }
+
+    for (int i = 1; i < ids.size(); i++) {
+      UUID previous = ids.get(i - 1);
+      UUID current = ids.get(i);
+      assertThat(current.compareTo(previous) > 0).isTrue();
+      // Postgres orders uuid by its bytes, which is the order of the hex text
+      assertThat(current.toString().compareTo(previous.toString()) > 0).isTrue();
+    }
+  }
+
+  @Test
+  void concurrentCallersNeverGetTheSameId() throws InterruptedException {
+    Set<UUID> ids = ConcurrentHashMap.newKeySet();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      Thread thread = new Thread(() -> {
+        Set<UUID> own = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+          own.add(UuidV7Generator.next());
+        }
+        ids.addAll(own);
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(ids).hasSize(40_000);
+  }
+}